@@ -0,0 +1,83 @@
+package com.project.jagoga.user.infrastructure;
+
+import com.project.jagoga.user.domain.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+    JwtTokenCodec과 기존 jjwt 구현의 토큰 생성/검증 비용을 비교한다.
+    ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenCodecBenchmark {
+
+    private static final String SECRET_KEY = "benchmarksecretkey";
+
+    private JwtTokenCodec jwtTokenCodec;
+    private TokenClaims tokenClaims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenCodec = new JwtTokenCodec(SECRET_KEY);
+        long now = System.currentTimeMillis();
+        tokenClaims = new TokenClaims(1L, "benchmark@test", Role.OWNER, now, now / 1000 + 3600);
+        token = jwtTokenCodec.encode(tokenClaims);
+    }
+
+    @Benchmark
+    public String codecEncode() {
+        return jwtTokenCodec.encode(tokenClaims);
+    }
+
+    @Benchmark
+    public TokenClaims codecDecode() {
+        return jwtTokenCodec.decode(token);
+    }
+
+    @Benchmark
+    public String jjwtEncode() {
+        Map<String, Object> payloads = new HashMap<>();
+        payloads.put("id", tokenClaims.getId());
+        payloads.put("email", tokenClaims.getEmail());
+        payloads.put("role", tokenClaims.getRole());
+        Date expireTime = new Date(tokenClaims.getExpirationMillis());
+        payloads.put("exp", expireTime);
+
+        return Jwts.builder()
+            .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+            .setClaims(payloads)
+            .setExpiration(expireTime)
+            .signWith(SignatureAlgorithm.HS256, SECRET_KEY.getBytes())
+            .compact();
+    }
+
+    @Benchmark
+    public Claims jjwtDecode() {
+        return Jwts.parser()
+            .setSigningKey(SECRET_KEY.getBytes())
+            .parseClaimsJws(token)
+            .getBody();
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.jagoga.accommodation.application;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationDailyPrice;
+import com.project.jagoga.accommodation.domain.AccommodationRepository;
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import com.project.jagoga.accommodation.infrastructure.JdbcAccommodationDailyPriceRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+    accommodation_daily_price에서 그 날짜의 실제 최저 판매가 순으로 숙소를 조회한다.
+    반환하는 AccommodationSummary의 lowPrice는 숙소에 입력된 가격이 아니라 그 날짜의 최저 판매가이다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AccommodationDailyPriceService {
+
+    private final JdbcAccommodationDailyPriceRepository jdbcAccommodationDailyPriceRepository;
+    private final AccommodationRepository accommodationRepository;
+
+    /*
+        다음 페이지 존재 여부를 확인하기 위해 size + 1개를 조회한다.
+     */
+    public Slice<AccommodationSummary> getCheapestAccommodations(LocalDate date, Long cityId, Integer lastLowPrice,
+                                                                 Long lastAccommodationId, int size) {
+        int pageSize = Math.max(1, Math.min(size, AccommodationService.MAX_PAGE_SIZE));
+        List<AccommodationDailyPrice> prices = jdbcAccommodationDailyPriceRepository.findCheapest(
+            date, cityId, lastLowPrice, lastAccommodationId, pageSize + 1);
+        boolean hasNext = prices.size() > pageSize;
+        if (hasNext) {
+            prices = prices.subList(0, pageSize);
+        }
+
+        List<Long> accommodationIds = prices.stream()
+            .map(AccommodationDailyPrice::getAccommodationId)
+            .collect(Collectors.toList());
+        Map<Long, Accommodation> accommodations = accommodationRepository.findAllByIds(accommodationIds).stream()
+            .collect(Collectors.toMap(Accommodation::getId, Function.identity()));
+
+        List<AccommodationSummary> summaries = new ArrayList<>(prices.size());
+        for (AccommodationDailyPrice price : prices) {
+            Accommodation accommodation = accommodations.get(price.getAccommodationId());
+            if (accommodation != null) {
+                summaries.add(AccommodationSummary.of(accommodation.getId(), accommodation.getAccommodationName(),
+                    accommodation.getCityId(), accommodation.getAccommodationType(), price.getLowPrice()));
+            }
+        }
+        return new SliceImpl<>(summaries, PageRequest.of(0, pageSize), hasNext && !summaries.isEmpty());
+    }
+}
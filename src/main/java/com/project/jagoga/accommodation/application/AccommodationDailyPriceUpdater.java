@@ -0,0 +1,90 @@
+package com.project.jagoga.accommodation.application;
+
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent;
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent.ChangeType;
+import com.project.jagoga.accommodation.infrastructure.JdbcAccommodationDailyPriceRepository;
+import com.project.jagoga.roominventory.domain.InventoryChangedEvent;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import com.project.jagoga.roomtype.domain.RoomTypeChangedEvent;
+import java.time.LocalDate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+    재고, 룸타입 변경은 커밋된 뒤 별도 트랜잭션에서 바뀐 날짜 구간만 accommodation_daily_price에 다시 계산한다.
+    예약 트랜잭션이 rollup 재계산을 기다리거나 숙소 단위로 줄 서지 않게 하기 위해서다.
+    커밋 직후 재계산 전에 인스턴스가 죽으면 해당 구간은 다음 변경 때까지 이전 최저가로 남는다.
+    숙소 삭제와 도시 변경은 같은 트랜잭션 안에서 반영한다.
+ */
+@Slf4j
+@Component
+public class AccommodationDailyPriceUpdater {
+
+    private final JdbcAccommodationDailyPriceRepository jdbcAccommodationDailyPriceRepository;
+    private final AccommodationService accommodationService;
+    private final RoomTypeService roomTypeService;
+    private final TransactionTemplate transactionTemplate;
+
+    public AccommodationDailyPriceUpdater(
+        JdbcAccommodationDailyPriceRepository jdbcAccommodationDailyPriceRepository,
+        AccommodationService accommodationService,
+        RoomTypeService roomTypeService,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.jdbcAccommodationDailyPriceRepository = jdbcAccommodationDailyPriceRepository;
+        this.accommodationService = accommodationService;
+        this.roomTypeService = roomTypeService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        refresh(() -> {
+            long accommodationId = roomTypeService.getRoomTypeMetadata(event.getRoomTypeId()).getAccommodationId();
+            jdbcAccommodationDailyPriceRepository.refresh(accommodationId, event.getStartDate(), event.getEndDate());
+        });
+    }
+
+    /*
+        룸타입의 가격이 영향을 주는 날짜는 그 룸타입의 재고가 있는 날짜뿐이다. 막 등록된 룸타입은 재고가 없어 다시 계산하지 않는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomTypeChanged(RoomTypeChangedEvent event) {
+        refresh(() -> {
+            LocalDate today = LocalDate.now();
+            jdbcAccommodationDailyPriceRepository.findLastInventoryDate(event.getRoomTypeId(), today)
+                .ifPresent(lastDate ->
+                    jdbcAccommodationDailyPriceRepository.refresh(event.getAccommodationId(), today, lastDate));
+        });
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            jdbcAccommodationDailyPriceRepository.deleteByAccommodationId(event.getAccommodationId());
+        } else if (event.getChangeType() == ChangeType.UPDATED) {
+            long cityId = accommodationService.getAccommodationById(event.getAccommodationId()).getCityId();
+            jdbcAccommodationDailyPriceRepository.updateCity(event.getAccommodationId(), cityId);
+        }
+    }
+
+    /*
+        원래 트랜잭션은 이미 커밋되었으므로 재계산이 실패해도 호출자에게 예외를 전달하지 않는다.
+     */
+    private void refresh(Runnable refresh) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> refresh.run());
+        } catch (RuntimeException e) {
+            log.warn("accommodation daily price refresh failed", e);
+        }
+    }
+}
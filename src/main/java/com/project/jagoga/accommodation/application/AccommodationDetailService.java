@@ -0,0 +1,107 @@
+package com.project.jagoga.accommodation.application;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationDetail;
+import com.project.jagoga.exception.accommodation.AccommodationDetailUnavailableException;
+import com.project.jagoga.exception.accommodation.InvalidStayPeriodException;
+import com.project.jagoga.roominventory.application.RoomInventoryService;
+import com.project.jagoga.roominventory.domain.RoomTypeAvailabilities;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.utils.BoundedExecutor;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/*
+    숙소, 룸타입 목록, 룸타입별 재고를 accommodationDetailExecutor에서 동시에 조회해 하나로 합친다.
+    모든 부분은 요청 시점부터 같은 제한 시간(timeoutMillis)을 가진다.
+    숙소는 필수라서 없으면 404, 제한 시간을 넘기거나 실행기가 거절하면 503으로 실패하고,
+    나머지 부분은 실패하거나 늦으면 빼고 응답한다.
+    제한 시간이 지나도록 대기열에 있던 조회는 실행하지 않고, 이미 시작된 조회는 끝까지 실행된다.
+ */
+@Service
+public class AccommodationDetailService {
+
+    private final AccommodationService accommodationService;
+    private final RoomTypeService roomTypeService;
+    private final RoomInventoryService roomInventoryService;
+    private final BoundedExecutor accommodationDetailExecutor;
+    private final long timeoutMillis;
+
+    public AccommodationDetailService(
+        AccommodationService accommodationService,
+        RoomTypeService roomTypeService,
+        RoomInventoryService roomInventoryService,
+        @Qualifier("accommodationDetailExecutor") BoundedExecutor accommodationDetailExecutor,
+        @Value("${accommodation.detail.timeout-millis:300}") long timeoutMillis
+    ) {
+        this.accommodationService = accommodationService;
+        this.roomTypeService = roomTypeService;
+        this.roomInventoryService = roomInventoryService;
+        this.accommodationDetailExecutor = accommodationDetailExecutor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /*
+        checkInDate, checkOutDate가 없으면 재고는 조회하지 않는다.
+     */
+    public CompletableFuture<AccommodationDetail> getDetail(long accommodationId, LocalDate checkInDate,
+                                                            LocalDate checkOutDate) {
+        verifyStayPeriod(checkInDate, checkOutDate);
+        Set<String> missingParts = ConcurrentHashMap.newKeySet();
+
+        CompletableFuture<Accommodation> accommodation = accommodationDetailExecutor
+            .submit(() -> accommodationService.getAccommodationById(accommodationId), timeoutMillis)
+            .handle(AccommodationDetailService::requireAccommodation);
+        CompletableFuture<List<RoomType>> roomTypes = optionalPart(AccommodationDetail.ROOM_TYPES, missingParts,
+            () -> roomTypeService.getRoomTypesByAccommodationId(accommodationId));
+        CompletableFuture<RoomTypeAvailabilities> availabilities = checkInDate == null
+            ? CompletableFuture.completedFuture(null)
+            : optionalPart(AccommodationDetail.AVAILABILITIES, missingParts,
+                () -> roomInventoryService.getAvailabilities(accommodationId, checkInDate, checkOutDate));
+
+        return CompletableFuture.allOf(accommodation, roomTypes, availabilities)
+            .thenApply(ignored -> new AccommodationDetail(accommodation.join(), roomTypes.join(),
+                availabilities.join(), new ArrayList<>(missingParts)));
+    }
+
+    private <T> CompletableFuture<T> optionalPart(String name, Set<String> missingParts, Supplier<T> loader) {
+        return accommodationDetailExecutor.submit(loader, timeoutMillis)
+            .exceptionally(throwable -> {
+                missingParts.add(name);
+                return null;
+            });
+    }
+
+    private static Accommodation requireAccommodation(Accommodation accommodation, Throwable throwable) {
+        if (throwable == null) {
+            return accommodation;
+        }
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause() : throwable;
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        throw new AccommodationDetailUnavailableException();
+    }
+
+    private void verifyStayPeriod(LocalDate checkInDate, LocalDate checkOutDate) {
+        if (checkInDate == null && checkOutDate == null) {
+            return;
+        }
+        if (checkInDate == null || checkOutDate == null || !checkInDate.isBefore(checkOutDate)
+            || ChronoUnit.DAYS.between(checkInDate, checkOutDate) > RoomInventoryService.MAX_AVAILABILITY_NIGHTS) {
+            throw new InvalidStayPeriodException();
+        }
+    }
+}
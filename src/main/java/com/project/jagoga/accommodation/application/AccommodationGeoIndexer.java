@@ -0,0 +1,63 @@
+package com.project.jagoga.accommodation.application;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent;
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent.ChangeType;
+import com.project.jagoga.accommodation.domain.AccommodationRepository;
+import com.project.jagoga.accommodation.domain.geo.GeoPoint;
+import com.project.jagoga.accommodation.infrastructure.GeoGridIndex;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+    위치가 등록된 숙소를 기동 시점에 GeoGridIndex에 채우고, 이후에는 커밋된 변경만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationGeoIndexer {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final GeoGridIndex geoGridIndex;
+    private final AccommodationRepository accommodationRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long lastAccommodationId = 0L;
+        List<Accommodation> page;
+        do {
+            page = accommodationRepository.findAllAfter(lastAccommodationId, REBUILD_PAGE_SIZE);
+            for (Accommodation accommodation : page) {
+                index(accommodation);
+                lastAccommodationId = accommodation.getId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        log.info("geo index loaded: accommodations={}", geoGridIndex.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            geoGridIndex.remove(event.getAccommodationId());
+            return;
+        }
+        accommodationRepository.findById(event.getAccommodationId())
+            .ifPresentOrElse(this::index, () -> geoGridIndex.remove(event.getAccommodationId()));
+    }
+
+    private void index(Accommodation accommodation) {
+        if (!accommodation.hasLocation()) {
+            geoGridIndex.remove(accommodation.getId());
+            return;
+        }
+        geoGridIndex.put(accommodation.getId(),
+            GeoPoint.of(accommodation.getLatitude(), accommodation.getLongitude()));
+    }
+}
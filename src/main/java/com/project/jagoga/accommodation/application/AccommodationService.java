@@ -1,16 +1,28 @@
 package com.project.jagoga.accommodation.application;
 
 import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent;
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent.ChangeType;
+import com.project.jagoga.accommodation.domain.AccommodationFilter;
 import com.project.jagoga.accommodation.domain.AccommodationRepository;
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import com.project.jagoga.accommodation.domain.geo.GeoPoint;
 import com.project.jagoga.accommodation.presentation.dto.AccommodationRequestDto;
 import com.project.jagoga.accommodation.presentation.dto.AccommodationUpdateRequestDto;
 import com.project.jagoga.exception.accommodation.DuplicatedAccommodationException;
 import com.project.jagoga.exception.accommodation.NotExistAccommodationException;
 import com.project.jagoga.user.domain.AuthUser;
+import com.project.jagoga.utils.UniqueConstraints;
 import com.project.jagoga.utils.VerificationUtils;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -18,13 +30,19 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AccommodationService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final AccommodationRepository accommodationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Accommodation saveAccommodation(AccommodationRequestDto accommodationRequestDto, AuthUser loginUser) {
         VerificationUtils.verifyOwnerPermission(loginUser, loginUser.getId());
+        GeoPoint.ofNullable(accommodationRequestDto.getLatitude(), accommodationRequestDto.getLongitude());
         Accommodation accommodation = accommodationRequestDto.toEntity(loginUser.getId());
-        validateDuplicatedAccommodation(accommodation);
-        return accommodationRepository.save(accommodation);
+        Accommodation savedAccommodation = UniqueConstraints.insertOrThrow(
+            () -> accommodationRepository.save(accommodation), DuplicatedAccommodationException::new);
+        eventPublisher.publishEvent(new AccommodationChangedEvent(savedAccommodation.getId(), ChangeType.CREATED));
+        return savedAccommodation;
     }
 
     public Accommodation updateAccommodation(
@@ -32,10 +50,10 @@ public class AccommodationService {
         AccommodationUpdateRequestDto accommodationUpdateRequestDto,
         AuthUser loginUser
     ) {
-        Accommodation accommodation = accommodationRepository.findById(accommodationId)
-            .orElseThrow(NotExistAccommodationException::new);
+        Accommodation accommodation = getAccommodationById(accommodationId);
         long ownerId = accommodation.getOwnerId();
         VerificationUtils.verifyOwnerPermission(loginUser, ownerId);
+        GeoPoint.ofNullable(accommodationUpdateRequestDto.getLatitude(), accommodationUpdateRequestDto.getLongitude());
 
         accommodation.update(
                 accommodationUpdateRequestDto.getPhoneNumber(),
@@ -44,18 +62,18 @@ public class AccommodationService {
                 accommodationUpdateRequestDto.getDescription(),
                 accommodationUpdateRequestDto.getInformation(),
                 accommodationUpdateRequestDto.getLowPrice());
+        accommodation.changeLocation(accommodationUpdateRequestDto.getLatitude(),
+            accommodationUpdateRequestDto.getLongitude());
+        accommodationRepository.update(accommodation);
+        eventPublisher.publishEvent(new AccommodationChangedEvent(accommodationId, ChangeType.UPDATED));
         return accommodation;
     }
 
     public Long deleteAccommodation(long accommodationId, AuthUser loginUser) {
-        long ownerId = accommodationRepository.findById(accommodationId).get().getOwnerId();
-        VerificationUtils.verifyOwnerPermission(loginUser, ownerId);
-        accommodationRepository.findById(accommodationId)
-            .ifPresentOrElse(
-                a -> accommodationRepository.delete(accommodationId),
-                () -> {
-                    throw new NotExistAccommodationException();
-                });
+        Accommodation accommodation = getAccommodationById(accommodationId);
+        VerificationUtils.verifyOwnerPermission(loginUser, accommodation.getOwnerId());
+        accommodationRepository.delete(accommodationId);
+        eventPublisher.publishEvent(new AccommodationChangedEvent(accommodationId, ChangeType.DELETED));
         return accommodationId;
     }
 
@@ -68,14 +86,37 @@ public class AccommodationService {
         return accommodationRepository.findAll();
     }
 
+    /*
+        다음 페이지 존재 여부를 확인하기 위해 size + 1개를 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public Slice<AccommodationSummary> getAccommodationSummaries(long lastAccommodationId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<AccommodationSummary> summaries =
+            accommodationRepository.findSummariesAfter(lastAccommodationId, pageSize + 1);
+        return toSlice(summaries, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<AccommodationSummary> getFilteredAccommodations(AccommodationFilter filter, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<AccommodationSummary> summaries = accommodationRepository.findSummariesByFilter(filter, pageSize + 1);
+        return toSlice(summaries, pageSize);
+    }
+
+    // 내보내기는 전용 커넥션 풀에서 읽으므로 기본 datasource의 커넥션을 잡아두지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportAccommodationSummaries(Consumer<AccommodationSummary> consumer) {
+        accommodationRepository.forEachSummary(consumer);
+    }
+
     public void deleteAll() {
         accommodationRepository.deleteAll();
     }
 
-    private void validateDuplicatedAccommodation(Accommodation accommodation) {
-        accommodationRepository.findByAccommodationName(accommodation.getAccommodationName())
-            .ifPresent(a -> {
-                throw new DuplicatedAccommodationException();
-            });
+    private Slice<AccommodationSummary> toSlice(List<AccommodationSummary> summaries, int pageSize) {
+        boolean hasNext = summaries.size() > pageSize;
+        return new SliceImpl<>(hasNext ? summaries.subList(0, pageSize) : summaries,
+            PageRequest.of(0, pageSize), hasNext);
     }
 }
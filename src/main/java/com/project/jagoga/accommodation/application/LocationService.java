@@ -0,0 +1,25 @@
+package com.project.jagoga.accommodation.application;
+
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import com.project.jagoga.accommodation.domain.address.LocationsReloadedEvent;
+import com.project.jagoga.accommodation.infrastructure.address.LocationCache;
+import com.project.jagoga.user.domain.AuthUser;
+import com.project.jagoga.utils.VerificationUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class LocationService {
+
+    private final LocationCache locationCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LocationSnapshot reloadLocations(AuthUser loginUser) {
+        VerificationUtils.verifyAdminPermission(loginUser);
+        LocationSnapshot snapshot = locationCache.reload();
+        eventPublisher.publishEvent(new LocationsReloadedEvent(snapshot));
+        return snapshot;
+    }
+}
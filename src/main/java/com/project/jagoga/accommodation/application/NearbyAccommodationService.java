@@ -0,0 +1,104 @@
+package com.project.jagoga.accommodation.application;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationRepository;
+import com.project.jagoga.accommodation.domain.geo.GeoBoundingBox;
+import com.project.jagoga.accommodation.domain.geo.GeoHit;
+import com.project.jagoga.accommodation.domain.geo.GeoPoint;
+import com.project.jagoga.accommodation.domain.geo.NearbyAccommodation;
+import com.project.jagoga.accommodation.infrastructure.GeoGridIndex;
+import com.project.jagoga.exception.accommodation.InvalidLocationException;
+import com.project.jagoga.exception.accommodation.InvalidStayPeriodException;
+import com.project.jagoga.roominventory.application.RoomInventoryService;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+    후보 숙소와 거리는 GeoGridIndex에서 구하고, DB는 가까운 순으로 나눈 후보 묶음에 대해서만 조회한다.
+    날짜가 주어지면 묶음마다 예약 가능한 숙소를 한 번에 확인하고, size개를 채우면 남은 후보는 보지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NearbyAccommodationService {
+
+    public static final int MAX_RADIUS_METERS = 50_000;
+    public static final double MAX_BOX_DEGREES = 1.0;
+    public static final int MAX_RESULT_SIZE = 100;
+    public static final int MAX_STAY_NIGHTS = 30;
+    private static final int AVAILABILITY_CHUNK_SIZE = 200;
+
+    private final GeoGridIndex geoGridIndex;
+    private final AccommodationRepository accommodationRepository;
+    private final RoomInventoryService roomInventoryService;
+
+    public List<NearbyAccommodation> findWithinRadius(GeoPoint center, int radiusMeters,
+                                                      LocalDate checkInDate, LocalDate checkOutDate, int size) {
+        if (radiusMeters <= 0 || radiusMeters > MAX_RADIUS_METERS) {
+            throw new InvalidLocationException();
+        }
+        verifyStayPeriod(checkInDate, checkOutDate);
+        return select(geoGridIndex.findWithinRadius(center, radiusMeters), checkInDate, checkOutDate, size);
+    }
+
+    public List<NearbyAccommodation> findWithinBox(GeoBoundingBox box,
+                                                   LocalDate checkInDate, LocalDate checkOutDate, int size) {
+        if (box.getMaxLatitude() - box.getMinLatitude() > MAX_BOX_DEGREES
+            || box.getMaxLongitude() - box.getMinLongitude() > MAX_BOX_DEGREES) {
+            throw new InvalidLocationException();
+        }
+        verifyStayPeriod(checkInDate, checkOutDate);
+        return select(geoGridIndex.findWithinBox(box), checkInDate, checkOutDate, size);
+    }
+
+    private List<NearbyAccommodation> select(List<GeoHit> hits, LocalDate checkInDate, LocalDate checkOutDate,
+                                             int size) {
+        int limit = Math.max(1, Math.min(size, MAX_RESULT_SIZE));
+        boolean filterByDate = checkInDate != null;
+        List<NearbyAccommodation> result = new ArrayList<>(limit);
+        int from = 0;
+        while (from < hits.size() && result.size() < limit) {
+            int chunkSize = filterByDate ? AVAILABILITY_CHUNK_SIZE : limit - result.size();
+            List<GeoHit> chunk = hits.subList(from, Math.min(from + chunkSize, hits.size()));
+            from += chunk.size();
+
+            List<Long> accommodationIds = chunk.stream()
+                .map(GeoHit::getAccommodationId)
+                .collect(Collectors.toList());
+            if (filterByDate) {
+                Set<Long> availableIds =
+                    roomInventoryService.getAvailableAccommodationIds(accommodationIds, checkInDate, checkOutDate);
+                accommodationIds.removeIf(accommodationId -> !availableIds.contains(accommodationId));
+            }
+            Map<Long, Accommodation> accommodations = accommodationRepository.findAllByIds(accommodationIds).stream()
+                .collect(Collectors.toMap(Accommodation::getId, Function.identity()));
+
+            for (GeoHit hit : chunk) {
+                Accommodation accommodation = accommodations.get(hit.getAccommodationId());
+                if (accommodation != null && result.size() < limit) {
+                    result.add(new NearbyAccommodation(accommodation, hit.getDistanceMeters()));
+                }
+            }
+        }
+        return result;
+    }
+
+    private void verifyStayPeriod(LocalDate checkInDate, LocalDate checkOutDate) {
+        if (checkInDate == null && checkOutDate == null) {
+            return;
+        }
+        if (checkInDate == null || checkOutDate == null || !checkInDate.isBefore(checkOutDate)
+            || ChronoUnit.DAYS.between(checkInDate, checkOutDate) > MAX_STAY_NIGHTS) {
+            throw new InvalidStayPeriodException();
+        }
+    }
+}
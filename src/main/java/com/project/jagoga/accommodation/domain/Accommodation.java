@@ -23,6 +23,8 @@ public class Accommodation extends BaseTimeEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "accommodation_id")
     private Long id;
+
+    @Column(unique = true)
     private String accommodationName;
     private long ownerId;
     private String phoneNumber;
@@ -34,8 +36,19 @@ public class Accommodation extends BaseTimeEntity {
     private String information;
     private int lowPrice;
 
+    // 위치를 등록하지 않은 숙소는 null
+    private Double latitude;
+    private Double longitude;
+
     public Accommodation(Long id, String accommodationName, long ownerId, String phoneNumber, long cityId,
                          AccommodationType accommodationType, String description, String information, int lowPrice) {
+        this(id, accommodationName, ownerId, phoneNumber, cityId, accommodationType, description, information,
+            lowPrice, null, null);
+    }
+
+    public Accommodation(Long id, String accommodationName, long ownerId, String phoneNumber, long cityId,
+                         AccommodationType accommodationType, String description, String information, int lowPrice,
+                         Double latitude, Double longitude) {
         this.id = id;
         this.accommodationName = accommodationName;
         this.ownerId = ownerId;
@@ -45,6 +58,8 @@ public class Accommodation extends BaseTimeEntity {
         this.description = description;
         this.information = information;
         this.lowPrice = lowPrice;
+        this.latitude = latitude;
+        this.longitude = longitude;
     }
 
     public void setId(Long id) {
@@ -60,4 +75,13 @@ public class Accommodation extends BaseTimeEntity {
         this.information = information;
         this.lowPrice = lowPrice;
     }
+
+    public void changeLocation(Double latitude, Double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
 }
@@ -0,0 +1,22 @@
+package com.project.jagoga.accommodation.domain;
+
+import lombok.Getter;
+
+/*
+    숙소가 등록/변경/삭제된 뒤 발행되는 이벤트
+ */
+@Getter
+public class AccommodationChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final long accommodationId;
+    private final ChangeType changeType;
+
+    public AccommodationChangedEvent(long accommodationId, ChangeType changeType) {
+        this.accommodationId = accommodationId;
+        this.changeType = changeType;
+    }
+}
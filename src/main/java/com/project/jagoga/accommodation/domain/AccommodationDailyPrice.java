@@ -0,0 +1,18 @@
+package com.project.jagoga.accommodation.domain;
+
+import lombok.Getter;
+
+/*
+    특정 날짜에 판매 가능한 룸타입 중 가장 싼 가격 (accommodation_daily_price의 한 행)
+ */
+@Getter
+public class AccommodationDailyPrice {
+
+    private final long accommodationId;
+    private final int lowPrice;
+
+    public AccommodationDailyPrice(long accommodationId, int lowPrice) {
+        this.accommodationId = accommodationId;
+        this.lowPrice = lowPrice;
+    }
+}
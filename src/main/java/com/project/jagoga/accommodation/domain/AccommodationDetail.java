@@ -0,0 +1,31 @@
+package com.project.jagoga.accommodation.domain;
+
+import com.project.jagoga.roominventory.domain.RoomTypeAvailabilities;
+import com.project.jagoga.roomtype.domain.RoomType;
+import java.util.List;
+import lombok.Getter;
+
+/*
+    숙소 상세 화면에 필요한 부분들을 모은 결과
+    제한 시간 안에 조회하지 못한 부분은 null이며 missingParts에 이름이 담긴다.
+    availabilities는 기간이 주어지지 않았을 때도 null이다.
+ */
+@Getter
+public class AccommodationDetail {
+
+    public static final String ROOM_TYPES = "roomTypes";
+    public static final String AVAILABILITIES = "availabilities";
+
+    private final Accommodation accommodation;
+    private final List<RoomType> roomTypes;
+    private final RoomTypeAvailabilities availabilities;
+    private final List<String> missingParts;
+
+    public AccommodationDetail(Accommodation accommodation, List<RoomType> roomTypes,
+                               RoomTypeAvailabilities availabilities, List<String> missingParts) {
+        this.accommodation = accommodation;
+        this.roomTypes = roomTypes;
+        this.availabilities = availabilities;
+        this.missingParts = missingParts;
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.jagoga.accommodation.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+    숙소 필터 조건과 keyset 커서
+    모든 조건은 선택값이며, 결과는 (lowPrice, accommodationId) 오름차순으로 정렬된다.
+    lastLowPrice와 lastAccommodationId는 함께 전달되어야 커서로 사용된다.
+ */
+@Getter
+@Builder
+public class AccommodationFilter {
+
+    private final Long cityId;
+    private final AccommodationType accommodationType;
+    private final Integer minPrice;
+    private final Integer maxPrice;
+    private final Integer lastLowPrice;
+    private final Long lastAccommodationId;
+
+    public boolean hasCursor() {
+        return lastLowPrice != null && lastAccommodationId != null;
+    }
+
+    public boolean matches(Accommodation accommodation) {
+        if (cityId != null && accommodation.getCityId() != cityId) {
+            return false;
+        }
+        if (accommodationType != null && accommodation.getAccommodationType() != accommodationType) {
+            return false;
+        }
+        int lowPrice = accommodation.getLowPrice();
+        if ((minPrice != null && lowPrice < minPrice) || (maxPrice != null && lowPrice > maxPrice)) {
+            return false;
+        }
+        return !hasCursor() || lowPrice > lastLowPrice
+            || (lowPrice == lastLowPrice && accommodation.getId() > lastAccommodationId);
+    }
+}
@@ -1,7 +1,9 @@
 package com.project.jagoga.accommodation.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface AccommodationRepository {
 
@@ -15,7 +17,30 @@ public interface AccommodationRepository {
 
     Optional<Accommodation> findById(long accommodationId);
 
+    /*
+        존재하지 않는 id는 결과에서 빠지며, 반환 순서는 보장하지 않는다.
+     */
+    List<Accommodation> findAllByIds(Collection<Long> accommodationIds);
+
     Optional<Accommodation> findByAccommodationName(String accommodationName);
 
+    List<Accommodation> findAllByOwnerId(long ownerId);
+
+    List<Accommodation> findAllByCityId(long cityId);
+
+    List<Accommodation> findAllAfter(long lastAccommodationId, int size);
+
+    /*
+        accommodationId가 lastAccommodationId보다 큰 숙소를 id 순으로 size개 조회한다.
+     */
+    List<AccommodationSummary> findSummariesAfter(long lastAccommodationId, int size);
+
+    /*
+        조건에 맞는 숙소를 (lowPrice, accommodationId) 순으로 size개 조회한다.
+     */
+    List<AccommodationSummary> findSummariesByFilter(AccommodationFilter filter, int size);
+
+    void forEachSummary(Consumer<AccommodationSummary> consumer);
+
     void deleteAll();
 }
@@ -0,0 +1,23 @@
+package com.project.jagoga.accommodation.domain;
+
+/*
+    목록 조회용 숙소 projection
+    엔티티 대신 필요한 컬럼만 조회하며 영속성 컨텍스트에 저장되지 않는다.
+ */
+public interface AccommodationSummary {
+
+    Long getId();
+
+    String getAccommodationName();
+
+    long getCityId();
+
+    AccommodationType getAccommodationType();
+
+    int getLowPrice();
+
+    static AccommodationSummary of(long id, String accommodationName, long cityId,
+                                   AccommodationType accommodationType, int lowPrice) {
+        return new AccommodationSummaryValue(id, accommodationName, cityId, accommodationType, lowPrice);
+    }
+}
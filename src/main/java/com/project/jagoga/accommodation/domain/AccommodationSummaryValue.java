@@ -0,0 +1,25 @@
+package com.project.jagoga.accommodation.domain;
+
+import lombok.Getter;
+
+/*
+    Spring Data projection을 사용하지 않는 경로(JDBC 스트리밍, 메모리 저장소)에서 사용하는 AccommodationSummary 구현
+ */
+@Getter
+class AccommodationSummaryValue implements AccommodationSummary {
+
+    private final Long id;
+    private final String accommodationName;
+    private final long cityId;
+    private final AccommodationType accommodationType;
+    private final int lowPrice;
+
+    AccommodationSummaryValue(long id, String accommodationName, long cityId,
+                              AccommodationType accommodationType, int lowPrice) {
+        this.id = id;
+        this.accommodationName = accommodationName;
+        this.cityId = cityId;
+        this.accommodationType = accommodationType;
+        this.lowPrice = lowPrice;
+    }
+}
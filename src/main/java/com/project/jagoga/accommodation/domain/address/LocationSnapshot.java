@@ -0,0 +1,151 @@
+package com.project.jagoga.accommodation.domain.address;
+
+import com.project.jagoga.category.domain.Category;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+
+/*
+    State, City, Category 전체를 id로 조회할 수 있게 만든 불변 스냅샷
+    State -> City -> Category 계층을 엔티티 지연 로딩 없이 탐색할 수 있다.
+    생성 이후 변경되지 않으므로 여러 스레드에서 락 없이 읽어도 된다.
+ */
+public final class LocationSnapshot {
+
+    private static final LocationSnapshot EMPTY = new LocationSnapshot(Map.of(), Map.of(), Map.of(), Map.of());
+
+    private final Map<Long, StateView> states;
+    private final Map<Long, CityView> cities;
+    private final Map<Long, CategoryView> categories;
+    private final Map<Long, List<CityView>> citiesByCategoryId;
+
+    private LocationSnapshot(Map<Long, StateView> states, Map<Long, CityView> cities,
+                             Map<Long, CategoryView> categories, Map<Long, List<CityView>> citiesByCategoryId) {
+        this.states = states;
+        this.cities = cities;
+        this.categories = categories;
+        this.citiesByCategoryId = citiesByCategoryId;
+    }
+
+    public static LocationSnapshot empty() {
+        return EMPTY;
+    }
+
+    /*
+        City의 state는 이미 로딩되어 있어야 한다. (fetch join으로 조회한 목록을 전달)
+     */
+    public static LocationSnapshot of(List<State> stateEntities, List<City> cityEntities,
+                                      List<Category> categoryEntities) {
+        Map<Long, CategoryView> categories = new HashMap<>();
+        for (Category category : categoryEntities) {
+            categories.put(category.getId(), new CategoryView(category.getId(), category.getName()));
+        }
+
+        Map<Long, List<CityView>> citiesByStateId = new HashMap<>();
+        Map<Long, List<CityView>> citiesByCategoryId = new HashMap<>();
+        Map<Long, CityView> cities = new HashMap<>();
+        for (City city : cityEntities) {
+            State state = city.getState();
+            CityView cityView = new CityView(city.getId(), city.getName(), state.getId(), state.getName(),
+                categories.get(city.getCategoryId()));
+            cities.put(cityView.getId(), cityView);
+            citiesByStateId.computeIfAbsent(cityView.getStateId(), id -> new ArrayList<>()).add(cityView);
+            citiesByCategoryId.computeIfAbsent(city.getCategoryId(), id -> new ArrayList<>()).add(cityView);
+        }
+
+        Map<Long, StateView> states = new HashMap<>();
+        for (State state : stateEntities) {
+            List<CityView> stateCities = citiesByStateId.getOrDefault(state.getId(), Collections.emptyList());
+            states.put(state.getId(), new StateView(state.getId(), state.getName(), List.copyOf(stateCities)));
+        }
+
+        Map<Long, List<CityView>> immutableCitiesByCategoryId = new HashMap<>();
+        citiesByCategoryId.forEach((categoryId, list) -> immutableCitiesByCategoryId.put(categoryId,
+            List.copyOf(list)));
+
+        return new LocationSnapshot(Map.copyOf(states), Map.copyOf(cities), Map.copyOf(categories),
+            Map.copyOf(immutableCitiesByCategoryId));
+    }
+
+    public Optional<StateView> getState(long stateId) {
+        return Optional.ofNullable(states.get(stateId));
+    }
+
+    public Optional<CityView> getCity(long cityId) {
+        return Optional.ofNullable(cities.get(cityId));
+    }
+
+    public Optional<CategoryView> getCategory(long categoryId) {
+        return Optional.ofNullable(categories.get(categoryId));
+    }
+
+    public List<CityView> getCitiesByCategoryId(long categoryId) {
+        return citiesByCategoryId.getOrDefault(categoryId, Collections.emptyList());
+    }
+
+    public Collection<StateView> getStates() {
+        return states.values();
+    }
+
+    public int getStateCount() {
+        return states.size();
+    }
+
+    public int getCityCount() {
+        return cities.size();
+    }
+
+    public int getCategoryCount() {
+        return categories.size();
+    }
+
+    @Getter
+    public static final class StateView {
+
+        private final long id;
+        private final String name;
+        private final List<CityView> cities;
+
+        private StateView(long id, String name, List<CityView> cities) {
+            this.id = id;
+            this.name = name;
+            this.cities = cities;
+        }
+    }
+
+    @Getter
+    public static final class CityView {
+
+        private final long id;
+        private final String name;
+        private final long stateId;
+        private final String stateName;
+        // 존재하지 않는 category를 가리키는 경우 null
+        private final CategoryView category;
+
+        private CityView(long id, String name, long stateId, String stateName, CategoryView category) {
+            this.id = id;
+            this.name = name;
+            this.stateId = stateId;
+            this.stateName = stateName;
+            this.category = category;
+        }
+    }
+
+    @Getter
+    public static final class CategoryView {
+
+        private final long id;
+        private final String name;
+
+        private CategoryView(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.jagoga.accommodation.domain.address;
+
+import lombok.Getter;
+
+/*
+    관리자가 지역 정보를 다시 읽은 뒤 발행되는 이벤트
+ */
+@Getter
+public class LocationsReloadedEvent {
+
+    private final LocationSnapshot snapshot;
+
+    public LocationsReloadedEvent(LocationSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.jagoga.accommodation.domain.geo;
+
+import com.project.jagoga.exception.accommodation.InvalidLocationException;
+import lombok.Getter;
+
+/*
+    위도/경도 사각 영역 (경계 포함)
+    날짜 변경선을 가로지르는 영역은 지원하지 않는다.
+ */
+@Getter
+public final class GeoBoundingBox {
+
+    private static final double METERS_PER_DEGREE = Math.PI * GeoPoint.EARTH_RADIUS_METERS / 180d;
+
+    private final double minLatitude;
+    private final double minLongitude;
+    private final double maxLatitude;
+    private final double maxLongitude;
+
+    private GeoBoundingBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        this.minLatitude = minLatitude;
+        this.minLongitude = minLongitude;
+        this.maxLatitude = maxLatitude;
+        this.maxLongitude = maxLongitude;
+    }
+
+    public static GeoBoundingBox of(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        GeoPoint.of(minLatitude, minLongitude);
+        GeoPoint.of(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new InvalidLocationException();
+        }
+        return new GeoBoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude);
+    }
+
+    /*
+        center에서 radiusMeters 안의 모든 점을 포함하는 가장 작은 사각 영역
+        극 근처에서는 경도 범위를 전체로 넓힌다.
+     */
+    public static GeoBoundingBox around(GeoPoint center, double radiusMeters) {
+        double latitudeDelta = radiusMeters / METERS_PER_DEGREE;
+        double minLatitude = Math.max(-90d, center.getLatitude() - latitudeDelta);
+        double maxLatitude = Math.min(90d, center.getLatitude() + latitudeDelta);
+        double cosine = Math.cos(Math.toRadians(Math.max(Math.abs(minLatitude), Math.abs(maxLatitude))));
+        double longitudeDelta = cosine <= 0d ? 180d : Math.min(180d, latitudeDelta / cosine);
+        return new GeoBoundingBox(minLatitude, Math.max(-180d, center.getLongitude() - longitudeDelta),
+            maxLatitude, Math.min(180d, center.getLongitude() + longitudeDelta));
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= minLatitude && latitude <= maxLatitude
+            && longitude >= minLongitude && longitude <= maxLongitude;
+    }
+
+    public GeoPoint center() {
+        return GeoPoint.of((minLatitude + maxLatitude) / 2, (minLongitude + maxLongitude) / 2);
+    }
+}
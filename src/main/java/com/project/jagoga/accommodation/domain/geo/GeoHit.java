@@ -0,0 +1,15 @@
+package com.project.jagoga.accommodation.domain.geo;
+
+import lombok.Getter;
+
+@Getter
+public class GeoHit {
+
+    private final long accommodationId;
+    private final double distanceMeters;
+
+    public GeoHit(long accommodationId, double distanceMeters) {
+        this.accommodationId = accommodationId;
+        this.distanceMeters = distanceMeters;
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.jagoga.accommodation.domain.geo;
+
+import com.project.jagoga.exception.accommodation.InvalidLocationException;
+import java.util.Optional;
+import lombok.Getter;
+
+/*
+    위도/경도 좌표 (WGS84, degree)
+    거리는 구면 근사(haversine)로 계산하며 숙소 검색 범위(수십 km)에서는 오차가 충분히 작다.
+ */
+@Getter
+public final class GeoPoint {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_000d;
+
+    private final double latitude;
+    private final double longitude;
+
+    private GeoPoint(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static GeoPoint of(double latitude, double longitude) {
+        if (Double.isNaN(latitude) || latitude < -90d || latitude > 90d
+            || Double.isNaN(longitude) || longitude < -180d || longitude > 180d) {
+            throw new InvalidLocationException();
+        }
+        return new GeoPoint(latitude, longitude);
+    }
+
+    /*
+        위도와 경도는 둘 다 있거나 둘 다 없어야 한다.
+     */
+    public static Optional<GeoPoint> ofNullable(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return Optional.empty();
+        }
+        if (latitude == null || longitude == null) {
+            throw new InvalidLocationException();
+        }
+        return Optional.of(of(latitude, longitude));
+    }
+
+    public double distanceMeters(double otherLatitude, double otherLongitude) {
+        double latitudeDelta = Math.toRadians(otherLatitude - latitude);
+        double longitudeDelta = Math.toRadians(otherLongitude - longitude);
+        double a = Math.sin(latitudeDelta / 2) * Math.sin(latitudeDelta / 2)
+            + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(otherLatitude))
+            * Math.sin(longitudeDelta / 2) * Math.sin(longitudeDelta / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1d, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.jagoga.accommodation.domain.geo;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import lombok.Getter;
+
+@Getter
+public class NearbyAccommodation {
+
+    private final Accommodation accommodation;
+    private final double distanceMeters;
+
+    public NearbyAccommodation(Accommodation accommodation, double distanceMeters) {
+        this.accommodation = accommodation;
+        this.distanceMeters = distanceMeters;
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.jagoga.accommodation.infrastructure;
+
+import com.project.jagoga.accommodation.domain.AccommodationFilter;
+import com.project.jagoga.accommodation.domain.AccommodationType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/*
+    기동 시 지원하는 모든 필터 조합(city, type, 최소/최대 가격, 커서)에 대해 EXPLAIN을 실행해
+    accommodation 테이블을 인덱스 없이 읽는 조합이 있으면 기동을 실패시킨다.
+    MySQL은 type이 ALL이거나 실제로 사용한 key가 없으면, H2는 계획에 tableScan이 있으면 전체 스캔으로 본다.
+    테이블이 작으면 MySQL 옵티마이저가 인덱스가 있어도 전체 스캔을 고를 수 있으므로 데이터가 있는 환경에서 켠다.
+    조건이 하나도 없는 조회는 정렬만 하므로 검사하지 않는다.
+ */
+@Slf4j
+@Component
+@Profile("!memory")
+@ConditionalOnProperty(name = "accommodation.filter.plan-check.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AccommodationFilterPlanChecker {
+
+    private static final int CONDITION_COUNT = 5;
+
+    private final JdbcAccommodationFilterRepository jdbcAccommodationFilterRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        List<String> fullScans = new ArrayList<>();
+        for (int mask = 1; mask < (1 << CONDITION_COUNT); mask++) {
+            AccommodationFilter filter = combination(mask);
+            for (Map<String, Object> row : jdbcAccommodationFilterRepository.explain(filter, 20)) {
+                if (isFullScan(row)) {
+                    fullScans.add("mask=" + Integer.toBinaryString(mask) + " " + row);
+                }
+            }
+        }
+
+        if (!fullScans.isEmpty()) {
+            throw new IllegalStateException("인덱스를 사용하지 않는 숙소 필터 조합이 있습니다: " + fullScans);
+        }
+        log.info("accommodation filter plan check passed: {} combinations", (1 << CONDITION_COUNT) - 1);
+    }
+
+    static boolean isFullScan(Map<String, Object> row) {
+        Object plan = row.get("PLAN");
+        if (plan != null) {
+            return String.valueOf(plan).contains("tableScan");
+        }
+        return "ALL".equalsIgnoreCase(String.valueOf(row.get("type"))) || row.get("key") == null;
+    }
+
+    private AccommodationFilter combination(int mask) {
+        boolean hasCursor = (mask & 16) != 0;
+        return AccommodationFilter.builder()
+            .cityId((mask & 1) != 0 ? 1L : null)
+            .accommodationType((mask & 2) != 0 ? AccommodationType.HOTEL : null)
+            .minPrice((mask & 4) != 0 ? 10_000 : null)
+            .maxPrice((mask & 8) != 0 ? 100_000 : null)
+            .lastLowPrice(hasCursor ? 10_000 : null)
+            .lastAccommodationId(hasCursor ? 1L : null)
+            .build();
+    }
+}
@@ -1,18 +1,27 @@
 package com.project.jagoga.accommodation.infrastructure;
 
 import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationFilter;
 import com.project.jagoga.accommodation.domain.AccommodationRepository;
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
+@Profile("!memory")
 @RequiredArgsConstructor
 public class AccommodationRepositoryAdapter implements AccommodationRepository {
 
     private final JpaAccommodationRepository jpaAccommodationRepository;
+    private final JdbcAccommodationExportRepository jdbcAccommodationExportRepository;
+    private final JdbcAccommodationFilterRepository jdbcAccommodationFilterRepository;
 
     @Override
     public Accommodation save(Accommodation accommodation) {
@@ -26,8 +35,8 @@ public class AccommodationRepositoryAdapter implements AccommodationRepository {
 
     @Override
     public Long delete(long accommodationId) {
-        Accommodation accommodation = jpaAccommodationRepository.findById(accommodationId).get();
-        jpaAccommodationRepository.delete(accommodation);
+        // 같은 영속성 컨텍스트에서 이미 조회한 엔티티는 다시 조회하지 않는다
+        jpaAccommodationRepository.deleteById(accommodationId);
         return accommodationId;
     }
 
@@ -41,11 +50,46 @@ public class AccommodationRepositoryAdapter implements AccommodationRepository {
         return jpaAccommodationRepository.findById(accommodationId);
     }
 
+    @Override
+    public List<Accommodation> findAllByIds(Collection<Long> accommodationIds) {
+        return jpaAccommodationRepository.findAllById(accommodationIds);
+    }
+
     @Override
     public Optional<Accommodation> findByAccommodationName(String accommodationName) {
         return jpaAccommodationRepository.findByAccommodationName(accommodationName);
     }
 
+    @Override
+    public List<Accommodation> findAllByOwnerId(long ownerId) {
+        return jpaAccommodationRepository.findAllByOwnerIdOrderById(ownerId);
+    }
+
+    @Override
+    public List<Accommodation> findAllByCityId(long cityId) {
+        return jpaAccommodationRepository.findAllByCityIdOrderById(cityId);
+    }
+
+    @Override
+    public List<Accommodation> findAllAfter(long lastAccommodationId, int size) {
+        return jpaAccommodationRepository.findAllByIdGreaterThanOrderById(lastAccommodationId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<AccommodationSummary> findSummariesAfter(long lastAccommodationId, int size) {
+        return jpaAccommodationRepository.findByIdGreaterThanOrderById(lastAccommodationId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<AccommodationSummary> findSummariesByFilter(AccommodationFilter filter, int size) {
+        return jdbcAccommodationFilterRepository.findSummaries(filter, size);
+    }
+
+    @Override
+    public void forEachSummary(Consumer<AccommodationSummary> consumer) {
+        jdbcAccommodationExportRepository.forEachSummary(consumer);
+    }
+
     @Override
     public void deleteAll() {
         jpaAccommodationRepository.deleteAll();
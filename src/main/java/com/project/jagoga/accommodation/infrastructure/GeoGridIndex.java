@@ -0,0 +1,170 @@
+package com.project.jagoga.accommodation.infrastructure;
+
+import com.project.jagoga.accommodation.domain.geo.GeoBoundingBox;
+import com.project.jagoga.accommodation.domain.geo.GeoHit;
+import com.project.jagoga.accommodation.domain.geo.GeoPoint;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+    숙소 좌표를 균일한 격자(cellSizeDegrees 간격)로 나눠 보관하는 공간 인덱스
+    영역 조회는 영역과 겹치는 셀의 숙소만 거리를 계산하므로 전체 숙소 수와 무관하게 셀 안의 숙소 수에 비례한다.
+    영역이 넓어 겹치는 셀 수가 채워진 셀 수보다 많으면 채워진 셀만 순회한다.
+    조회는 읽기 락, 등록/삭제는 쓰기 락으로 보호한다.
+ */
+@Component
+public class GeoGridIndex {
+
+    private final double cellSizeDegrees;
+    private final long columns;
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public GeoGridIndex(@Value("${accommodation.geo.cell-size-degrees:0.05}") double cellSizeDegrees) {
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.columns = (long) Math.ceil(360d / cellSizeDegrees) + 1;
+    }
+
+    /*
+        이미 등록된 숙소면 좌표를 교체한다.
+     */
+    public void put(long accommodationId, GeoPoint point) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(accommodationId);
+            Entry entry = new Entry(accommodationId, point.getLatitude(), point.getLongitude(),
+                cellKey(row(point.getLatitude()), column(point.getLongitude())));
+            entries.put(accommodationId, entry);
+            cells.computeIfAbsent(entry.cellKey, key -> new ArrayList<>()).add(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long accommodationId) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(accommodationId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+        center에서 radiusMeters 안의 숙소를 가까운 순으로 반환한다.
+     */
+    public List<GeoHit> findWithinRadius(GeoPoint center, double radiusMeters) {
+        List<GeoHit> hits = new ArrayList<>();
+        forEachInBox(GeoBoundingBox.around(center, radiusMeters), entry -> {
+            double distance = center.distanceMeters(entry.latitude, entry.longitude);
+            if (distance <= radiusMeters) {
+                hits.add(new GeoHit(entry.accommodationId, distance));
+            }
+        });
+        hits.sort(Comparator.comparingDouble(GeoHit::getDistanceMeters).thenComparingLong(GeoHit::getAccommodationId));
+        return hits;
+    }
+
+    /*
+        영역 안의 숙소를 영역 중심에서 가까운 순으로 반환한다.
+     */
+    public List<GeoHit> findWithinBox(GeoBoundingBox box) {
+        GeoPoint center = box.center();
+        List<GeoHit> hits = new ArrayList<>();
+        forEachInBox(box, entry -> {
+            if (box.contains(entry.latitude, entry.longitude)) {
+                hits.add(new GeoHit(entry.accommodationId, center.distanceMeters(entry.latitude, entry.longitude)));
+            }
+        });
+        hits.sort(Comparator.comparingDouble(GeoHit::getDistanceMeters).thenComparingLong(GeoHit::getAccommodationId));
+        return hits;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void forEachInBox(GeoBoundingBox box, Consumer<Entry> consumer) {
+        long minRow = row(box.getMinLatitude());
+        long maxRow = row(box.getMaxLatitude());
+        long minColumn = column(box.getMinLongitude());
+        long maxColumn = column(box.getMaxLongitude());
+
+        lock.readLock().lock();
+        try {
+            if ((maxRow - minRow + 1) * (maxColumn - minColumn + 1) > cells.size()) {
+                cells.forEach((cellKey, cellEntries) -> {
+                    long row = cellKey / columns;
+                    long column = cellKey % columns;
+                    if (row >= minRow && row <= maxRow && column >= minColumn && column <= maxColumn) {
+                        cellEntries.forEach(consumer);
+                    }
+                });
+                return;
+            }
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long column = minColumn; column <= maxColumn; column++) {
+                    List<Entry> cellEntries = cells.get(cellKey(row, column));
+                    if (cellEntries != null) {
+                        cellEntries.forEach(consumer);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeEntry(long accommodationId) {
+        Entry previous = entries.remove(accommodationId);
+        if (previous == null) {
+            return;
+        }
+        List<Entry> cellEntries = cells.get(previous.cellKey);
+        cellEntries.remove(previous);
+        if (cellEntries.isEmpty()) {
+            cells.remove(previous.cellKey);
+        }
+    }
+
+    private long row(double latitude) {
+        return (long) Math.floor((latitude + 90d) / cellSizeDegrees);
+    }
+
+    private long column(double longitude) {
+        return (long) Math.floor((longitude + 180d) / cellSizeDegrees);
+    }
+
+    private long cellKey(long row, long column) {
+        return row * columns + column;
+    }
+
+    private static final class Entry {
+
+        private final long accommodationId;
+        private final double latitude;
+        private final double longitude;
+        private final long cellKey;
+
+        private Entry(long accommodationId, double latitude, double longitude, long cellKey) {
+            this.accommodationId = accommodationId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.cellKey = cellKey;
+        }
+    }
+}
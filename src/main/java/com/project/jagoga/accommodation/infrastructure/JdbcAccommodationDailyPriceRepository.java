@@ -0,0 +1,118 @@
+package com.project.jagoga.accommodation.infrastructure;
+
+import com.project.jagoga.accommodation.domain.AccommodationDailyPrice;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/*
+    숙소별, 날짜별 최저 판매가 rollup (accommodation_daily_price)
+    재고나 룸타입이 바뀐 숙소의 해당 날짜 구간만 커밋 후에 room_inventory, roomtype에서 다시 계산하고,
+    목록 조회는 이 테이블만 (price_date, low_price) 계열 인덱스 순서대로 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcAccommodationDailyPriceRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /*
+        startDate ~ endDate(포함) 구간의 날짜별 최저가를 다시 계산해 판매 가능한 날짜는 덮어쓰고, 판매 가능한 룸타입이 없어진 날짜는 지운다.
+        재고를 바꾼 트랜잭션이 커밋된 뒤 READ COMMITTED 트랜잭션에서 호출해 마지막으로 커밋된 재고와 가격을 읽는다.
+        같은 숙소를 동시에 재계산하면 먼저 읽은 쪽이 나중에 덮어쓸 수 있으므로 숙소 row 락으로 재계산끼리만 순서를 정한다.
+        재고를 바꾸는 트랜잭션은 이 락을 잡지 않는다. 숙소가 이미 삭제되었으면 아무것도 하지 않는다.
+     */
+    public void refresh(long accommodationId, LocalDate startDate, LocalDate endDate) {
+        List<Long> cityIds = jdbcTemplate.query(
+            "SELECT city_id FROM accommodation WHERE accommodation_id = ? FOR UPDATE",
+            (rs, count) -> rs.getObject("city_id", Long.class), accommodationId);
+        if (cityIds.isEmpty()) {
+            return;
+        }
+        Long cityId = cityIds.get(0);
+
+        Map<LocalDate, Integer> lowPrices = new TreeMap<>();
+        jdbcTemplate.query("SELECT i.inventory_date, MIN(r.price) AS low_price"
+                + " FROM roomtype r JOIN room_inventory i ON i.roomtype_id = r.roomtype_id"
+                + " WHERE r.accommodation_id = ? AND i.inventory_date >= ? AND i.inventory_date <= ?"
+                + " AND i.available_count > 0 AND r.price IS NOT NULL"
+                + " GROUP BY i.inventory_date",
+            (RowCallbackHandler) rs -> lowPrices.put(rs.getObject("inventory_date", LocalDate.class),
+                rs.getInt("low_price")),
+            accommodationId, startDate, endDate);
+
+        StringBuilder deleteSql = new StringBuilder("DELETE FROM accommodation_daily_price"
+            + " WHERE accommodation_id = ? AND price_date >= ? AND price_date <= ?");
+        List<Object> deleteParams = new ArrayList<>(List.of(accommodationId, startDate, endDate));
+        if (!lowPrices.isEmpty()) {
+            deleteSql.append(" AND price_date NOT IN (")
+                .append(String.join(", ", Collections.nCopies(lowPrices.size(), "?")))
+                .append(")");
+            deleteParams.addAll(lowPrices.keySet());
+        }
+        jdbcTemplate.update(deleteSql.toString(), deleteParams.toArray());
+        if (lowPrices.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(lowPrices.size());
+        lowPrices.forEach((date, lowPrice) -> rows.add(new Object[]{accommodationId, date, cityId, lowPrice}));
+        jdbcTemplate.batchUpdate("INSERT INTO accommodation_daily_price"
+            + " (accommodation_id, price_date, city_id, low_price) VALUES (?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE city_id = VALUES(city_id), low_price = VALUES(low_price)", rows);
+    }
+
+    /*
+        roomTypeId의 재고가 있는 마지막 날짜를 조회한다. startDate 이후 재고가 없으면 비어 있다.
+     */
+    public Optional<LocalDate> findLastInventoryDate(long roomTypeId, LocalDate startDate) {
+        LocalDate lastDate = jdbcTemplate.queryForObject(
+            "SELECT MAX(inventory_date) FROM room_inventory WHERE roomtype_id = ? AND inventory_date >= ?",
+            LocalDate.class, roomTypeId, startDate);
+        return Optional.ofNullable(lastDate);
+    }
+
+    public void updateCity(long accommodationId, long cityId) {
+        jdbcTemplate.update("UPDATE accommodation_daily_price SET city_id = ? WHERE accommodation_id = ?",
+            cityId, accommodationId);
+    }
+
+    public void deleteByAccommodationId(long accommodationId) {
+        jdbcTemplate.update("DELETE FROM accommodation_daily_price WHERE accommodation_id = ?", accommodationId);
+    }
+
+    /*
+        date에 판매 중인 숙소를 최저가, id 순으로 조회한다.
+        lastLowPrice, lastAccommodationId가 주어지면 그 다음 행부터 조회한다. (keyset)
+     */
+    public List<AccommodationDailyPrice> findCheapest(LocalDate date, Long cityId, Integer lastLowPrice,
+                                                      Long lastAccommodationId, int limit) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT accommodation_id, low_price FROM accommodation_daily_price"
+            + " WHERE price_date = ?");
+        params.add(date);
+        if (cityId != null) {
+            sql.append(" AND city_id = ?");
+            params.add(cityId);
+        }
+        if (lastLowPrice != null && lastAccommodationId != null) {
+            sql.append(" AND (low_price > ? OR (low_price = ? AND accommodation_id > ?))");
+            params.add(lastLowPrice);
+            params.add(lastLowPrice);
+            params.add(lastAccommodationId);
+        }
+        sql.append(" ORDER BY low_price, accommodation_id LIMIT ?");
+        params.add(limit);
+        return jdbcTemplate.query(sql.toString(),
+            (rs, count) -> new AccommodationDailyPrice(rs.getLong("accommodation_id"), rs.getInt("low_price")),
+            params.toArray());
+    }
+}
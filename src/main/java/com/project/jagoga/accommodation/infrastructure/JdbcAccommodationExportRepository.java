@@ -0,0 +1,74 @@
+package com.project.jagoga.accommodation.infrastructure;
+
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import com.project.jagoga.accommodation.domain.AccommodationType;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.PreparedStatement;
+import java.util.function.Consumer;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+    숙소 전체를 한 행씩 읽어 consumer에 전달한다.
+    fetch size 단위로만 결과를 가져오므로 숙소 수와 관계없이 메모리 사용량이 일정하다.
+    MySQL은 useCursorFetch=true인 연결에서만 fetch size가 적용된다. 이 설정은 모든 prepared statement를
+    서버 측 prepared statement로 바꾸므로 전역 datasource가 아닌 내보내기 전용 커넥션 풀에만 적용한다.
+ */
+@Repository
+@Profile("!memory")
+public class JdbcAccommodationExportRepository {
+
+    private static final String SELECT_SUMMARIES_SQL = "SELECT accommodation_id, accommodation_name, city_id, "
+        + "accommodation_type, low_price FROM accommodation ORDER BY accommodation_id";
+
+    private static final String EXPORT_POOL_NAME = "accommodation-export";
+
+    private final HikariDataSource exportDataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public JdbcAccommodationExportRepository(
+        DataSourceProperties dataSourceProperties,
+        @Value("${accommodation.export.fetch-size:500}") int fetchSize,
+        @Value("${accommodation.export.pool-size:1}") int poolSize
+    ) {
+        this.exportDataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        exportDataSource.setPoolName(EXPORT_POOL_NAME);
+        exportDataSource.setMaximumPoolSize(poolSize);
+        exportDataSource.setMinimumIdle(0);
+        exportDataSource.setReadOnly(true);
+        if (dataSourceProperties.determineUrl().startsWith("jdbc:mysql:")) {
+            exportDataSource.addDataSourceProperty("useCursorFetch", "true");
+        }
+        this.jdbcTemplate = new JdbcTemplate(exportDataSource);
+        this.fetchSize = fetchSize;
+    }
+
+    @PreDestroy
+    public void close() {
+        exportDataSource.close();
+    }
+
+    public void forEachSummary(Consumer<AccommodationSummary> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement preparedStatement = connection.prepareStatement(SELECT_SUMMARIES_SQL);
+            preparedStatement.setFetchSize(fetchSize);
+            return preparedStatement;
+        }, rs -> {
+            String accommodationType = rs.getString("accommodation_type");
+            consumer.accept(AccommodationSummary.of(
+                rs.getLong("accommodation_id"),
+                rs.getString("accommodation_name"),
+                rs.getLong("city_id"),
+                accommodationType == null ? null : AccommodationType.valueOf(accommodationType),
+                rs.getInt("low_price")
+            ));
+        });
+    }
+}
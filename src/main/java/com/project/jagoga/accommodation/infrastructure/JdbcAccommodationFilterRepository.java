@@ -0,0 +1,88 @@
+package com.project.jagoga.accommodation.infrastructure;
+
+import com.project.jagoga.accommodation.domain.AccommodationFilter;
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import com.project.jagoga.accommodation.domain.AccommodationType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/*
+    전달된 조건만 WHERE 절에 포함하는 동적 쿼리로 숙소를 필터링한다.
+    조건 조합마다 V9의 (city_id, accommodation_type, low_price) 계열 인덱스 중 하나를 사용할 수 있도록
+    등호 조건(city_id, accommodation_type) 뒤에 low_price 범위와 keyset 조건만 오게 구성한다.
+ */
+@Repository
+@Profile("!memory")
+@RequiredArgsConstructor
+public class JdbcAccommodationFilterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<AccommodationSummary> findSummaries(AccommodationFilter filter, int limit) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT accommodation_id, accommodation_name, city_id, accommodation_type, low_price"
+            + " FROM accommodation" + where(filter, params)
+            + " ORDER BY low_price, accommodation_id LIMIT ?";
+        params.add(limit);
+        return jdbcTemplate.query(sql, summaryRowMapper(), params.toArray());
+    }
+
+    /*
+        EXPLAIN 결과를 그대로 반환한다. (AccommodationFilterPlanChecker에서 사용)
+     */
+    public List<Map<String, Object>> explain(AccommodationFilter filter, int limit) {
+        List<Object> params = new ArrayList<>();
+        String sql = "EXPLAIN SELECT accommodation_id, accommodation_name, city_id, accommodation_type, low_price"
+            + " FROM accommodation" + where(filter, params)
+            + " ORDER BY low_price, accommodation_id LIMIT ?";
+        params.add(limit);
+        return jdbcTemplate.queryForList(sql, params.toArray());
+    }
+
+    private String where(AccommodationFilter filter, List<Object> params) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.getCityId() != null) {
+            conditions.add("city_id = ?");
+            params.add(filter.getCityId());
+        }
+        if (filter.getAccommodationType() != null) {
+            conditions.add("accommodation_type = ?");
+            params.add(filter.getAccommodationType().name());
+        }
+        if (filter.getMinPrice() != null) {
+            conditions.add("low_price >= ?");
+            params.add(filter.getMinPrice());
+        }
+        if (filter.getMaxPrice() != null) {
+            conditions.add("low_price <= ?");
+            params.add(filter.getMaxPrice());
+        }
+        if (filter.hasCursor()) {
+            // 앞의 low_price >= ? 조건이 있어야 OR 조건만으로는 잡히지 않는 인덱스 범위 스캔을 사용한다
+            conditions.add("low_price >= ? AND (low_price > ? OR accommodation_id > ?)");
+            params.add(filter.getLastLowPrice());
+            params.add(filter.getLastLowPrice());
+            params.add(filter.getLastAccommodationId());
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private RowMapper<AccommodationSummary> summaryRowMapper() {
+        return (rs, count) -> {
+            String accommodationType = rs.getString("accommodation_type");
+            return AccommodationSummary.of(
+                rs.getLong("accommodation_id"),
+                rs.getString("accommodation_name"),
+                rs.getLong("city_id"),
+                accommodationType == null ? null : AccommodationType.valueOf(accommodationType),
+                rs.getInt("low_price")
+            );
+        };
+    }
+}
@@ -1,11 +1,22 @@
 package com.project.jagoga.accommodation.infrastructure;
 
 import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaAccommodationRepository extends JpaRepository<Accommodation, Long> {
 
     Optional<Accommodation> findByAccommodationName(String accommodationName);
+
+    List<Accommodation> findAllByOwnerIdOrderById(long ownerId);
+
+    List<Accommodation> findAllByCityIdOrderById(long cityId);
+
+    List<Accommodation> findAllByIdGreaterThanOrderById(long id, Pageable pageable);
+
+    List<AccommodationSummary> findByIdGreaterThanOrderById(long id, Pageable pageable);
 }
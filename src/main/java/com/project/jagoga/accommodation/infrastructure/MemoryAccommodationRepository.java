@@ -1,58 +1,419 @@
 package com.project.jagoga.accommodation.infrastructure;
 
 import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationFilter;
 import com.project.jagoga.accommodation.domain.AccommodationRepository;
-import org.apache.commons.lang3.StringUtils;
-
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import com.project.jagoga.accommodation.domain.AccommodationType;
+import com.project.jagoga.exception.accommodation.NotExistAccommodationException;
+import com.project.jagoga.utils.SnapshotFiles;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
 
+/*
+    memory 프로필에서 사용하는 단일 노드용 숙소 저장소
+    숙소명 해시 인덱스와 ownerId, cityId 정렬 인덱스(키 -> 정렬된 숙소 id 집합)를 유지한다.
+    데이터와 인덱스는 하나의 read-write lock으로 보호하므로 동시 쓰기에도 항상 일관된 상태로 조회된다.
+    엔티티는 저장과 조회 모두 복사본으로 주고받으므로, 호출자가 락 밖에서 변경해도 저장된 값에 반영되지 않는다.
+    조회 결과는 id 오름차순으로 정렬되어 반환된다.
+ */
+@Repository
+@Profile("memory")
 public class MemoryAccommodationRepository implements AccommodationRepository {
 
-    private static ConcurrentMap<Long, Accommodation> accommodationStore = new ConcurrentHashMap<>();
-    private static AtomicLong sequence = new AtomicLong();
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final int SNAPSHOT_VERSION_WITHOUT_LOCATION = 1;
+    private static final int EXPORT_PAGE_SIZE = 1000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<Long, Accommodation> accommodationStore = new TreeMap<>();
+    private final Map<String, Long> nameIndex = new HashMap<>();
+    private final TreeMap<Long, NavigableSet<Long>> ownerIndex = new TreeMap<>();
+    private final TreeMap<Long, NavigableSet<Long>> cityIndex = new TreeMap<>();
+    private final Map<Long, IndexedValues> indexedValues = new HashMap<>();
+    private final Path snapshotPath;
+    private long sequence;
+
+    public MemoryAccommodationRepository() {
+        this("");
+    }
+
+    @Autowired
+    public MemoryAccommodationRepository(@Value("${memory.snapshot.directory:}") String snapshotDirectory) {
+        this.snapshotPath = snapshotDirectory.isEmpty()
+            ? null : Paths.get(snapshotDirectory, "accommodations.snapshot");
+    }
 
     @Override
     public Accommodation save(Accommodation accommodation) {
-        accommodation.setId(sequence.incrementAndGet());
-        accommodationStore.put(accommodation.getId(), accommodation);
-        return accommodation;
+        lock.writeLock().lock();
+        try {
+            if (nameIndex.containsKey(accommodation.getAccommodationName())) {
+                throw new DuplicateKeyException("이미 존재하는 숙소명입니다");
+            }
+            accommodation.setId(++sequence);
+            put(accommodation);
+            return accommodation;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public Accommodation update(Accommodation accommodation) {
-        accommodationStore.put(accommodation.getId(), accommodation);
-        return accommodation;
+        lock.writeLock().lock();
+        try {
+            Long namedAccommodationId = nameIndex.get(accommodation.getAccommodationName());
+            if (namedAccommodationId != null && !namedAccommodationId.equals(accommodation.getId())) {
+                throw new DuplicateKeyException("이미 존재하는 숙소명입니다");
+            }
+            put(accommodation);
+            return accommodation;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public Long delete(long accommodationId) {
-        return accommodationStore.remove(accommodationId).getId();
+        lock.writeLock().lock();
+        try {
+            Accommodation removed = accommodationStore.remove(accommodationId);
+            if (removed == null) {
+                throw new NotExistAccommodationException();
+            }
+            removeIndexes(accommodationId);
+            return removed.getId();
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public List<Accommodation> findAll() {
-        return new ArrayList<>(accommodationStore.values());
+        lock.readLock().lock();
+        try {
+            return copyAll(accommodationStore.values());
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public Optional<Accommodation> findById(long accommodationId) {
-        return Optional.ofNullable(accommodationStore.get(accommodationId));
+        lock.readLock().lock();
+        try {
+            return findCopy(accommodationId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Accommodation> findAllByIds(Collection<Long> accommodationIds) {
+        lock.readLock().lock();
+        try {
+            List<Accommodation> accommodations = new ArrayList<>(accommodationIds.size());
+            for (Long accommodationId : accommodationIds) {
+                Accommodation accommodation = accommodationStore.get(accommodationId);
+                if (accommodation != null) {
+                    accommodations.add(copyOf(accommodation));
+                }
+            }
+            return accommodations;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public Optional<Accommodation> findByAccommodationName(String accommodationName) {
-        return accommodationStore.values().stream()
-                .filter(accommodation -> StringUtils.equals(accommodation.getAccommodationName(), accommodationName))
-                .findAny();
+        lock.readLock().lock();
+        try {
+            Long accommodationId = nameIndex.get(accommodationName);
+            return accommodationId == null ? Optional.empty() : findCopy(accommodationId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Accommodation> findAllByOwnerId(long ownerId) {
+        lock.readLock().lock();
+        try {
+            return findAllByIndex(ownerIndex, ownerId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Accommodation> findAllByCityId(long cityId) {
+        lock.readLock().lock();
+        try {
+            return findAllByIndex(cityIndex, cityId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Accommodation> findAllAfter(long lastAccommodationId, int size) {
+        lock.readLock().lock();
+        try {
+            return accommodationStore.tailMap(lastAccommodationId, false).values().stream()
+                .limit(size)
+                .map(MemoryAccommodationRepository::copyOf)
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<AccommodationSummary> findSummariesAfter(long lastAccommodationId, int size) {
+        lock.readLock().lock();
+        try {
+            return accommodationStore.tailMap(lastAccommodationId, false).values().stream()
+                .limit(size)
+                .map(MemoryAccommodationRepository::toSummary)
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<AccommodationSummary> findSummariesByFilter(AccommodationFilter filter, int size) {
+        lock.readLock().lock();
+        try {
+            return accommodationStore.values().stream()
+                .filter(filter::matches)
+                .sorted(Comparator.comparingInt(Accommodation::getLowPrice).thenComparing(Accommodation::getId))
+                .limit(size)
+                .map(MemoryAccommodationRepository::toSummary)
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+        consumer가 느려도 쓰기를 막지 않도록 락은 페이지를 복사하는 동안만 잡는다.
+     */
+    @Override
+    public void forEachSummary(Consumer<AccommodationSummary> consumer) {
+        long lastAccommodationId = 0L;
+        List<AccommodationSummary> page;
+        do {
+            page = findSummariesAfter(lastAccommodationId, EXPORT_PAGE_SIZE);
+            page.forEach(consumer);
+            if (!page.isEmpty()) {
+                lastAccommodationId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == EXPORT_PAGE_SIZE);
+    }
+
+    private static AccommodationSummary toSummary(Accommodation accommodation) {
+        return AccommodationSummary.of(accommodation.getId(), accommodation.getAccommodationName(),
+            accommodation.getCityId(), accommodation.getAccommodationType(), accommodation.getLowPrice());
     }
 
     @Override
     public void deleteAll() {
-        accommodationStore.clear();
+        lock.writeLock().lock();
+        try {
+            accommodationStore.clear();
+            nameIndex.clear();
+            ownerIndex.clear();
+            cityIndex.clear();
+            indexedValues.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PostConstruct
+    public void loadSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            SnapshotFiles.read(snapshotPath, this::readSnapshot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${memory.snapshot.interval-millis:60000}")
+    public void takeSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        long lastSequence;
+        List<Accommodation> accommodations;
+        lock.readLock().lock();
+        try {
+            lastSequence = sequence;
+            accommodations = new ArrayList<>(accommodationStore.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+        SnapshotFiles.write(snapshotPath, out -> writeSnapshot(out, lastSequence, accommodations));
+    }
+
+    private List<Accommodation> findAllByIndex(TreeMap<Long, NavigableSet<Long>> index, long key) {
+        NavigableSet<Long> accommodationIds = index.get(key);
+        if (accommodationIds == null) {
+            return new ArrayList<>();
+        }
+        List<Accommodation> accommodations = new ArrayList<>(accommodationIds.size());
+        for (Long accommodationId : accommodationIds) {
+            accommodations.add(copyOf(accommodationStore.get(accommodationId)));
+        }
+        return accommodations;
+    }
+
+    /*
+        엔티티는 저장소 밖에서 변경될 수 있으므로 이전에 인덱싱한 값을 따로 보관해 두었다가 지운 뒤 다시 인덱싱한다.
+        write lock을 획득한 상태에서 호출해야 한다.
+     */
+    private void put(Accommodation accommodation) {
+        long accommodationId = accommodation.getId();
+        removeIndexes(accommodationId);
+
+        accommodationStore.put(accommodationId, copyOf(accommodation));
+        nameIndex.put(accommodation.getAccommodationName(), accommodationId);
+        ownerIndex.computeIfAbsent(accommodation.getOwnerId(), key -> new TreeSet<>()).add(accommodationId);
+        cityIndex.computeIfAbsent(accommodation.getCityId(), key -> new TreeSet<>()).add(accommodationId);
+        indexedValues.put(accommodationId, new IndexedValues(
+            accommodation.getAccommodationName(), accommodation.getOwnerId(), accommodation.getCityId()));
+    }
+
+    private Optional<Accommodation> findCopy(long accommodationId) {
+        Accommodation accommodation = accommodationStore.get(accommodationId);
+        return accommodation == null ? Optional.empty() : Optional.of(copyOf(accommodation));
+    }
+
+    private static Accommodation copyOf(Accommodation accommodation) {
+        return new Accommodation(accommodation.getId(), accommodation.getAccommodationName(),
+            accommodation.getOwnerId(), accommodation.getPhoneNumber(), accommodation.getCityId(),
+            accommodation.getAccommodationType(), accommodation.getDescription(), accommodation.getInformation(),
+            accommodation.getLowPrice(), accommodation.getLatitude(), accommodation.getLongitude());
+    }
+
+    private static List<Accommodation> copyAll(Collection<Accommodation> accommodations) {
+        List<Accommodation> copied = new ArrayList<>(accommodations.size());
+        for (Accommodation accommodation : accommodations) {
+            copied.add(copyOf(accommodation));
+        }
+        return copied;
+    }
+
+    private void removeIndexes(long accommodationId) {
+        IndexedValues previous = indexedValues.remove(accommodationId);
+        if (previous == null) {
+            return;
+        }
+        nameIndex.remove(previous.accommodationName, accommodationId);
+        removeFromIndex(ownerIndex, previous.ownerId, accommodationId);
+        removeFromIndex(cityIndex, previous.cityId, accommodationId);
+    }
+
+    private void removeFromIndex(TreeMap<Long, NavigableSet<Long>> index, long key, long accommodationId) {
+        NavigableSet<Long> accommodationIds = index.get(key);
+        if (accommodationIds == null) {
+            return;
+        }
+        accommodationIds.remove(accommodationId);
+        if (accommodationIds.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private void writeSnapshot(DataOutputStream out, long lastSequence, List<Accommodation> accommodations)
+        throws IOException {
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeLong(lastSequence);
+        out.writeInt(accommodations.size());
+        for (Accommodation accommodation : accommodations) {
+            out.writeLong(accommodation.getId());
+            out.writeUTF(accommodation.getAccommodationName());
+            out.writeLong(accommodation.getOwnerId());
+            SnapshotFiles.writeNullableString(out, accommodation.getPhoneNumber());
+            out.writeLong(accommodation.getCityId());
+            SnapshotFiles.writeNullableString(out, accommodation.getAccommodationType() == null
+                ? null : accommodation.getAccommodationType().name());
+            SnapshotFiles.writeNullableString(out, accommodation.getDescription());
+            SnapshotFiles.writeNullableString(out, accommodation.getInformation());
+            out.writeInt(accommodation.getLowPrice());
+            SnapshotFiles.writeNullableDouble(out, accommodation.getLatitude());
+            SnapshotFiles.writeNullableDouble(out, accommodation.getLongitude());
+        }
+    }
+
+    private void readSnapshot(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != SNAPSHOT_VERSION && version != SNAPSHOT_VERSION_WITHOUT_LOCATION) {
+            throw new IOException("지원하지 않는 스냅샷 버전입니다");
+        }
+        sequence = in.readLong();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            long id = in.readLong();
+            String accommodationName = in.readUTF();
+            long ownerId = in.readLong();
+            String phoneNumber = SnapshotFiles.readNullableString(in);
+            long cityId = in.readLong();
+            String accommodationType = SnapshotFiles.readNullableString(in);
+            String description = SnapshotFiles.readNullableString(in);
+            String information = SnapshotFiles.readNullableString(in);
+            int lowPrice = in.readInt();
+            Double latitude = version == SNAPSHOT_VERSION ? SnapshotFiles.readNullableDouble(in) : null;
+            Double longitude = version == SNAPSHOT_VERSION ? SnapshotFiles.readNullableDouble(in) : null;
+
+            put(new Accommodation(id, accommodationName, ownerId, phoneNumber, cityId,
+                accommodationType == null ? null : AccommodationType.valueOf(accommodationType),
+                description, information, lowPrice, latitude, longitude));
+        }
+    }
+
+    private static class IndexedValues {
+
+        private final String accommodationName;
+        private final long ownerId;
+        private final long cityId;
+
+        private IndexedValues(String accommodationName, long ownerId, long cityId) {
+            this.accommodationName = accommodationName;
+            this.ownerId = ownerId;
+            this.cityId = cityId;
+        }
     }
 }
@@ -1,7 +1,12 @@
 package com.project.jagoga.accommodation.infrastructure.address;
 
 import com.project.jagoga.accommodation.domain.address.City;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface JpaCityRepository extends JpaRepository<City, Long> {
+
+    @Query("select c from City c join fetch c.state")
+    List<City> findAllWithState();
 }
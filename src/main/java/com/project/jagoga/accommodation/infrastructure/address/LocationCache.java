@@ -0,0 +1,41 @@
+package com.project.jagoga.accommodation.infrastructure.address;
+
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import com.project.jagoga.category.infrastructure.JpaCategoryRepository;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+    거의 변경되지 않는 State, City, Category를 기동 시점에 한 번 읽어 LocationSnapshot으로 보관한다.
+    조회는 volatile 참조 하나만 읽고, reload는 새 스냅샷을 만든 뒤 참조를 교체한다.
+    지역 정보를 변경한 뒤에는 관리자가 reload를 호출해야 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationCache {
+
+    private final JpaStateRepository stateRepository;
+    private final JpaCityRepository cityRepository;
+    private final JpaCategoryRepository categoryRepository;
+
+    private volatile LocationSnapshot snapshot = LocationSnapshot.empty();
+
+    public LocationSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @PostConstruct
+    @Transactional(readOnly = true)
+    public LocationSnapshot reload() {
+        LocationSnapshot loaded = LocationSnapshot.of(stateRepository.findAll(), cityRepository.findAllWithState(),
+            categoryRepository.findAll());
+        snapshot = loaded;
+        log.info("location cache loaded: states={}, cities={}, categories={}",
+            loaded.getStateCount(), loaded.getCityCount(), loaded.getCategoryCount());
+        return loaded;
+    }
+}
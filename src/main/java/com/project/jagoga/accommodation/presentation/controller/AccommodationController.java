@@ -2,10 +2,33 @@ package com.project.jagoga.accommodation.presentation.controller;
 
 import static com.project.jagoga.accommodation.presentation.controller.AccommodationController.ACCOMMODATION_API_URI;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.jagoga.accommodation.application.AccommodationDailyPriceService;
+import com.project.jagoga.accommodation.application.AccommodationDetailService;
 import com.project.jagoga.accommodation.application.AccommodationService;
+import com.project.jagoga.accommodation.application.NearbyAccommodationService;
 import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import com.project.jagoga.accommodation.domain.geo.NearbyAccommodation;
+import com.project.jagoga.accommodation.infrastructure.address.LocationCache;
+import com.project.jagoga.accommodation.presentation.dto.AccommodationDailyPriceRequestDto;
+import com.project.jagoga.accommodation.presentation.dto.AccommodationDetailResponseDto;
+import com.project.jagoga.accommodation.presentation.dto.AccommodationFilterPageResponseDto;
+import com.project.jagoga.accommodation.presentation.dto.AccommodationFilterRequestDto;
+import com.project.jagoga.accommodation.presentation.dto.AccommodationPageResponseDto;
 import com.project.jagoga.accommodation.presentation.dto.AccommodationRequestDto;
 import com.project.jagoga.accommodation.presentation.dto.AccommodationResponseDto;
+import com.project.jagoga.accommodation.presentation.dto.AccommodationSummaryResponseDto;
+import com.project.jagoga.accommodation.presentation.dto.BoundingBoxSearchRequestDto;
+import com.project.jagoga.accommodation.presentation.dto.NearbyAccommodationResponseDto;
+import com.project.jagoga.accommodation.presentation.dto.NearbySearchRequestDto;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javax.validation.Valid;
 
@@ -15,13 +38,20 @@ import com.project.jagoga.user.domain.AuthUser;
 import com.project.jagoga.user.domain.LoginCheck;
 import com.project.jagoga.user.domain.RequireLoginUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -31,6 +61,113 @@ public class AccommodationController {
     public static final String ACCOMMODATION_API_URI = "/api/accommodation";
 
     private final AccommodationService accommodationService;
+    private final NearbyAccommodationService nearbyAccommodationService;
+    private final AccommodationDailyPriceService accommodationDailyPriceService;
+    private final AccommodationDetailService accommodationDetailService;
+    private final LocationCache locationCache;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping
+    public ApiResponse<AccommodationPageResponseDto> getAccommodations(
+        @RequestParam(defaultValue = "0") long lastAccommodationId,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        Slice<AccommodationSummary> summaries =
+            accommodationService.getAccommodationSummaries(lastAccommodationId, size);
+        return ApiResponse.createSuccess(
+            AccommodationPageResponseDto.createInstance(summaries, locationCache.getSnapshot()));
+    }
+
+    @GetMapping("/filter")
+    public ApiResponse<AccommodationFilterPageResponseDto> filterAccommodations(
+        @Valid final AccommodationFilterRequestDto accommodationFilterRequestDto,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        Slice<AccommodationSummary> summaries =
+            accommodationService.getFilteredAccommodations(accommodationFilterRequestDto.toFilter(), size);
+        return ApiResponse.createSuccess(
+            AccommodationFilterPageResponseDto.createInstance(summaries, locationCache.getSnapshot()));
+    }
+
+    /*
+        date에 판매 중인 숙소를 그 날짜의 최저 판매가 순으로 조회한다.
+        응답의 lowPrice는 그 날짜의 최저 판매가이며, 다음 페이지 조회 방식은 /filter와 같다.
+     */
+    @GetMapping("/daily-price")
+    public ApiResponse<AccommodationFilterPageResponseDto> getAccommodationsByDailyPrice(
+        @Valid final AccommodationDailyPriceRequestDto accommodationDailyPriceRequestDto,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        Slice<AccommodationSummary> summaries = accommodationDailyPriceService.getCheapestAccommodations(
+            accommodationDailyPriceRequestDto.getDate(), accommodationDailyPriceRequestDto.getCityId(),
+            accommodationDailyPriceRequestDto.getLastLowPrice(),
+            accommodationDailyPriceRequestDto.getLastAccommodationId(), size);
+        return ApiResponse.createSuccess(
+            AccommodationFilterPageResponseDto.createInstance(summaries, locationCache.getSnapshot()));
+    }
+
+    @GetMapping("/nearby")
+    public ApiResponse<List<NearbyAccommodationResponseDto>> findNearbyAccommodations(
+        @Valid final NearbySearchRequestDto nearbySearchRequestDto,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        List<NearbyAccommodation> nearbyAccommodations = nearbyAccommodationService.findWithinRadius(
+            nearbySearchRequestDto.toCenter(), nearbySearchRequestDto.getRadiusMeters(),
+            nearbySearchRequestDto.getCheckInDate(), nearbySearchRequestDto.getCheckOutDate(), size);
+        return ApiResponse.createSuccess(
+            NearbyAccommodationResponseDto.listOf(nearbyAccommodations, locationCache.getSnapshot()));
+    }
+
+    @GetMapping("/within")
+    public ApiResponse<List<NearbyAccommodationResponseDto>> findAccommodationsWithinBox(
+        @Valid final BoundingBoxSearchRequestDto boundingBoxSearchRequestDto,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        List<NearbyAccommodation> nearbyAccommodations = nearbyAccommodationService.findWithinBox(
+            boundingBoxSearchRequestDto.toBox(), boundingBoxSearchRequestDto.getCheckInDate(),
+            boundingBoxSearchRequestDto.getCheckOutDate(), size);
+        return ApiResponse.createSuccess(
+            NearbyAccommodationResponseDto.listOf(nearbyAccommodations, locationCache.getSnapshot()));
+    }
+
+    /*
+        숙소, 지역 이름, 룸타입 목록, (기간이 주어지면) 룸타입별 재고를 한 번에 응답한다.
+        제한 시간 안에 조회하지 못한 부분은 missingParts에 이름을 담고 빼고 응답한다.
+     */
+    @GetMapping("/{accommodationId}/detail")
+    public CompletableFuture<ApiResponse<AccommodationDetailResponseDto>> getAccommodationDetail(
+        @PathVariable long accommodationId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate
+    ) {
+        return accommodationDetailService.getDetail(accommodationId, checkInDate, checkOutDate)
+            .thenApply(detail -> ApiResponse.createSuccess(
+                AccommodationDetailResponseDto.of(detail, locationCache.getSnapshot())));
+    }
+
+    /*
+        전체 숙소를 JSON 배열로 바로 응답에 써서 목록 전체를 메모리에 올리지 않는다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAccommodations() {
+        LocationSnapshot locationSnapshot = locationCache.getSnapshot();
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                accommodationService.exportAccommodationSummaries(summary -> {
+                    try {
+                        generator.writeObject(AccommodationSummaryResponseDto.of(summary, locationSnapshot));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
 
     @LoginCheck
     @PostMapping
@@ -40,7 +177,7 @@ public class AccommodationController {
     ) {
         Accommodation accommodation =
             accommodationService.saveAccommodation(accommodationRequestDto, loginUser);
-        return ApiResponse.createSuccess(AccommodationResponseDto.of(accommodation));
+        return ApiResponse.createSuccess(AccommodationResponseDto.of(accommodation, locationCache.getSnapshot()));
     }
 
     @LoginCheck
@@ -52,7 +189,7 @@ public class AccommodationController {
     ) {
         Accommodation accommodation =
             accommodationService.updateAccommodation(accommodationId, accommodationUpdateRequestDto, loginUser);
-        return ApiResponse.createSuccess(AccommodationResponseDto.of(accommodation));
+        return ApiResponse.createSuccess(AccommodationResponseDto.of(accommodation, locationCache.getSnapshot()));
     }
 
     @LoginCheck
@@ -1,11 +1,15 @@
 package com.project.jagoga.accommodation.presentation.controller;
 
+import com.project.jagoga.exception.accommodation.AccommodationDetailUnavailableException;
 import com.project.jagoga.exception.accommodation.DuplicatedAccommodationException;
+import com.project.jagoga.exception.accommodation.InvalidLocationException;
+import com.project.jagoga.exception.accommodation.InvalidStayPeriodException;
 import com.project.jagoga.exception.accommodation.NotExistAccommodationException;
 import com.project.jagoga.exception.accommodation.UnknownAccommodationTypeException;
 import com.project.jagoga.exception.dto.ApiResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -24,12 +28,23 @@ public class AccommodationExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.createError(exception.getMessage()));
     }
 
+    @ExceptionHandler({InvalidLocationException.class, InvalidStayPeriodException.class})
+    public ResponseEntity<ApiResponse<?>> handleInvalidSearchConditionException(RuntimeException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.createError(exception.getMessage()));
+    }
+
     @ExceptionHandler(UnknownAccommodationTypeException.class)
     public ResponseEntity<ApiResponse<?>> handleNotFoundAccommodationTypeException(RuntimeException exception) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.createError(exception.getMessage()));
     }
 
-    @ExceptionHandler(MethodArgumentNotValidException.class)
+    @ExceptionHandler(AccommodationDetailUnavailableException.class)
+    public ResponseEntity<ApiResponse<?>> handleAccommodationDetailUnavailableException(RuntimeException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(ApiResponse.createError(exception.getMessage()));
+    }
+
+    @ExceptionHandler({MethodArgumentNotValidException.class, BindException.class})
     public ResponseEntity<ApiResponse<?>> handleValidationException(BindingResult bindingResult) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.createFail(bindingResult));
     }
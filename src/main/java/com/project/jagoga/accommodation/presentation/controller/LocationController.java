@@ -0,0 +1,26 @@
+package com.project.jagoga.accommodation.presentation.controller;
+
+import com.project.jagoga.accommodation.application.LocationService;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import com.project.jagoga.accommodation.presentation.dto.LocationReloadResponseDto;
+import com.project.jagoga.exception.dto.ApiResponse;
+import com.project.jagoga.user.domain.AuthUser;
+import com.project.jagoga.user.domain.LoginCheck;
+import com.project.jagoga.user.domain.RequireLoginUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class LocationController {
+
+    private final LocationService locationService;
+
+    @LoginCheck
+    @PostMapping("/api/admin/locations/reload")
+    public ApiResponse<LocationReloadResponseDto> reloadLocations(@RequireLoginUser AuthUser loginUser) {
+        LocationSnapshot locationSnapshot = locationService.reloadLocations(loginUser);
+        return ApiResponse.createSuccess(LocationReloadResponseDto.createInstance(locationSnapshot));
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.jagoga.accommodation.presentation.dto;
+
+import java.time.LocalDate;
+import javax.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AccommodationDailyPriceRequestDto {
+
+    @NotNull(message = "날짜를 입력해주세요.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate date;
+
+    private Long cityId;
+    private Integer lastLowPrice;
+    private Long lastAccommodationId;
+}
@@ -0,0 +1,34 @@
+package com.project.jagoga.accommodation.presentation.dto;
+
+import com.project.jagoga.accommodation.domain.AccommodationDetail;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import java.util.List;
+import lombok.Getter;
+
+/*
+    roomTypes는 조회하지 못했으면 null이며, 빠진 부분의 이름은 missingParts에 담긴다.
+ */
+@Getter
+public class AccommodationDetailResponseDto {
+
+    private final long accommodationId;
+    private final AccommodationResponseDto accommodation;
+    private final List<RoomTypeDetailResponseDto> roomTypes;
+    private final List<String> missingParts;
+
+    private AccommodationDetailResponseDto(long accommodationId, AccommodationResponseDto accommodation,
+                                           List<RoomTypeDetailResponseDto> roomTypes, List<String> missingParts) {
+        this.accommodationId = accommodationId;
+        this.accommodation = accommodation;
+        this.roomTypes = roomTypes;
+        this.missingParts = missingParts;
+    }
+
+    public static AccommodationDetailResponseDto of(AccommodationDetail detail, LocationSnapshot locationSnapshot) {
+        List<RoomTypeDetailResponseDto> roomTypes = detail.getRoomTypes() == null
+            ? null : RoomTypeDetailResponseDto.listOf(detail.getRoomTypes(), detail.getAvailabilities());
+        return new AccommodationDetailResponseDto(detail.getAccommodation().getId(),
+            AccommodationResponseDto.of(detail.getAccommodation(), locationSnapshot), roomTypes,
+            detail.getMissingParts());
+    }
+}
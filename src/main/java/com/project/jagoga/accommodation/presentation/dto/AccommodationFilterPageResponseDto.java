@@ -0,0 +1,38 @@
+package com.project.jagoga.accommodation.presentation.dto;
+
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+/*
+    lowPrice 순 keyset 페이지 응답
+    다음 페이지는 nextLowPrice, nextAccommodationId를 lastLowPrice, lastAccommodationId로 전달해 조회한다.
+    마지막 페이지면 둘 다 null이다.
+ */
+@Getter
+public class AccommodationFilterPageResponseDto {
+
+    private final List<AccommodationSummaryResponseDto> accommodations;
+    private final Integer nextLowPrice;
+    private final Long nextAccommodationId;
+
+    private AccommodationFilterPageResponseDto(List<AccommodationSummaryResponseDto> accommodations,
+                                               Integer nextLowPrice, Long nextAccommodationId) {
+        this.accommodations = accommodations;
+        this.nextLowPrice = nextLowPrice;
+        this.nextAccommodationId = nextAccommodationId;
+    }
+
+    public static AccommodationFilterPageResponseDto createInstance(Slice<AccommodationSummary> summaries,
+                                                                    LocationSnapshot locationSnapshot) {
+        List<AccommodationSummaryResponseDto> accommodations =
+            AccommodationSummaryResponseDto.listOf(summaries.getContent(), locationSnapshot);
+        if (!summaries.hasNext()) {
+            return new AccommodationFilterPageResponseDto(accommodations, null, null);
+        }
+        AccommodationSummaryResponseDto last = accommodations.get(accommodations.size() - 1);
+        return new AccommodationFilterPageResponseDto(accommodations, last.getLowPrice(), last.getAccommodationId());
+    }
+}
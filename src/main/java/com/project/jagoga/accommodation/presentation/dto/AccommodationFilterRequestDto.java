@@ -0,0 +1,38 @@
+package com.project.jagoga.accommodation.presentation.dto;
+
+import com.project.jagoga.accommodation.domain.AccommodationFilter;
+import com.project.jagoga.accommodation.domain.AccommodationType;
+import javax.validation.constraints.PositiveOrZero;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AccommodationFilterRequestDto {
+
+    private Long cityId;
+    private AccommodationType accommodationType;
+
+    @PositiveOrZero(message = "가격은 0 이상이어야 합니다.")
+    private Integer minPrice;
+
+    @PositiveOrZero(message = "가격은 0 이상이어야 합니다.")
+    private Integer maxPrice;
+
+    private Integer lastLowPrice;
+    private Long lastAccommodationId;
+
+    public AccommodationFilter toFilter() {
+        return AccommodationFilter.builder()
+            .cityId(cityId)
+            .accommodationType(accommodationType)
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .lastLowPrice(lastLowPrice)
+            .lastAccommodationId(lastAccommodationId)
+            .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.jagoga.accommodation.presentation.dto;
+
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+/*
+    keyset 페이지 응답
+    다음 페이지는 nextAccommodationId를 lastAccommodationId로 전달해 조회한다. 마지막 페이지면 null이다.
+ */
+@Getter
+public class AccommodationPageResponseDto {
+
+    private final List<AccommodationSummaryResponseDto> accommodations;
+    private final Long nextAccommodationId;
+
+    private AccommodationPageResponseDto(List<AccommodationSummaryResponseDto> accommodations,
+                                         Long nextAccommodationId) {
+        this.accommodations = accommodations;
+        this.nextAccommodationId = nextAccommodationId;
+    }
+
+    public static AccommodationPageResponseDto createInstance(Slice<AccommodationSummary> summaries,
+                                                              LocationSnapshot locationSnapshot) {
+        List<AccommodationSummaryResponseDto> accommodations =
+            AccommodationSummaryResponseDto.listOf(summaries.getContent(), locationSnapshot);
+        Long nextAccommodationId = summaries.hasNext()
+            ? accommodations.get(accommodations.size() - 1).getAccommodationId() : null;
+        return new AccommodationPageResponseDto(accommodations, nextAccommodationId);
+    }
+}
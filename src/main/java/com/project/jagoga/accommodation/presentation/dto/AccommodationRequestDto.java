@@ -3,6 +3,8 @@ package com.project.jagoga.accommodation.presentation.dto;
 import com.project.jagoga.accommodation.domain.Accommodation;
 import com.project.jagoga.accommodation.domain.AccommodationType;
 import com.project.jagoga.accommodation.domain.address.City;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
@@ -34,6 +36,14 @@ public class AccommodationRequestDto {
     private String information;
     private int lowPrice;
 
+    @DecimalMin(value = "-90.0", message = "위도는 -90 ~ 90 사이여야 합니다.")
+    @DecimalMax(value = "90.0", message = "위도는 -90 ~ 90 사이여야 합니다.")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "경도는 -180 ~ 180 사이여야 합니다.")
+    @DecimalMax(value = "180.0", message = "경도는 -180 ~ 180 사이여야 합니다.")
+    private Double longitude;
+
     public Accommodation toEntity(long ownerId) {
         return Accommodation.builder()
             .accommodationName(accommodationName)
@@ -44,6 +54,8 @@ public class AccommodationRequestDto {
             .description(description)
             .information(information)
             .lowPrice(lowPrice)
+            .latitude(latitude)
+            .longitude(longitude)
             .build();
     }
 }
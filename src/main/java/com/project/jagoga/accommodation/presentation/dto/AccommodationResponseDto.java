@@ -2,7 +2,8 @@ package com.project.jagoga.accommodation.presentation.dto;
 
 import com.project.jagoga.accommodation.domain.Accommodation;
 import com.project.jagoga.accommodation.domain.AccommodationType;
-import com.project.jagoga.accommodation.domain.address.City;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot.CityView;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -16,32 +17,50 @@ public class AccommodationResponseDto {
 
     private String accommodationName;
     private long cityId;
+    private String cityName;
+    private String stateName;
     private AccommodationType accommodationType;
     private int lowPrice;
+    private Double latitude;
+    private Double longitude;
 
     protected AccommodationResponseDto() {
     }
 
-    public AccommodationResponseDto(String accommodationName, long cityId,
-                                    AccommodationType accommodationType, int lowPrice) {
+    public AccommodationResponseDto(String accommodationName, long cityId, String cityName, String stateName,
+                                    AccommodationType accommodationType, int lowPrice, Double latitude,
+                                    Double longitude) {
         this.accommodationName = accommodationName;
         this.cityId = cityId;
+        this.cityName = cityName;
+        this.stateName = stateName;
         this.accommodationType = accommodationType;
         this.lowPrice = lowPrice;
+        this.latitude = latitude;
+        this.longitude = longitude;
     }
 
-    public static AccommodationResponseDto of(Accommodation accommodation) {
+    /*
+        지역 이름은 LocationSnapshot에서 채우며, 스냅샷에 없는 지역이면 null로 둔다.
+     */
+    public static AccommodationResponseDto of(Accommodation accommodation, LocationSnapshot locationSnapshot) {
+        CityView city = locationSnapshot.getCity(accommodation.getCityId()).orElse(null);
         return AccommodationResponseDto.builder()
                 .accommodationName(accommodation.getAccommodationName())
                 .cityId(accommodation.getCityId())
+                .cityName(city == null ? null : city.getName())
+                .stateName(city == null ? null : city.getStateName())
                 .accommodationType(accommodation.getAccommodationType())
                 .lowPrice(accommodation.getLowPrice())
+                .latitude(accommodation.getLatitude())
+                .longitude(accommodation.getLongitude())
                 .build();
     }
 
-    public static List<AccommodationResponseDto> listOf(List<Accommodation> accommodations) {
+    public static List<AccommodationResponseDto> listOf(List<Accommodation> accommodations,
+                                                        LocationSnapshot locationSnapshot) {
         return accommodations.stream()
-                .map(accommodation -> AccommodationResponseDto.of(accommodation))
+                .map(accommodation -> AccommodationResponseDto.of(accommodation, locationSnapshot))
                 .collect(toList());
     }
 }
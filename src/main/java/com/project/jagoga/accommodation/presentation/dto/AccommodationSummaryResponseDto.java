@@ -0,0 +1,47 @@
+package com.project.jagoga.accommodation.presentation.dto;
+
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import com.project.jagoga.accommodation.domain.AccommodationType;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot.CityView;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+@Getter
+public class AccommodationSummaryResponseDto {
+
+    private final long accommodationId;
+    private final String accommodationName;
+    private final long cityId;
+    private final String cityName;
+    private final String stateName;
+    private final AccommodationType accommodationType;
+    private final int lowPrice;
+
+    private AccommodationSummaryResponseDto(long accommodationId, String accommodationName, long cityId,
+                                            String cityName, String stateName,
+                                            AccommodationType accommodationType, int lowPrice) {
+        this.accommodationId = accommodationId;
+        this.accommodationName = accommodationName;
+        this.cityId = cityId;
+        this.cityName = cityName;
+        this.stateName = stateName;
+        this.accommodationType = accommodationType;
+        this.lowPrice = lowPrice;
+    }
+
+    public static AccommodationSummaryResponseDto of(AccommodationSummary summary, LocationSnapshot locationSnapshot) {
+        CityView city = locationSnapshot.getCity(summary.getCityId()).orElse(null);
+        return new AccommodationSummaryResponseDto(summary.getId(), summary.getAccommodationName(),
+            summary.getCityId(), city == null ? null : city.getName(), city == null ? null : city.getStateName(),
+            summary.getAccommodationType(), summary.getLowPrice());
+    }
+
+    public static List<AccommodationSummaryResponseDto> listOf(List<AccommodationSummary> summaries,
+                                                               LocationSnapshot locationSnapshot) {
+        return summaries.stream()
+            .map(summary -> AccommodationSummaryResponseDto.of(summary, locationSnapshot))
+            .collect(Collectors.toList());
+    }
+}
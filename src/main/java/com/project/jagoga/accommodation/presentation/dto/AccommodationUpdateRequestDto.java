@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.hibernate.validator.constraints.Length;
 
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
@@ -27,4 +29,12 @@ public class AccommodationUpdateRequestDto {
     private String description;
     private String information;
     private int lowPrice;
+
+    @DecimalMin(value = "-90.0", message = "위도는 -90 ~ 90 사이여야 합니다.")
+    @DecimalMax(value = "90.0", message = "위도는 -90 ~ 90 사이여야 합니다.")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "경도는 -180 ~ 180 사이여야 합니다.")
+    @DecimalMax(value = "180.0", message = "경도는 -180 ~ 180 사이여야 합니다.")
+    private Double longitude;
 }
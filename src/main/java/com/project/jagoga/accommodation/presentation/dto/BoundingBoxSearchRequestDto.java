@@ -0,0 +1,38 @@
+package com.project.jagoga.accommodation.presentation.dto;
+
+import com.project.jagoga.accommodation.domain.geo.GeoBoundingBox;
+import java.time.LocalDate;
+import javax.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BoundingBoxSearchRequestDto {
+
+    @NotNull(message = "영역을 입력해주세요.")
+    private Double minLatitude;
+
+    @NotNull(message = "영역을 입력해주세요.")
+    private Double minLongitude;
+
+    @NotNull(message = "영역을 입력해주세요.")
+    private Double maxLatitude;
+
+    @NotNull(message = "영역을 입력해주세요.")
+    private Double maxLongitude;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate checkInDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate checkOutDate;
+
+    public GeoBoundingBox toBox() {
+        return GeoBoundingBox.of(minLatitude, minLongitude, maxLatitude, maxLongitude);
+    }
+}
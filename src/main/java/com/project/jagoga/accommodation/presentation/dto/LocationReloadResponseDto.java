@@ -0,0 +1,23 @@
+package com.project.jagoga.accommodation.presentation.dto;
+
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import lombok.Getter;
+
+@Getter
+public class LocationReloadResponseDto {
+
+    private final int stateCount;
+    private final int cityCount;
+    private final int categoryCount;
+
+    private LocationReloadResponseDto(int stateCount, int cityCount, int categoryCount) {
+        this.stateCount = stateCount;
+        this.cityCount = cityCount;
+        this.categoryCount = categoryCount;
+    }
+
+    public static LocationReloadResponseDto createInstance(LocationSnapshot locationSnapshot) {
+        return new LocationReloadResponseDto(locationSnapshot.getStateCount(), locationSnapshot.getCityCount(),
+            locationSnapshot.getCategoryCount());
+    }
+}
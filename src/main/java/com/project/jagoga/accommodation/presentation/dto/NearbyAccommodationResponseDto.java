@@ -0,0 +1,54 @@
+package com.project.jagoga.accommodation.presentation.dto;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationType;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot.CityView;
+import com.project.jagoga.accommodation.domain.geo.NearbyAccommodation;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+@Getter
+public class NearbyAccommodationResponseDto {
+
+    private final long accommodationId;
+    private final String accommodationName;
+    private final long cityId;
+    private final String cityName;
+    private final AccommodationType accommodationType;
+    private final int lowPrice;
+    private final Double latitude;
+    private final Double longitude;
+    private final long distanceMeters;
+
+    private NearbyAccommodationResponseDto(long accommodationId, String accommodationName, long cityId,
+                                           String cityName, AccommodationType accommodationType, int lowPrice,
+                                           Double latitude, Double longitude, long distanceMeters) {
+        this.accommodationId = accommodationId;
+        this.accommodationName = accommodationName;
+        this.cityId = cityId;
+        this.cityName = cityName;
+        this.accommodationType = accommodationType;
+        this.lowPrice = lowPrice;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.distanceMeters = distanceMeters;
+    }
+
+    public static NearbyAccommodationResponseDto of(NearbyAccommodation nearby, LocationSnapshot locationSnapshot) {
+        Accommodation accommodation = nearby.getAccommodation();
+        CityView city = locationSnapshot.getCity(accommodation.getCityId()).orElse(null);
+        return new NearbyAccommodationResponseDto(accommodation.getId(), accommodation.getAccommodationName(),
+            accommodation.getCityId(), city == null ? null : city.getName(), accommodation.getAccommodationType(),
+            accommodation.getLowPrice(), accommodation.getLatitude(), accommodation.getLongitude(),
+            Math.round(nearby.getDistanceMeters()));
+    }
+
+    public static List<NearbyAccommodationResponseDto> listOf(List<NearbyAccommodation> nearbyAccommodations,
+                                                              LocationSnapshot locationSnapshot) {
+        return nearbyAccommodations.stream()
+            .map(nearby -> NearbyAccommodationResponseDto.of(nearby, locationSnapshot))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.jagoga.accommodation.presentation.dto;
+
+import com.project.jagoga.accommodation.domain.geo.GeoPoint;
+import java.time.LocalDate;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class NearbySearchRequestDto {
+
+    @NotNull(message = "위도를 입력해주세요.")
+    @DecimalMin(value = "-90.0", message = "위도는 -90 ~ 90 사이여야 합니다.")
+    @DecimalMax(value = "90.0", message = "위도는 -90 ~ 90 사이여야 합니다.")
+    private Double latitude;
+
+    @NotNull(message = "경도를 입력해주세요.")
+    @DecimalMin(value = "-180.0", message = "경도는 -180 ~ 180 사이여야 합니다.")
+    @DecimalMax(value = "180.0", message = "경도는 -180 ~ 180 사이여야 합니다.")
+    private Double longitude;
+
+    @NotNull(message = "반경을 입력해주세요.")
+    @Positive(message = "반경은 0보다 커야 합니다.")
+    private Integer radiusMeters;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate checkInDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate checkOutDate;
+
+    public GeoPoint toCenter() {
+        return GeoPoint.of(latitude, longitude);
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.jagoga.accommodation.presentation.dto;
+
+import com.project.jagoga.roominventory.domain.RoomTypeAvailabilities;
+import com.project.jagoga.roomtype.domain.RoomType;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/*
+    availableCount는 기간이 주어지지 않았거나 재고를 조회하지 못했으면 null이다.
+ */
+@Getter
+public class RoomTypeDetailResponseDto {
+
+    private final long roomTypeId;
+    private final String name;
+    private final String description;
+    private final int price;
+    private final Integer availableCount;
+
+    private RoomTypeDetailResponseDto(long roomTypeId, String name, String description, int price,
+                                      Integer availableCount) {
+        this.roomTypeId = roomTypeId;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.availableCount = availableCount;
+    }
+
+    public static List<RoomTypeDetailResponseDto> listOf(List<RoomType> roomTypes,
+                                                         RoomTypeAvailabilities availabilities) {
+        return roomTypes.stream()
+            .map(roomType -> new RoomTypeDetailResponseDto(roomType.getId(), roomType.getName(),
+                roomType.getDescription(), roomType.getPrice(),
+                availabilities == null ? null : availabilities.availableCountOf(roomType.getId())))
+            .collect(Collectors.toList());
+    }
+}
@@ -2,7 +2,6 @@ package com.project.jagoga.aop;
 
 import com.project.jagoga.exception.roomtype.NotExistRoomTypeException;
 import com.project.jagoga.roomtype.application.RoomTypeService;
-import com.project.jagoga.roomtype.domain.RoomType;
 import java.lang.reflect.Method;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.JoinPoint;
@@ -38,6 +37,6 @@ public class LockAop {
             throw new NotExistRoomTypeException();
         }
 
-        RoomType roomType = roomTypeService.getRoomTypeById(roomTypeId);
+        roomTypeService.lockRoomType(roomTypeId);
     }
 }
@@ -2,6 +2,7 @@ package com.project.jagoga.booking.application;
 
 import com.project.jagoga.aop.RoomTypeLock;
 import com.project.jagoga.booking.domain.Booking;
+import com.project.jagoga.booking.domain.BookingCompletedEvent;
 import com.project.jagoga.booking.domain.BookingRepository;
 import com.project.jagoga.booking.presentation.dto.BookingRequestDto;
 import com.project.jagoga.exception.booking.NonBookableException;
@@ -10,6 +11,7 @@ import com.project.jagoga.roominventory.domain.RoomInventories;
 import com.project.jagoga.user.domain.AuthUser;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class BookingService {
 
     private final BookingRepository bookingRepository;
     private final RoomInventoryService roomInventoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Booking bookProduct(long roomTypeId, BookingRequestDto bookingRequestDto, AuthUser loginUser) {
@@ -36,6 +39,8 @@ public class BookingService {
         roomInventoryService.reduceInventory(roomTypeId, roomInventories.getRoomInventories());
 
         Booking booking = bookingRequestDto.toEntity(loginUser.getId(), roomTypeId);
-        return bookingRepository.save(booking);
+        Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingCompletedEvent(savedBooking.getId(), roomTypeId));
+        return savedBooking;
     }
 }
@@ -0,0 +1,11 @@
+package com.project.jagoga.booking.domain;
+
+/*
+    숙소별 예약 건수 (BookingRepository.countByAccommodation 결과)
+ */
+public interface AccommodationBookingCount {
+
+    long getAccommodationId();
+
+    long getBookingCount();
+}
@@ -0,0 +1,18 @@
+package com.project.jagoga.booking.domain;
+
+import lombok.Getter;
+
+/*
+    예약이 저장된 뒤 발행되는 이벤트
+ */
+@Getter
+public class BookingCompletedEvent {
+
+    private final long bookingId;
+    private final long roomTypeId;
+
+    public BookingCompletedEvent(long bookingId, long roomTypeId) {
+        this.bookingId = bookingId;
+        this.roomTypeId = roomTypeId;
+    }
+}
@@ -1,6 +1,12 @@
 package com.project.jagoga.booking.domain;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
+
+    @Query("select r.accommodationId as accommodationId, count(b) as bookingCount"
+        + " from Booking b, RoomType r where b.roomTypeId = r.id group by r.accommodationId")
+    List<AccommodationBookingCount> countByAccommodation();
 }
@@ -6,6 +6,7 @@ import com.project.jagoga.category.presentation.dto.request.CategoryCreateReques
 import com.project.jagoga.exception.category.DuplicatedCategoryException;
 import com.project.jagoga.exception.category.NotExistCategoryException;
 import com.project.jagoga.user.domain.AuthUser;
+import com.project.jagoga.utils.UniqueConstraints;
 import com.project.jagoga.utils.VerificationUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,17 +22,11 @@ public class CategoryService {
     public Category registerCategory(CategoryCreateRequestDto categoryCreateRequestDto, AuthUser loginUser) {
         VerificationUtils.verifyAdminPermission(loginUser);
         Category category = categoryCreateRequestDto.toEntity();
-        validateDuplicateCategory(category);
-        return categoryRepository.save(category);
+        return UniqueConstraints.insertOrThrow(() -> categoryRepository.save(category),
+            DuplicatedCategoryException::new);
     }
 
     public Category getCategoryById(long categoryId) {
         return categoryRepository.findById(categoryId).orElseThrow(NotExistCategoryException::new);
     }
-
-    private void validateDuplicateCategory(Category category) {
-        if (categoryRepository.existsCategoryByName(category.getName())) {
-            throw new DuplicatedCategoryException();
-        }
-    }
 }
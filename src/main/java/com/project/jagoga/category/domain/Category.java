@@ -19,6 +19,8 @@ public class Category {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "category_id")
     private Long id;
+
+    @Column(unique = true)
     private String name;
 
     public static Category createInstance(String name) {
@@ -0,0 +1,8 @@
+package com.project.jagoga.exception.accommodation;
+
+public class AccommodationDetailUnavailableException extends RuntimeException {
+
+    public AccommodationDetailUnavailableException() {
+        super("요청이 많아 숙소 정보를 불러올 수 없습니다. 잠시 후 다시 시도해주세요");
+    }
+}
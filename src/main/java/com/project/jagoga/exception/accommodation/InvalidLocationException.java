@@ -0,0 +1,8 @@
+package com.project.jagoga.exception.accommodation;
+
+public class InvalidLocationException extends RuntimeException {
+
+    public InvalidLocationException() {
+        super("위치 정보가 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.jagoga.exception.accommodation;
+
+public class InvalidStayPeriodException extends RuntimeException {
+
+    public InvalidStayPeriodException() {
+        super("유효하지 않은 기간입니다.");
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.jagoga.exception.roominventory;
+
+public class AvailabilityStreamLimitException extends RuntimeException {
+
+    public AvailabilityStreamLimitException() {
+        super("구독자가 많아 연결할 수 없습니다. 잠시 후 다시 시도해주세요");
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.jagoga.exception.roomtype;
+
+public class TooManyAccommodationIdsException extends RuntimeException {
+
+    public TooManyAccommodationIdsException() {
+        super("한 번에 조회할 수 있는 숙소는 100개까지입니다.");
+    }
+}
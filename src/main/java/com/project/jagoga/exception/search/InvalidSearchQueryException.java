@@ -0,0 +1,8 @@
+package com.project.jagoga.exception.search;
+
+public class InvalidSearchQueryException extends RuntimeException {
+
+    public InvalidSearchQueryException() {
+        super("검색어는 1자 이상 50자 이하로 입력하세요.");
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.jagoga.exception.user;
+
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+    }
+}
@@ -0,0 +1,52 @@
+package com.project.jagoga.global.config;
+
+import com.project.jagoga.exception.accommodation.AccommodationDetailUnavailableException;
+import com.project.jagoga.exception.roominventory.AvailabilityStreamLimitException;
+import com.project.jagoga.exception.user.PasswordHashingRejectedException;
+import com.project.jagoga.utils.BoundedExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExecutorConfig {
+
+    /*
+        BCrypt 해싱은 CPU를 오래 점유하므로 요청 스레드가 아닌 별도의 제한된 풀에서 수행한다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedExecutor passwordHashingExecutor(
+        @Value("${password.hashing.threads:0}") int threads,
+        @Value("${password.hashing.queue-capacity:100}") int queueCapacity
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedExecutor("password-hashing", poolSize, queueCapacity,
+            PasswordHashingRejectedException::new);
+    }
+
+    /*
+        숙소 상세 화면의 부분 조회(숙소, 룸타입, 재고)를 동시에 수행한다.
+        DB 커넥션을 잡는 작업이므로 스레드 수는 커넥션 풀보다 작게 둔다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedExecutor accommodationDetailExecutor(
+        @Value("${accommodation.detail.threads:4}") int threads,
+        @Value("${accommodation.detail.queue-capacity:200}") int queueCapacity
+    ) {
+        return new BoundedExecutor("accommodation-detail", threads, queueCapacity,
+            AccommodationDetailUnavailableException::new);
+    }
+
+    /*
+        재고 변경 SSE 전송용 실행기
+        느린 구독자에게 쓰는 동안 다른 구독자와 스케줄러 스레드가 기다리지 않도록 전송만 따로 수행한다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedExecutor availabilityStreamExecutor(
+        @Value("${roominventory.stream.threads:2}") int threads,
+        @Value("${roominventory.stream.queue-capacity:1000}") int queueCapacity
+    ) {
+        return new BoundedExecutor("availability-stream", threads, queueCapacity,
+            AvailabilityStreamLimitException::new);
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.jagoga.roominventory.application;
+
+import com.project.jagoga.roominventory.domain.AvailabilityChange;
+import com.project.jagoga.roominventory.domain.InventoryChange;
+import com.project.jagoga.roominventory.infrastructure.AvailabilityStreamHub;
+import com.project.jagoga.roominventory.infrastructure.JdbcInventoryChangeRepository;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+    재고 변경 피드(room_inventory_change)를 따라가며 구독 중인 클라이언트에게 SSE로 보낸다.
+    coalesce-millis마다 마지막으로 읽은 순번 이후의 변경을 읽어 룸타입별로 한 번에 모든 구독자에게 보내므로,
+    다른 인스턴스에서 커밋된 변경도 전달된다.
+    구독 직후에는 아무것도 보내지 않으므로 클라이언트는 구독한 뒤 달력을 조회한다.
+ */
+@Service
+public class AvailabilityStreamService {
+
+    private static final long NOT_STARTED = -1L;
+
+    private final RoomTypeService roomTypeService;
+    private final JdbcInventoryChangeRepository jdbcInventoryChangeRepository;
+    private final AvailabilityStreamHub availabilityStreamHub;
+    private final int batchSize;
+    private long lastSequence = NOT_STARTED;
+
+    public AvailabilityStreamService(
+        RoomTypeService roomTypeService,
+        JdbcInventoryChangeRepository jdbcInventoryChangeRepository,
+        AvailabilityStreamHub availabilityStreamHub,
+        @Value("${roominventory.change-feed.batch-size:500}") int batchSize
+    ) {
+        this.roomTypeService = roomTypeService;
+        this.jdbcInventoryChangeRepository = jdbcInventoryChangeRepository;
+        this.availabilityStreamHub = availabilityStreamHub;
+        this.batchSize = batchSize;
+    }
+
+    public SseEmitter subscribe(long roomTypeId) {
+        roomTypeService.getRoomTypeMetadata(roomTypeId);
+        return availabilityStreamHub.subscribe(roomTypeId);
+    }
+
+    /*
+        처음 호출될 때는 현재 순번만 기억하고 이후의 변경부터 보낸다.
+        구독자가 없는 룸타입의 변경도 순번은 넘긴다.
+     */
+    @Scheduled(fixedDelayString = "${roominventory.stream.coalesce-millis:500}")
+    public void flush() {
+        availabilityStreamHub.expireStuckSends();
+        if (lastSequence == NOT_STARTED) {
+            lastSequence = jdbcInventoryChangeRepository.getLastSequence();
+            return;
+        }
+
+        Map<Long, List<AvailabilityChange>> changesByRoomType = new LinkedHashMap<>();
+        List<InventoryChange> changes;
+        do {
+            changes = jdbcInventoryChangeRepository.findSince(lastSequence, batchSize);
+            for (InventoryChange change : changes) {
+                lastSequence = change.getSequence();
+                if (availabilityStreamHub.hasSubscribers(change.getRoomTypeId())) {
+                    changesByRoomType.computeIfAbsent(change.getRoomTypeId(), id -> new ArrayList<>())
+                        .add(new AvailabilityChange(change.getDate(), change.getAvailableCount()));
+                }
+            }
+        } while (changes.size() == batchSize);
+        changesByRoomType.forEach(availabilityStreamHub::publish);
+    }
+}
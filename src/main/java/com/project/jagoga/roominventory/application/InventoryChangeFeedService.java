@@ -0,0 +1,44 @@
+package com.project.jagoga.roominventory.application;
+
+import com.project.jagoga.roominventory.domain.InventoryChange;
+import com.project.jagoga.roominventory.infrastructure.JdbcInventoryChangeRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+    채널 매니저가 재고를 동기화할 때 쓰는 변경 피드
+    처음에는 getLastSequence로 순번을 받아 둔 뒤 전체 재고를 읽고, 이후로는 마지막으로 받은 순번 이후의 변경만 조회한다.
+    룸타입, 날짜마다 마지막 변경만 남으므로 밀린 만큼이 아니라 바뀐 행 수만큼만 읽는다.
+    순번은 커밋 후에 InventoryChangeSequencer가 매기므로, 전체 재고를 읽을 때 이미 반영된 변경이 뒤에 다시 조회될 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InventoryChangeFeedService {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final JdbcInventoryChangeRepository jdbcInventoryChangeRepository;
+
+    public long getLastSequence() {
+        return jdbcInventoryChangeRepository.getLastSequence();
+    }
+
+    /*
+        다음 페이지 존재 여부를 확인하기 위해 size + 1개를 조회한다.
+     */
+    public Slice<InventoryChange> getChangesSince(long sequence, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<InventoryChange> changes = jdbcInventoryChangeRepository.findSince(sequence, pageSize + 1);
+        boolean hasNext = changes.size() > pageSize;
+        if (hasNext) {
+            changes = changes.subList(0, pageSize);
+        }
+        return new SliceImpl<>(changes, PageRequest.of(0, pageSize), hasNext);
+    }
+}
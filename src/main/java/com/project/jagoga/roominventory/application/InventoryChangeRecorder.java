@@ -0,0 +1,24 @@
+package com.project.jagoga.roominventory.application;
+
+import com.project.jagoga.roominventory.domain.InventoryChangedEvent;
+import com.project.jagoga.roominventory.infrastructure.JdbcInventoryChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+    재고 변경 구간을 같은 트랜잭션 안에서 순번 없이 기록한다.
+    변경이 롤백되면 기록도 함께 롤백되고, 커밋되면 InventoryChangeSequencer가 순번을 매긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InventoryChangeRecorder {
+
+    private final JdbcInventoryChangeRepository jdbcInventoryChangeRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        jdbcInventoryChangeRepository.record(event.getRoomTypeId(), event.getStartDate(), event.getEndDate());
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.jagoga.roominventory.application;
+
+import com.project.jagoga.roominventory.infrastructure.JdbcInventoryChangeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+    커밋된 재고 변경 구간에 변경 피드 순번을 매긴다.
+    순번은 재고를 바꾸는 트랜잭션 밖에서 매기므로 예약이 순번 행 락을 기다리지 않고,
+    변경 피드에는 sequence-interval-millis 정도 늦게 나타난다.
+ */
+@Component
+public class InventoryChangeSequencer {
+
+    private final JdbcInventoryChangeRepository jdbcInventoryChangeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public InventoryChangeSequencer(
+        JdbcInventoryChangeRepository jdbcInventoryChangeRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${roominventory.change-feed.batch-size:500}") int batchSize
+    ) {
+        this.jdbcInventoryChangeRepository = jdbcInventoryChangeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${roominventory.change-feed.sequence-interval-millis:200}")
+    public void sequence() {
+        int processed;
+        do {
+            processed = sequenceBatch();
+        } while (processed == batchSize);
+    }
+
+    private int sequenceBatch() {
+        Integer processed = transactionTemplate.execute(status ->
+            jdbcInventoryChangeRepository.sequencePending(batchSize));
+        return processed == null ? 0 : processed;
+    }
+}
@@ -1,26 +1,35 @@
 package com.project.jagoga.roominventory.application;
 
 import com.project.jagoga.aop.RoomTypeLock;
+import com.project.jagoga.exception.accommodation.InvalidStayPeriodException;
 import com.project.jagoga.exception.roominventory.DuplicatedInventoryException;
 import com.project.jagoga.exception.roominventory.InventoryCountNegativeConstraintException;
 import com.project.jagoga.exception.roominventory.NotExistInventoryException;
+import com.project.jagoga.roominventory.domain.AvailabilityCalendar;
+import com.project.jagoga.roominventory.domain.InventoryChangedEvent;
 import com.project.jagoga.roominventory.domain.RoomInventories;
 import com.project.jagoga.roominventory.domain.RoomInventory;
 import com.project.jagoga.roominventory.domain.RoomInventoryRepository;
+import com.project.jagoga.roominventory.domain.RoomTypeAvailabilities;
 import com.project.jagoga.roominventory.infrastructure.JdbcRoomInventoryRepository;
 import com.project.jagoga.roominventory.presentation.dto.RoomInventoryAddRequestDto;
 import com.project.jagoga.roominventory.presentation.dto.RoomInventoryUpdateRequestDto;
 import com.project.jagoga.roomtype.application.RoomTypeService;
-import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.roomtype.domain.RoomTypeMetadata;
 import com.project.jagoga.user.domain.AuthUser;
 import com.project.jagoga.utils.VerificationUtils;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,17 +37,20 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional
-@RoomTypeLock
 public class RoomInventoryService {
 
+    public static final int MAX_AVAILABILITY_NIGHTS = 30;
+
     private final RoomTypeService roomTypeService;
     private final RoomInventoryRepository roomInventoryRepository;
     private final JdbcRoomInventoryRepository jdbcRoomInventoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @RoomTypeLock
     public void addInventory(
         long roomTypeId, RoomInventoryAddRequestDto roomInventoryAddRequestDto, AuthUser loginUser
     ) {
-        RoomType roomType = roomTypeService.getRoomTypeById(roomTypeId);
+        RoomTypeMetadata roomType = roomTypeService.getRoomTypeMetadata(roomTypeId);
         VerificationUtils.verifyOwnerPermission(loginUser, roomType.getOwnerId());
 
         LocalDate startDate = roomInventoryAddRequestDto.getStartDate();
@@ -60,20 +72,76 @@ public class RoomInventoryService {
         } catch (DuplicateKeyException e) {
             throw new DuplicatedInventoryException();
         }
+        eventPublisher.publishEvent(new InventoryChangedEvent(roomTypeId, startDate, endDate));
     }
 
+    @RoomTypeLock
     public void reduceInventory(long roomTypeId, List<RoomInventory> roomInventories) {
         jdbcRoomInventoryRepository.batchReduceRoomInventories(roomInventories);
+        publishInventoryChanged(roomTypeId, roomInventories);
     }
 
     public List<RoomInventory> getInventories(long roomTypeId, LocalDate checkInDate, LocalDate checkOutDate) {
         return roomInventoryRepository.findByRoomTypeIdAndInventoryDateBetween(roomTypeId, checkInDate, checkOutDate);
     }
 
+    /*
+        checkInDate부터 checkOutDate 전날까지 예약 가능한 RoomType이 있는 숙소만 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getAvailableAccommodationIds(
+        Collection<Long> accommodationIds, LocalDate checkInDate, LocalDate checkOutDate
+    ) {
+        if (accommodationIds.isEmpty()) {
+            return Set.of();
+        }
+        long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        return new HashSet<>(roomInventoryRepository.findAvailableAccommodationIds(accommodationIds, checkInDate,
+            checkOutDate, nights));
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Long> getAvailableRoomTypeIds(
+        Collection<Long> roomTypeIds, LocalDate checkInDate, LocalDate checkOutDate
+    ) {
+        if (roomTypeIds.isEmpty()) {
+            return Set.of();
+        }
+        long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        return new HashSet<>(roomInventoryRepository.findAvailableRoomTypeIds(roomTypeIds, checkInDate,
+            checkOutDate, nights));
+    }
+
+    /*
+        숙소의 모든 룸타입에 대해 checkInDate부터 checkOutDate 전날까지 예약 가능한 객실 수를 한 번에 조회한다.
+        룸타입마다 getInventories를 호출하지 않고 SQL 한 번으로 구한다.
+     */
+    @Transactional(readOnly = true)
+    public RoomTypeAvailabilities getAvailabilities(
+        long accommodationId, LocalDate checkInDate, LocalDate checkOutDate
+    ) {
+        if (checkInDate == null || checkOutDate == null || !checkInDate.isBefore(checkOutDate)
+            || ChronoUnit.DAYS.between(checkInDate, checkOutDate) > MAX_AVAILABILITY_NIGHTS) {
+            throw new InvalidStayPeriodException();
+        }
+        long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        return jdbcRoomInventoryRepository.findAvailabilities(accommodationId, checkInDate, checkOutDate, nights);
+    }
+
+    /*
+        존재하지 않는 룸타입이면 예외가 발생한다.
+     */
+    @Transactional(readOnly = true)
+    public AvailabilityCalendar getCalendar(long roomTypeId, YearMonth month) {
+        roomTypeService.getRoomTypeMetadata(roomTypeId);
+        return jdbcRoomInventoryRepository.findCalendar(roomTypeId, month);
+    }
+
+    @RoomTypeLock
     public void changeStock(
         long roomTypeId, RoomInventoryUpdateRequestDto roomInventoryUpdateRequestDto, AuthUser loginUser
     ) {
-        RoomType roomType = roomTypeService.getRoomTypeById(roomTypeId);
+        RoomTypeMetadata roomType = roomTypeService.getRoomTypeMetadata(roomTypeId);
         VerificationUtils.verifyOwnerPermission(loginUser, roomType.getOwnerId());
 
         LocalDate startDate = roomInventoryUpdateRequestDto.getStartDate();
@@ -94,5 +162,20 @@ public class RoomInventoryService {
         });
 
         jdbcRoomInventoryRepository.batchChangeRoomInventories(roomInventories.getRoomInventories(), count);
+        eventPublisher.publishEvent(new InventoryChangedEvent(roomTypeId, startDate, endDate));
+    }
+
+    private void publishInventoryChanged(long roomTypeId, List<RoomInventory> roomInventories) {
+        if (roomInventories.isEmpty()) {
+            return;
+        }
+        LocalDate startDate = roomInventories.get(0).getInventoryDate();
+        LocalDate endDate = startDate;
+        for (RoomInventory roomInventory : roomInventories) {
+            LocalDate inventoryDate = roomInventory.getInventoryDate();
+            startDate = inventoryDate.isBefore(startDate) ? inventoryDate : startDate;
+            endDate = inventoryDate.isAfter(endDate) ? inventoryDate : endDate;
+        }
+        eventPublisher.publishEvent(new InventoryChangedEvent(roomTypeId, startDate, endDate));
     }
 }
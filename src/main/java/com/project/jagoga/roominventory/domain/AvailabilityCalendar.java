@@ -0,0 +1,62 @@
+package com.project.jagoga.roominventory.domain;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+/*
+    한 룸타입의 한 달 재고
+    날짜별 객체 대신 startDate(그 달 1일)부터의 하루 단위 int 배열로 보관한다.
+    counts[i]는 startDate + i일의 available_count이며, 재고가 등록되지 않은 날은 NO_INVENTORY(-1)이다.
+ */
+@Getter
+public class AvailabilityCalendar {
+
+    public static final int NO_INVENTORY = -1;
+
+    private final long roomTypeId;
+    private final LocalDate startDate;
+    private final int[] counts;
+
+    private AvailabilityCalendar(long roomTypeId, LocalDate startDate, int[] counts) {
+        this.roomTypeId = roomTypeId;
+        this.startDate = startDate;
+        this.counts = counts;
+    }
+
+    public static AvailabilityCalendar empty(long roomTypeId, YearMonth month) {
+        int[] counts = new int[month.lengthOfMonth()];
+        Arrays.fill(counts, NO_INVENTORY);
+        return new AvailabilityCalendar(roomTypeId, month.atDay(1), counts);
+    }
+
+    public LocalDate getEndDate() {
+        return startDate.plusDays(counts.length - 1L);
+    }
+
+    /*
+        달 밖의 날짜는 무시한다.
+     */
+    public void set(LocalDate date, int availableCount) {
+        long index = ChronoUnit.DAYS.between(startDate, date);
+        if (index >= 0 && index < counts.length) {
+            counts[(int) index] = availableCount;
+        }
+    }
+
+    /*
+        내용이 같으면 같은 값이므로 HTTP ETag로 사용한다.
+     */
+    public String getETag() {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 2 + Integer.BYTES * counts.length);
+        buffer.putLong(roomTypeId).putLong(startDate.toEpochDay());
+        for (int count : counts) {
+            buffer.putInt(count);
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(buffer.array()) + "\"";
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.jagoga.roominventory.domain;
+
+import java.time.LocalDate;
+import lombok.Getter;
+
+/*
+    date의 예약 가능 객실 수가 availableCount가 되었음을 나타낸다. (변화량이 아닌 변경 후 값)
+ */
+@Getter
+public class AvailabilityChange {
+
+    private final LocalDate date;
+    private final int availableCount;
+
+    public AvailabilityChange(LocalDate date, int availableCount) {
+        this.date = date;
+        this.availableCount = availableCount;
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.jagoga.roominventory.domain;
+
+import java.util.List;
+import lombok.Getter;
+
+/*
+    구독자에게 한 번에 보내는 룸타입의 재고 변경 묶음 (날짜 오름차순)
+ */
+@Getter
+public class AvailabilityDelta {
+
+    private final long roomTypeId;
+    private final List<AvailabilityChange> changes;
+
+    public AvailabilityDelta(long roomTypeId, List<AvailabilityChange> changes) {
+        this.roomTypeId = roomTypeId;
+        this.changes = changes;
+    }
+}
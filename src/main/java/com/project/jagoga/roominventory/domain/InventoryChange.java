@@ -0,0 +1,24 @@
+package com.project.jagoga.roominventory.domain;
+
+import java.time.LocalDate;
+import lombok.Getter;
+
+/*
+    sequence 시점에 바뀐 룸타입, 날짜의 현재 예약 가능 객실 수
+    재고 행이 삭제되었으면 availableCount는 AvailabilityCalendar.NO_INVENTORY이다.
+ */
+@Getter
+public class InventoryChange {
+
+    private final long sequence;
+    private final long roomTypeId;
+    private final LocalDate date;
+    private final int availableCount;
+
+    public InventoryChange(long sequence, long roomTypeId, LocalDate date, int availableCount) {
+        this.sequence = sequence;
+        this.roomTypeId = roomTypeId;
+        this.date = date;
+        this.availableCount = availableCount;
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.jagoga.roominventory.domain;
+
+import java.time.LocalDate;
+import lombok.Getter;
+
+/*
+    재고가 추가/변경/차감된 뒤 발행되는 이벤트
+    startDate ~ endDate(포함) 구간의 재고가 바뀌었음을 나타낸다.
+ */
+@Getter
+public class InventoryChangedEvent {
+
+    private final long roomTypeId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    public InventoryChangedEvent(long roomTypeId, LocalDate startDate, LocalDate endDate) {
+        this.roomTypeId = roomTypeId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+}
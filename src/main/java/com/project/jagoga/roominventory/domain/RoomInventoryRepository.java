@@ -1,13 +1,39 @@
 package com.project.jagoga.roominventory.domain;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RoomInventoryRepository extends JpaRepository<RoomInventory, Long> {
 
     List<RoomInventory> findByRoomTypeIdAndInventoryDateBetween(Long roomTypeId, LocalDate from, LocalDate to);
 
     Optional<RoomInventory> findByRoomTypeIdAndInventoryDate(Long roomTypeId, LocalDate date);
+
+    /*
+        [startDate, endDate) 모든 날짜에 재고가 남은 RoomType이 하나라도 있는 숙소 id
+        RoomType마다 (roomtype_id, inventory_date) 인덱스 범위만 센다.
+     */
+    @Query("select distinct r.accommodationId from RoomType r where r.accommodationId in :accommodationIds"
+        + " and (select count(i) from RoomInventory i where i.roomTypeId = r.id and i.inventoryDate >= :startDate"
+        + " and i.inventoryDate < :endDate and i.availableCount > 0) = :nights")
+    List<Long> findAvailableAccommodationIds(@Param("accommodationIds") Collection<Long> accommodationIds,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate,
+                                             @Param("nights") long nights);
+
+    /*
+        [startDate, endDate) 모든 날짜에 재고가 남은 RoomType id
+     */
+    @Query("select i.roomTypeId from RoomInventory i where i.roomTypeId in :roomTypeIds"
+        + " and i.inventoryDate >= :startDate and i.inventoryDate < :endDate and i.availableCount > 0"
+        + " group by i.roomTypeId having count(i) = :nights")
+    List<Long> findAvailableRoomTypeIds(@Param("roomTypeIds") Collection<Long> roomTypeIds,
+                                        @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate,
+                                        @Param("nights") long nights);
 }
@@ -0,0 +1,92 @@
+package com.project.jagoga.roominventory.domain;
+
+import java.util.Arrays;
+
+/*
+    한 숙소의 룸타입별 예약 가능 객실 수
+    룸타입마다 객체를 만들지 않고 roomTypeId 오름차순으로 정렬된 long[], int[] 두 배열에 보관하며,
+    roomTypeId 조회는 이진 탐색으로 한다.
+    예약 가능 객실 수는 기간 중 가장 적은 재고이고, 재고가 없는 날이 있으면 0이다.
+ */
+public class RoomTypeAvailabilities {
+
+    private final long[] roomTypeIds;
+    private final int[] availableCounts;
+    private final int size;
+
+    private RoomTypeAvailabilities(long[] roomTypeIds, int[] availableCounts, int size) {
+        this.roomTypeIds = roomTypeIds;
+        this.availableCounts = availableCounts;
+        this.size = size;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getRoomTypeId(int index) {
+        checkIndex(index);
+        return roomTypeIds[index];
+    }
+
+    public int getAvailableCount(int index) {
+        checkIndex(index);
+        return availableCounts[index];
+    }
+
+    public boolean contains(long roomTypeId) {
+        return Arrays.binarySearch(roomTypeIds, 0, size, roomTypeId) >= 0;
+    }
+
+    /*
+        숙소에 없는 룸타입이면 0
+     */
+    public int availableCountOf(long roomTypeId) {
+        int index = Arrays.binarySearch(roomTypeIds, 0, size, roomTypeId);
+        return index < 0 ? 0 : availableCounts[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+    }
+
+    /*
+        roomTypeId 오름차순으로 추가해야 한다.
+     */
+    public static class Builder {
+
+        private long[] roomTypeIds;
+        private int[] availableCounts;
+        private int size;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 4);
+            this.roomTypeIds = new long[capacity];
+            this.availableCounts = new int[capacity];
+        }
+
+        public Builder add(long roomTypeId, int availableCount) {
+            if (size > 0 && roomTypeIds[size - 1] >= roomTypeId) {
+                throw new IllegalArgumentException("roomTypeId must be added in ascending order");
+            }
+            if (size == roomTypeIds.length) {
+                roomTypeIds = Arrays.copyOf(roomTypeIds, size * 2);
+                availableCounts = Arrays.copyOf(availableCounts, size * 2);
+            }
+            roomTypeIds[size] = roomTypeId;
+            availableCounts[size] = Math.max(availableCount, 0);
+            size++;
+            return this;
+        }
+
+        public RoomTypeAvailabilities build() {
+            return new RoomTypeAvailabilities(roomTypeIds, availableCounts, size);
+        }
+    }
+}
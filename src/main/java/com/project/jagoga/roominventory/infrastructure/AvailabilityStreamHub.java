@@ -0,0 +1,231 @@
+package com.project.jagoga.roominventory.infrastructure;
+
+import com.project.jagoga.exception.roominventory.AvailabilityStreamLimitException;
+import com.project.jagoga.roominventory.domain.AvailabilityChange;
+import com.project.jagoga.roominventory.domain.AvailabilityDelta;
+import com.project.jagoga.utils.BoundedExecutor;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+    룸타입별 SSE 구독자를 보관하고 재고 변경을 보낸다.
+
+    구독자마다 보내지 못한 변경을 날짜별 최신 값으로 합쳐 두고 availabilityStreamExecutor에서 한 번에 보낸다.
+    마지막으로 전송에 성공한 뒤 받은 변경 묶음(flush 한 번에 하나)이 maxPendingDeltas를 넘거나,
+    전송 하나가 sendTimeoutMillis 넘게 끝나지 않으면 전송이 따라오지 못하는 것으로 보고 연결을 끊는다.
+    (다시 연결해 달력을 새로 조회한다)
+    묶음 하나에 담긴 날짜 수는 보지 않으므로 넓은 구간의 변경이 빠른 구독자를 끊지 않는다.
+
+    SseEmitter.send는 제한 시간 없이 블로킹되고 complete와 같은 모니터를 쓰므로,
+    막힌 전송은 구독만 정리하고 연결 종료는 전송하던 스레드가 전송이 끝난 뒤에 한다.
+    막힌 쓰기 자체는 server.tomcat.connection-timeout이 지나면 실패해 스레드를 돌려준다.
+ */
+@Component
+public class AvailabilityStreamHub {
+
+    public static final String EVENT_NAME = "availability";
+
+    private final BoundedExecutor availabilityStreamExecutor;
+    private final int maxSubscribers;
+    private final int maxPendingDeltas;
+    private final long timeoutMillis;
+    private final long sendTimeoutMillis;
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public AvailabilityStreamHub(
+        @Qualifier("availabilityStreamExecutor") BoundedExecutor availabilityStreamExecutor,
+        @Value("${roominventory.stream.max-subscribers:1000}") int maxSubscribers,
+        @Value("${roominventory.stream.max-pending-deltas:20}") int maxPendingDeltas,
+        @Value("${roominventory.stream.timeout-millis:1800000}") long timeoutMillis,
+        @Value("${roominventory.stream.send-timeout-millis:5000}") long sendTimeoutMillis
+    ) {
+        this.availabilityStreamExecutor = availabilityStreamExecutor;
+        this.maxSubscribers = maxSubscribers;
+        this.maxPendingDeltas = maxPendingDeltas;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+    }
+
+    public SseEmitter subscribe(long roomTypeId) {
+        return subscribe(roomTypeId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(long roomTypeId, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new AvailabilityStreamLimitException();
+        }
+        Subscription subscription = new Subscription(roomTypeId, emitter);
+        subscriptions.compute(roomTypeId, (id, set) -> {
+            Set<Subscription> current = set == null ? ConcurrentHashMap.newKeySet() : set;
+            current.add(subscription);
+            return current;
+        });
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return emitter;
+    }
+
+    public boolean hasSubscribers(long roomTypeId) {
+        return subscriptions.containsKey(roomTypeId);
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public void publish(long roomTypeId, List<AvailabilityChange> changes) {
+        Set<Subscription> current = subscriptions.get(roomTypeId);
+        if (current == null || changes.isEmpty()) {
+            return;
+        }
+        current.forEach(subscription -> subscription.offer(changes));
+    }
+
+    /*
+        변경이 없어 offer가 호출되지 않는 구독도 막힌 전송을 정리하기 위해 주기적으로 호출한다.
+     */
+    public void expireStuckSends() {
+        long now = System.currentTimeMillis();
+        subscriptions.values().forEach(current -> current.forEach(subscription -> {
+            if (subscription.isSendStuck(now)) {
+                subscription.disconnect();
+            }
+        }));
+    }
+
+    private final class Subscription {
+
+        private final long roomTypeId;
+        private final SseEmitter emitter;
+        private final TreeMap<LocalDate, Integer> pending = new TreeMap<>();
+        private int unsentDeltas;
+        private boolean draining;
+        private boolean closed;
+        private long sendStartedAt;
+
+        private Subscription(long roomTypeId, SseEmitter emitter) {
+            this.roomTypeId = roomTypeId;
+            this.emitter = emitter;
+        }
+
+        private void offer(List<AvailabilityChange> changes) {
+            boolean overflow;
+            boolean startDrain = false;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                changes.forEach(change -> pending.put(change.getDate(), change.getAvailableCount()));
+                unsentDeltas++;
+                overflow = unsentDeltas > maxPendingDeltas || isSendStuck(System.currentTimeMillis());
+                if (!overflow && !draining) {
+                    draining = true;
+                    startDrain = true;
+                }
+            }
+            if (overflow) {
+                disconnect();
+            } else if (startDrain) {
+                availabilityStreamExecutor.submit(this::drain)
+                    .whenComplete((ignored, throwable) -> {
+                        if (throwable != null) {
+                            disconnect();
+                        }
+                    });
+            }
+        }
+
+        private Void drain() {
+            while (true) {
+                List<AvailabilityChange> changes = new ArrayList<>();
+                int deltas;
+                synchronized (this) {
+                    if (closed || pending.isEmpty()) {
+                        draining = false;
+                        return null;
+                    }
+                    pending.forEach((date, count) -> changes.add(new AvailabilityChange(date, count)));
+                    pending.clear();
+                    deltas = unsentDeltas;
+                    sendStartedAt = System.currentTimeMillis();
+                }
+                try {
+                    emitter.send(SseEmitter.event().name(EVENT_NAME).data(new AvailabilityDelta(roomTypeId, changes)));
+                } catch (IOException | IllegalStateException e) {
+                    synchronized (this) {
+                        sendStartedAt = 0L;
+                    }
+                    close();
+                    return null;
+                }
+                boolean expired;
+                synchronized (this) {
+                    sendStartedAt = 0L;
+                    unsentDeltas -= deltas;
+                    expired = closed;
+                }
+                if (expired) {
+                    // 전송 중에 끊긴 구독은 여기서 연결을 닫는다
+                    complete();
+                    return null;
+                }
+            }
+        }
+
+        private synchronized boolean isSendStuck(long now) {
+            return sendStartedAt != 0L && now - sendStartedAt > sendTimeoutMillis;
+        }
+
+        /*
+            전송 중이면 complete가 전송이 끝날 때까지 기다리므로, 연결 종료는 전송하던 스레드에 맡긴다.
+         */
+        private void disconnect() {
+            if (!close()) {
+                complete();
+            }
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 끝난 연결
+            }
+        }
+
+        /*
+            닫을 때 전송 중이었는지 반환한다.
+         */
+        private boolean close() {
+            boolean sending;
+            synchronized (this) {
+                sending = sendStartedAt != 0L;
+                if (closed) {
+                    return sending;
+                }
+                closed = true;
+                pending.clear();
+            }
+            subscriberCount.decrementAndGet();
+            subscriptions.computeIfPresent(roomTypeId, (id, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+            return sending;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.jagoga.roominventory.infrastructure;
+
+import com.project.jagoga.roominventory.domain.AvailabilityCalendar;
+import com.project.jagoga.roominventory.domain.InventoryChange;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+    재고 변경 순번 (inventory_change_sequence)과 룸타입, 날짜별 마지막 변경 순번 (room_inventory_change)
+    재고를 바꾸는 트랜잭션은 순번 없이 room_inventory_change_pending에 구간만 추가하고,
+    커밋된 구간은 InventoryChangeSequencer가 한 번에 하나씩 순번을 매겨 room_inventory_change로 옮긴다.
+    같은 룸타입, 날짜가 다시 바뀌면 이전 순번 행을 지우고 새 순번으로 넣으므로 행 수는 재고 행 수를 넘지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcInventoryChangeRepository {
+
+    private static final int SEQUENCE_ID = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /*
+        startDate ~ endDate(포함) 구간이 바뀌었음을 순번 없이 기록한다.
+        공유하는 행을 잠그지 않으므로 재고를 바꾸는 트랜잭션끼리 서로 기다리지 않는다.
+     */
+    public void record(long roomTypeId, LocalDate startDate, LocalDate endDate) {
+        jdbcTemplate.update("INSERT INTO room_inventory_change_pending (roomtype_id, start_date, end_date)"
+            + " VALUES (?, ?, ?)", roomTypeId, startDate, endDate);
+    }
+
+    /*
+        커밋된 구간을 기록된 순서로 limit개 가져와 날짜마다 새 순번을 매기고, 처리한 수를 반환한다.
+        READ COMMITTED 트랜잭션 안에서 호출해야 한다. 순번 행을 먼저 잠그므로 순번을 매기는 트랜잭션은 한 번에 하나이고,
+        순번과 변경 행이 함께 커밋되기 때문에 조회하는 쪽은 마지막으로 받은 순번 이후만 읽어도 중간에 빠지는 변경이 없다.
+     */
+    public int sequencePending(int limit) {
+        long sequence = jdbcTemplate.queryForObject("SELECT last_sequence FROM inventory_change_sequence"
+            + " WHERE sequence_id = ? FOR UPDATE", Long.class, SEQUENCE_ID);
+        List<PendingChange> pendingChanges = jdbcTemplate.query("SELECT pending_id, roomtype_id, start_date, end_date"
+                + " FROM room_inventory_change_pending ORDER BY pending_id LIMIT ?",
+            (rs, count) -> new PendingChange(rs.getLong("pending_id"), rs.getLong("roomtype_id"),
+                rs.getObject("start_date", LocalDate.class), rs.getObject("end_date", LocalDate.class)),
+            limit);
+        if (pendingChanges.isEmpty()) {
+            return 0;
+        }
+
+        for (PendingChange pendingChange : pendingChanges) {
+            int count = (int) ChronoUnit.DAYS.between(pendingChange.startDate, pendingChange.endDate) + 1;
+            List<Object[]> rows = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                rows.add(new Object[]{pendingChange.roomTypeId, pendingChange.startDate.plusDays(i), ++sequence});
+            }
+            jdbcTemplate.update("DELETE FROM room_inventory_change"
+                    + " WHERE roomtype_id = ? AND inventory_date BETWEEN ? AND ?",
+                pendingChange.roomTypeId, pendingChange.startDate, pendingChange.endDate);
+            jdbcTemplate.batchUpdate("INSERT INTO room_inventory_change"
+                + " (roomtype_id, inventory_date, change_sequence) VALUES (?, ?, ?)", rows);
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM room_inventory_change_pending WHERE pending_id = ?", pendingChanges,
+            pendingChanges.size(), (ps, pendingChange) -> ps.setLong(1, pendingChange.pendingId));
+        jdbcTemplate.update("UPDATE inventory_change_sequence SET last_sequence = ? WHERE sequence_id = ?",
+            sequence, SEQUENCE_ID);
+        return pendingChanges.size();
+    }
+
+    public long getLastSequence() {
+        return jdbcTemplate.queryForObject("SELECT last_sequence FROM inventory_change_sequence"
+            + " WHERE sequence_id = ?", Long.class, SEQUENCE_ID);
+    }
+
+    /*
+        sequence보다 큰 순번의 변경을 순번 순으로 limit개 조회한다.
+        객실 수는 변경 당시 값이 아니라 지금 값이다. (그 뒤에 다시 바뀌었다면 더 큰 순번으로도 조회된다)
+     */
+    public List<InventoryChange> findSince(long sequence, int limit) {
+        String sql = "SELECT c.change_sequence, c.roomtype_id, c.inventory_date, i.available_count"
+            + " FROM room_inventory_change c"
+            + " LEFT JOIN room_inventory i ON i.roomtype_id = c.roomtype_id AND i.inventory_date = c.inventory_date"
+            + " WHERE c.change_sequence > ? ORDER BY c.change_sequence LIMIT ?";
+
+        return jdbcTemplate.query(sql, (rs, count) -> {
+            int availableCount = rs.getInt("available_count");
+            if (rs.wasNull()) {
+                availableCount = AvailabilityCalendar.NO_INVENTORY;
+            }
+            return new InventoryChange(rs.getLong("change_sequence"), rs.getLong("roomtype_id"),
+                rs.getObject("inventory_date", LocalDate.class), availableCount);
+        }, sequence, limit);
+    }
+
+    private static class PendingChange {
+
+        private final long pendingId;
+        private final long roomTypeId;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+
+        private PendingChange(long pendingId, long roomTypeId, LocalDate startDate, LocalDate endDate) {
+            this.pendingId = pendingId;
+            this.roomTypeId = roomTypeId;
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.project.jagoga.roominventory.infrastructure;
 
 import com.project.jagoga.exception.booking.NonBookableException;
+import com.project.jagoga.roominventory.domain.AvailabilityCalendar;
 import com.project.jagoga.roominventory.domain.RoomInventory;
+import com.project.jagoga.roominventory.domain.RoomTypeAvailabilities;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DuplicateKeyException;
@@ -84,4 +88,42 @@ public class JdbcRoomInventoryRepository {
             }
         });
     }
+
+    /*
+        숙소의 모든 룸타입에 대해 [startDate, endDate) 구간의 최소 재고와 재고 행 수를 한 번의 쿼리로 구한다.
+        재고 행이 nights보다 적은 룸타입은 재고가 없는 날이 있는 것이므로 0으로 본다.
+        재고가 전혀 없는 룸타입도 LEFT JOIN으로 함께 반환된다.
+     */
+    public RoomTypeAvailabilities findAvailabilities(long accommodationId, LocalDate startDate, LocalDate endDate,
+                                                     long nights) {
+        String sql = "SELECT r.roomtype_id, MIN(i.available_count) AS min_count, COUNT(i.roominventory_id) AS days"
+            + " FROM roomtype r LEFT JOIN room_inventory i ON i.roomtype_id = r.roomtype_id"
+            + " AND i.inventory_date >= ? AND i.inventory_date < ?"
+            + " WHERE r.accommodation_id = ?"
+            + " GROUP BY r.roomtype_id ORDER BY r.roomtype_id";
+
+        return jdbcTemplate.query(sql, (ResultSet rs) -> {
+            RoomTypeAvailabilities.Builder builder = RoomTypeAvailabilities.builder(16);
+            while (rs.next()) {
+                int availableCount = rs.getLong("days") == nights ? rs.getInt("min_count") : 0;
+                builder.add(rs.getLong("roomtype_id"), availableCount);
+            }
+            return builder.build();
+        }, startDate, endDate, accommodationId);
+    }
+
+    /*
+        엔티티 대신 (inventory_date, available_count)만 읽어 배열에 채운다.
+        idx_roomtype_date (roomtype_id, inventory_date) 범위 조회이므로 한 달치 행만 읽는다.
+     */
+    public AvailabilityCalendar findCalendar(long roomTypeId, YearMonth month) {
+        AvailabilityCalendar calendar = AvailabilityCalendar.empty(roomTypeId, month);
+        String sql = "SELECT inventory_date, available_count FROM room_inventory"
+            + " WHERE roomtype_id = ? AND inventory_date BETWEEN ? AND ?";
+
+        jdbcTemplate.query(sql, (ResultSet rs) -> {
+            calendar.set(rs.getObject("inventory_date", LocalDate.class), rs.getInt("available_count"));
+        }, roomTypeId, calendar.getStartDate(), calendar.getEndDate());
+        return calendar;
+    }
 }
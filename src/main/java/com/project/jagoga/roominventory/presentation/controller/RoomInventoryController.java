@@ -1,24 +1,44 @@
 package com.project.jagoga.roominventory.presentation.controller;
 
+import com.project.jagoga.exception.dto.ApiResponse;
+import com.project.jagoga.roominventory.application.AvailabilityStreamService;
+import com.project.jagoga.roominventory.application.InventoryChangeFeedService;
 import com.project.jagoga.roominventory.application.RoomInventoryService;
+import com.project.jagoga.roominventory.domain.AvailabilityCalendar;
+import com.project.jagoga.roominventory.presentation.dto.AvailabilityCalendarResponseDto;
+import com.project.jagoga.roominventory.presentation.dto.InventoryChangeFeedResponseDto;
 import com.project.jagoga.roominventory.presentation.dto.RoomInventoryAddRequestDto;
 import com.project.jagoga.roominventory.presentation.dto.RoomInventoryUpdateRequestDto;
+import com.project.jagoga.roominventory.presentation.dto.RoomTypeAvailabilityResponseDto;
 import com.project.jagoga.user.domain.AuthUser;
 import com.project.jagoga.user.domain.LoginCheck;
 import com.project.jagoga.user.domain.RequireLoginUser;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
 public class RoomInventoryController {
 
     private final RoomInventoryService roomInventoryService;
+    private final AvailabilityStreamService availabilityStreamService;
+    private final InventoryChangeFeedService inventoryChangeFeedService;
 
     @LoginCheck
     @PostMapping("/api/roomtypes/{roomTypeId}/roominventories")
@@ -39,4 +59,61 @@ public class RoomInventoryController {
     ) {
         roomInventoryService.changeStock(roomTypeId, roomInventoryUpdateRequestDto, loginUser);
     }
+
+    @GetMapping("/api/accommodation/{accommodationId}/roominventories")
+    public ApiResponse<List<RoomTypeAvailabilityResponseDto>> getAvailabilities(
+        @PathVariable final long accommodationId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate
+    ) {
+        return ApiResponse.createSuccess(RoomTypeAvailabilityResponseDto.listOf(
+            roomInventoryService.getAvailabilities(accommodationId, checkInDate, checkOutDate)));
+    }
+
+    /*
+        month는 yyyy-MM 형식이다.
+        달력 내용으로 만든 ETag가 If-None-Match와 같으면 본문 없이 304를 응답한다.
+     */
+    @GetMapping("/api/roomtypes/{roomTypeId}/roominventories/calendar")
+    public ResponseEntity<ApiResponse<AvailabilityCalendarResponseDto>> getCalendar(
+        @PathVariable final long roomTypeId,
+        @RequestParam final YearMonth month,
+        WebRequest webRequest
+    ) {
+        AvailabilityCalendar calendar = roomInventoryService.getCalendar(roomTypeId, month);
+        String eTag = calendar.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .body(ApiResponse.createSuccess(AvailabilityCalendarResponseDto.of(calendar)));
+    }
+
+    /*
+        룸타입의 재고가 바뀔 때마다 바뀐 날짜의 예약 가능 객실 수를 "availability" 이벤트로 보낸다.
+     */
+    @GetMapping(value = "/api/roomtypes/{roomTypeId}/roominventories/stream",
+        produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability(@PathVariable final long roomTypeId) {
+        return availabilityStreamService.subscribe(roomTypeId);
+    }
+
+    /*
+        since 이후에 바뀐 룸타입, 날짜의 현재 예약 가능 객실 수를 순번 순으로 조회한다.
+        응답의 lastSequence를 다음 요청의 since로 넘긴다.
+     */
+    @GetMapping("/api/roominventories/changes")
+    public ApiResponse<InventoryChangeFeedResponseDto> getChanges(
+        @RequestParam(defaultValue = "0") long since,
+        @RequestParam(defaultValue = "500") int size
+    ) {
+        return ApiResponse.createSuccess(
+            InventoryChangeFeedResponseDto.of(inventoryChangeFeedService.getChangesSince(since, size), since));
+    }
+
+    @GetMapping("/api/roominventories/changes/last-sequence")
+    public ApiResponse<Long> getLastChangeSequence() {
+        return ApiResponse.createSuccess(inventoryChangeFeedService.getLastSequence());
+    }
 }
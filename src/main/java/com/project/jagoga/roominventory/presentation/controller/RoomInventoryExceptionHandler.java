@@ -1,7 +1,10 @@
 package com.project.jagoga.roominventory.presentation.controller;
 
+import com.project.jagoga.exception.accommodation.InvalidStayPeriodException;
 import com.project.jagoga.exception.dto.ApiResponse;
+import com.project.jagoga.exception.roominventory.AvailabilityStreamLimitException;
 import com.project.jagoga.exception.roominventory.DuplicatedInventoryException;
+import com.project.jagoga.exception.roomtype.NotExistRoomTypeException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,4 +17,20 @@ public class RoomInventoryExceptionHandler {
     public ResponseEntity<ApiResponse<?>> handleDuplicatedInventoryException(RuntimeException exception) {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.createError(exception.getMessage()));
     }
+
+    @ExceptionHandler(InvalidStayPeriodException.class)
+    public ResponseEntity<ApiResponse<?>> handleInvalidStayPeriodException(RuntimeException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.createError(exception.getMessage()));
+    }
+
+    @ExceptionHandler(NotExistRoomTypeException.class)
+    public ResponseEntity<ApiResponse<?>> handleNotExistRoomTypeException(RuntimeException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.createError(exception.getMessage()));
+    }
+
+    @ExceptionHandler(AvailabilityStreamLimitException.class)
+    public ResponseEntity<ApiResponse<?>> handleAvailabilityStreamLimitException(RuntimeException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(ApiResponse.createError(exception.getMessage()));
+    }
 }
@@ -0,0 +1,27 @@
+package com.project.jagoga.roominventory.presentation.dto;
+
+import com.project.jagoga.roominventory.domain.AvailabilityCalendar;
+import java.time.LocalDate;
+import lombok.Getter;
+
+/*
+    counts[i]는 startDate + i일의 예약 가능 객실 수이며, 재고가 없는 날은 -1이다.
+ */
+@Getter
+public class AvailabilityCalendarResponseDto {
+
+    private final long roomTypeId;
+    private final LocalDate startDate;
+    private final int[] counts;
+
+    private AvailabilityCalendarResponseDto(long roomTypeId, LocalDate startDate, int[] counts) {
+        this.roomTypeId = roomTypeId;
+        this.startDate = startDate;
+        this.counts = counts;
+    }
+
+    public static AvailabilityCalendarResponseDto of(AvailabilityCalendar calendar) {
+        return new AvailabilityCalendarResponseDto(calendar.getRoomTypeId(), calendar.getStartDate(),
+            calendar.getCounts());
+    }
+}
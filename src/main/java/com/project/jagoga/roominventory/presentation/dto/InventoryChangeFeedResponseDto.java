@@ -0,0 +1,49 @@
+package com.project.jagoga.roominventory.presentation.dto;
+
+import com.project.jagoga.roominventory.domain.InventoryChange;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+/*
+    lastSequence는 다음 조회에 since로 넘길 값이다. 변경이 없으면 요청한 since를 그대로 돌려준다.
+ */
+@Getter
+public class InventoryChangeFeedResponseDto {
+
+    private final List<Change> changes;
+    private final long lastSequence;
+    private final boolean hasNext;
+
+    private InventoryChangeFeedResponseDto(List<Change> changes, long lastSequence, boolean hasNext) {
+        this.changes = changes;
+        this.lastSequence = lastSequence;
+        this.hasNext = hasNext;
+    }
+
+    public static InventoryChangeFeedResponseDto of(Slice<InventoryChange> changes, long since) {
+        List<Change> responses = changes.getContent().stream()
+            .map(Change::new)
+            .collect(Collectors.toList());
+        long lastSequence = responses.isEmpty() ? since : responses.get(responses.size() - 1).getSequence();
+        return new InventoryChangeFeedResponseDto(responses, lastSequence, changes.hasNext());
+    }
+
+    @Getter
+    public static class Change {
+
+        private final long sequence;
+        private final long roomTypeId;
+        private final LocalDate date;
+        private final int availableCount;
+
+        private Change(InventoryChange change) {
+            this.sequence = change.getSequence();
+            this.roomTypeId = change.getRoomTypeId();
+            this.date = change.getDate();
+            this.availableCount = change.getAvailableCount();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.jagoga.roominventory.presentation.dto;
+
+import com.project.jagoga.roominventory.domain.RoomTypeAvailabilities;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class RoomTypeAvailabilityResponseDto {
+
+    private final long roomTypeId;
+    private final int availableCount;
+
+    private RoomTypeAvailabilityResponseDto(long roomTypeId, int availableCount) {
+        this.roomTypeId = roomTypeId;
+        this.availableCount = availableCount;
+    }
+
+    public static List<RoomTypeAvailabilityResponseDto> listOf(RoomTypeAvailabilities availabilities) {
+        List<RoomTypeAvailabilityResponseDto> responses = new ArrayList<>(availabilities.size());
+        for (int i = 0; i < availabilities.size(); i++) {
+            responses.add(new RoomTypeAvailabilityResponseDto(availabilities.getRoomTypeId(i),
+                availabilities.getAvailableCount(i)));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.jagoga.roomtype.application;
+
+import com.project.jagoga.exception.accommodation.InvalidStayPeriodException;
+import com.project.jagoga.roominventory.application.RoomInventoryService;
+import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.roomtype.domain.RoomTypeMetadata;
+import com.project.jagoga.roomtype.domain.RoomTypeRepository;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+    도시 안에서 주어진 기간에 예약 가능한 가장 싼 RoomType k개를 구한다.
+    후보는 (price, roomTypeId) 순으로 묶음 단위로 읽고, 묶음마다 재고를 한 번에 확인한다.
+    후보가 이미 가격 순이므로 예약 가능한 후보를 앞에서부터 k개 채우면 그 뒤의 후보는 읽지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RoomTypeSearchService {
+
+    public static final int MAX_RESULT_SIZE = 50;
+    public static final int MAX_STAY_NIGHTS = 30;
+    private static final int CANDIDATE_CHUNK_SIZE = 100;
+
+    private final RoomTypeRepository roomTypeRepository;
+    private final RoomInventoryService roomInventoryService;
+
+    public List<RoomType> findCheapestAvailable(long cityId, LocalDate checkInDate, LocalDate checkOutDate, int size) {
+        if (checkInDate == null || checkOutDate == null || !checkInDate.isBefore(checkOutDate)
+            || ChronoUnit.DAYS.between(checkInDate, checkOutDate) > MAX_STAY_NIGHTS) {
+            throw new InvalidStayPeriodException();
+        }
+
+        int limit = Math.max(1, Math.min(size, MAX_RESULT_SIZE));
+        List<Long> roomTypeIds = new ArrayList<>(limit);
+        int lastPrice = Integer.MIN_VALUE;
+        long lastRoomTypeId = 0L;
+        List<RoomTypeMetadata> candidates;
+        do {
+            candidates = roomTypeRepository.findMetadataByCityIdAfter(cityId, lastPrice, lastRoomTypeId,
+                PageRequest.of(0, CANDIDATE_CHUNK_SIZE));
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            Set<Long> availableIds = roomInventoryService.getAvailableRoomTypeIds(
+                candidates.stream().map(RoomTypeMetadata::getRoomTypeId).collect(Collectors.toList()),
+                checkInDate, checkOutDate);
+            for (RoomTypeMetadata candidate : candidates) {
+                if (roomTypeIds.size() == limit) {
+                    break;
+                }
+                if (availableIds.contains(candidate.getRoomTypeId())) {
+                    roomTypeIds.add(candidate.getRoomTypeId());
+                }
+            }
+
+            RoomTypeMetadata last = candidates.get(candidates.size() - 1);
+            lastPrice = last.getPrice();
+            lastRoomTypeId = last.getRoomTypeId();
+        } while (candidates.size() == CANDIDATE_CHUNK_SIZE && roomTypeIds.size() < limit);
+
+        Map<Long, RoomType> roomTypes = roomTypeRepository.findAllById(roomTypeIds).stream()
+            .collect(Collectors.toMap(RoomType::getId, Function.identity()));
+        return roomTypeIds.stream()
+            .map(roomTypes::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+}
@@ -3,12 +3,22 @@ package com.project.jagoga.roomtype.application;
 import com.project.jagoga.accommodation.application.AccommodationService;
 import com.project.jagoga.accommodation.domain.Accommodation;
 import com.project.jagoga.exception.roomtype.NotExistRoomTypeException;
+import com.project.jagoga.exception.roomtype.TooManyAccommodationIdsException;
 import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.roomtype.domain.RoomTypeChangedEvent;
+import com.project.jagoga.roomtype.domain.RoomTypeMetadata;
 import com.project.jagoga.roomtype.domain.RoomTypeRepository;
+import com.project.jagoga.roomtype.infrastructure.RoomTypeMetadataCache;
 import com.project.jagoga.roomtype.presentation.dto.RoomTypeCreateRequestDto;
 import com.project.jagoga.user.domain.AuthUser;
 import com.project.jagoga.utils.VerificationUtils;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,8 +27,12 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class RoomTypeService {
 
+    public static final int MAX_BATCH_ACCOMMODATION_SIZE = 100;
+
     private final AccommodationService accommodationService;
     private final RoomTypeRepository roomTypeRepository;
+    private final RoomTypeMetadataCache roomTypeMetadataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public RoomType registerRoomType(
         long accommodationId, RoomTypeCreateRequestDto roomTypeCreateRequestDto, AuthUser loginUser
@@ -27,11 +41,63 @@ public class RoomTypeService {
             accommodationService.getAccommodationById(accommodationId);
         VerificationUtils.verifyOwnerPermission(loginUser, accommodation.getOwnerId());
         RoomType roomType = roomTypeCreateRequestDto.toEntity(accommodationId, loginUser.getId());
-        return roomTypeRepository.save(roomType);
+        RoomType savedRoomType = roomTypeRepository.save(roomType);
+        roomTypeMetadataCache.put(RoomTypeMetadata.from(savedRoomType));
+        eventPublisher.publishEvent(new RoomTypeChangedEvent(savedRoomType.getId(), accommodationId));
+        return savedRoomType;
+    }
+
+    /*
+        권한 확인 등 읽기 전용 용도의 조회는 락을 걸지 않고 캐시된 메타데이터를 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public RoomTypeMetadata getRoomTypeMetadata(long roomTypeId) {
+        return roomTypeMetadataCache.get(roomTypeId).orElseGet(() -> {
+            RoomTypeMetadata metadata = roomTypeRepository.findMetadataById(roomTypeId)
+                .orElseThrow(NotExistRoomTypeException::new);
+            roomTypeMetadataCache.put(metadata);
+            return metadata;
+        });
     }
 
     public RoomType getRoomTypeById(long roomTypeId) {
         return roomTypeRepository.findById(roomTypeId)
             .orElseThrow(NotExistRoomTypeException::new);
     }
+
+    /*
+        숙소의 존재 여부는 확인하지 않는다. 없는 숙소면 빈 목록이다.
+     */
+    @Transactional(readOnly = true)
+    public List<RoomType> getRoomTypesByAccommodationId(long accommodationId) {
+        return roomTypeRepository.findByAccommodationIdOrderByPriceAscIdAsc(accommodationId);
+    }
+
+    /*
+        여러 숙소의 룸타입을 IN 쿼리 한 번으로 조회해 숙소별로 묶는다.
+        요청한 순서대로 모든 숙소를 담으며, 룸타입이 없는 숙소는 빈 목록이다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<RoomType>> getRoomTypesByAccommodationIds(Collection<Long> accommodationIds) {
+        if (accommodationIds.size() > MAX_BATCH_ACCOMMODATION_SIZE) {
+            throw new TooManyAccommodationIdsException();
+        }
+        Map<Long, List<RoomType>> roomTypes = new LinkedHashMap<>();
+        accommodationIds.forEach(accommodationId -> roomTypes.put(accommodationId, new ArrayList<>()));
+        if (roomTypes.isEmpty()) {
+            return roomTypes;
+        }
+        for (RoomType roomType : roomTypeRepository.findAllByAccommodationIds(roomTypes.keySet())) {
+            roomTypes.get(roomType.getAccommodationId()).add(roomType);
+        }
+        return roomTypes;
+    }
+
+    /*
+        캐시 여부와 관계없이 항상 조회해서 row lock을 획득한다.
+     */
+    public RoomType lockRoomType(long roomTypeId) {
+        return roomTypeRepository.findById(roomTypeId)
+            .orElseThrow(NotExistRoomTypeException::new);
+    }
 }
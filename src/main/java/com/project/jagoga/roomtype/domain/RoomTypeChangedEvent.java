@@ -0,0 +1,18 @@
+package com.project.jagoga.roomtype.domain;
+
+import lombok.Getter;
+
+/*
+    RoomType이 등록/변경된 뒤 발행되는 이벤트
+ */
+@Getter
+public class RoomTypeChangedEvent {
+
+    private final long roomTypeId;
+    private final long accommodationId;
+
+    public RoomTypeChangedEvent(long roomTypeId, long accommodationId) {
+        this.roomTypeId = roomTypeId;
+        this.accommodationId = accommodationId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.jagoga.roomtype.domain;
+
+import lombok.Getter;
+
+/*
+    권한 확인과 가격 조회에 필요한 RoomType의 변하지 않는 속성
+    락 없이 조회하며 RoomTypeMetadataCache에 보관된다.
+ */
+@Getter
+public class RoomTypeMetadata {
+
+    private final long roomTypeId;
+    private final long accommodationId;
+    private final long ownerId;
+    private final int price;
+
+    public RoomTypeMetadata(long roomTypeId, long accommodationId, long ownerId, int price) {
+        this.roomTypeId = roomTypeId;
+        this.accommodationId = accommodationId;
+        this.ownerId = ownerId;
+        this.price = price;
+    }
+
+    public static RoomTypeMetadata from(RoomType roomType) {
+        return new RoomTypeMetadata(roomType.getId(), roomType.getAccommodationId(), roomType.getOwnerId(),
+            roomType.getPrice());
+    }
+}
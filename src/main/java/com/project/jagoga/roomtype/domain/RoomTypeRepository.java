@@ -1,12 +1,44 @@
 package com.project.jagoga.roomtype.domain;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import javax.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RoomTypeRepository extends JpaRepository<RoomType, Long> {
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<RoomType> findById(long roomTypeId);
-}
\ No newline at end of file
+
+    /*
+        (accommodation_id, price) 인덱스 순서대로 읽는다. (V14)
+     */
+    List<RoomType> findByAccommodationIdOrderByPriceAscIdAsc(long accommodationId);
+
+    @Query("select r from RoomType r where r.accommodationId in :accommodationIds"
+        + " order by r.accommodationId, r.price, r.id")
+    List<RoomType> findAllByAccommodationIds(@Param("accommodationIds") Collection<Long> accommodationIds);
+
+    @Query("select new com.project.jagoga.roomtype.domain.RoomTypeMetadata(r.id, r.accommodationId, r.ownerId, r.price)"
+        + " from RoomType r where r.id = :roomTypeId")
+    Optional<RoomTypeMetadata> findMetadataById(@Param("roomTypeId") long roomTypeId);
+
+    /*
+        cityId에 속한 숙소의 RoomType을 (price, roomTypeId) 순으로 (lastPrice, lastRoomTypeId) 다음부터 조회한다.
+        도시의 숙소는 idx_accommodation_city_price로, 숙소의 룸타입은 idx_roomtype_accommodation_price로 찾고
+        정렬은 도시 안의 룸타입만 대상으로 한다.
+     */
+    @Query("select new com.project.jagoga.roomtype.domain.RoomTypeMetadata(r.id, r.accommodationId, r.ownerId, r.price)"
+        + " from RoomType r, Accommodation a where a.id = r.accommodationId and a.cityId = :cityId"
+        + " and (r.price > :lastPrice or (r.price = :lastPrice and r.id > :lastRoomTypeId))"
+        + " order by r.price, r.id")
+    List<RoomTypeMetadata> findMetadataByCityIdAfter(@Param("cityId") long cityId,
+                                                     @Param("lastPrice") int lastPrice,
+                                                     @Param("lastRoomTypeId") long lastRoomTypeId,
+                                                     Pageable pageable);
+}
@@ -0,0 +1,104 @@
+package com.project.jagoga.roomtype.infrastructure;
+
+import com.project.jagoga.roomtype.domain.RoomTypeMetadata;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+    RoomTypeMetadata를 roomTypeId 기준으로 보관하는 크기 제한 캐시
+    RoomType이 등록/변경되면 write-through로 갱신하고, 숙소가 삭제되면 해당 숙소의 엔트리를 제거한다.
+    조회는 ConcurrentHashMap 조회뿐이라 전역 락이 없다. 최대 크기를 넘으면 한 스레드만 정리하며,
+    조회된 적 없는 엔트리부터 제거하는(second chance) 근사 LRU라 잠시 최대 크기를 넘을 수 있다.
+ */
+@Component
+public class RoomTypeMetadataCache {
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<Long, CachedMetadata> cache = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public RoomTypeMetadataCache(@Value("${roomtype.metadata-cache.maximum-size:10000}") int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Optional<RoomTypeMetadata> get(long roomTypeId) {
+        CachedMetadata cached = cache.get(roomTypeId);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        cached.markReferenced();
+        return Optional.of(cached.metadata);
+    }
+
+    public void put(RoomTypeMetadata metadata) {
+        cache.put(metadata.getRoomTypeId(), new CachedMetadata(metadata));
+        if (cache.size() > maximumSize) {
+            evict();
+        }
+    }
+
+    public void evict(long roomTypeId) {
+        cache.remove(roomTypeId);
+    }
+
+    public void evictByAccommodationId(long accommodationId) {
+        cache.values().removeIf(cached -> cached.metadata.getAccommodationId() == accommodationId);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /*
+        최근에 조회된 엔트리는 표시만 지우고 한 바퀴 더 기회를 준다. 모두 조회된 엔트리라도 두 바퀴 안에 크기가 줄어든다.
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (int round = 0; round < 2 && cache.size() > maximumSize; round++) {
+                Iterator<CachedMetadata> iterator = cache.values().iterator();
+                while (iterator.hasNext() && cache.size() > maximumSize) {
+                    if (!iterator.next().clearReferenced()) {
+                        iterator.remove();
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static class CachedMetadata {
+
+        private final RoomTypeMetadata metadata;
+        private volatile boolean referenced;
+
+        private CachedMetadata(RoomTypeMetadata metadata) {
+            this.metadata = metadata;
+        }
+
+        private void markReferenced() {
+            // 이미 표시된 경우 쓰지 않아 조회가 많은 엔트리의 캐시 라인을 무효화하지 않는다
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+
+        /*
+            조회된 적이 있었으면 표시를 지우고 true를 반환한다.
+         */
+        private boolean clearReferenced() {
+            if (referenced) {
+                referenced = false;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.jagoga.roomtype.infrastructure;
+
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent;
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent.ChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+    숙소가 삭제되면 연관된 RoomType도 함께 삭제(ON DELETE CASCADE)되므로 캐시에서 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomTypeMetadataCacheEvictor {
+
+    private final RoomTypeMetadataCache roomTypeMetadataCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            roomTypeMetadataCache.evictByAccommodationId(event.getAccommodationId());
+        }
+    }
+}
@@ -1,25 +1,38 @@
 package com.project.jagoga.roomtype.presentation.controller;
 
+import com.project.jagoga.accommodation.application.AccommodationService;
 import com.project.jagoga.exception.dto.ApiResponse;
+import com.project.jagoga.roomtype.application.RoomTypeSearchService;
 import com.project.jagoga.roomtype.application.RoomTypeService;
 import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.roomtype.presentation.dto.AvailableRoomTypeResponseDto;
 import com.project.jagoga.roomtype.presentation.dto.RoomTypeCreateRequestDto;
 import com.project.jagoga.roomtype.presentation.dto.RoomTypeResponseDto;
 import com.project.jagoga.user.domain.AuthUser;
 import com.project.jagoga.user.domain.LoginCheck;
 import com.project.jagoga.user.domain.RequireLoginUser;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequiredArgsConstructor
 public class RoomTypeController {
 
+    private final AccommodationService accommodationService;
     private final RoomTypeService roomTypeService;
+    private final RoomTypeSearchService roomTypeSearchService;
 
     @LoginCheck
     @PostMapping("/api/accommodation/{accommodationId}/roomtype")
@@ -31,4 +44,41 @@ public class RoomTypeController {
         RoomType roomType = roomTypeService.registerRoomType(accommodationId, roomTypeCreateRequestDto, loginUser);
         return ApiResponse.createSuccess(RoomTypeResponseDto.createInstance(roomType));
     }
+
+    /*
+        존재하지 않는 숙소면 404를 응답한다.
+     */
+    @GetMapping("/api/accommodation/{accommodationId}/roomtype")
+    public ApiResponse<List<RoomTypeResponseDto>> getRoomTypes(@PathVariable final long accommodationId) {
+        accommodationService.getAccommodationById(accommodationId);
+        return ApiResponse.createSuccess(
+            RoomTypeResponseDto.listOf(roomTypeService.getRoomTypesByAccommodationId(accommodationId)));
+    }
+
+    /*
+        검색 결과처럼 여러 숙소의 룸타입이 필요한 화면에서 숙소마다 호출하지 않도록 한 번에 조회한다.
+        응답은 accommodationId별 룸타입 목록이다.
+     */
+    @GetMapping("/api/roomtype")
+    public ApiResponse<Map<Long, List<RoomTypeResponseDto>>> getRoomTypesOfAccommodations(
+        @RequestParam List<Long> accommodationIds
+    ) {
+        Map<Long, List<RoomTypeResponseDto>> roomTypes = new LinkedHashMap<>();
+        roomTypeService.getRoomTypesByAccommodationIds(accommodationIds)
+            .forEach((accommodationId, list) -> roomTypes.put(accommodationId, RoomTypeResponseDto.listOf(list)));
+        return ApiResponse.createSuccess(roomTypes);
+    }
+
+    @GetMapping("/api/roomtype/cheapest")
+    public ApiResponse<List<AvailableRoomTypeResponseDto>> findCheapestAvailableRoomTypes(
+        @RequestParam long cityId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        List<RoomType> roomTypes =
+            roomTypeSearchService.findCheapestAvailable(cityId, checkInDate, checkOutDate, size);
+        return ApiResponse.createSuccess(AvailableRoomTypeResponseDto.listOf(roomTypes,
+            ChronoUnit.DAYS.between(checkInDate, checkOutDate)));
+    }
 }
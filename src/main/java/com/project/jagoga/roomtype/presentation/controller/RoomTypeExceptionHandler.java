@@ -1,7 +1,9 @@
 package com.project.jagoga.roomtype.presentation.controller;
 
+import com.project.jagoga.exception.accommodation.InvalidStayPeriodException;
 import com.project.jagoga.exception.accommodation.NotExistAccommodationException;
 import com.project.jagoga.exception.dto.ApiResponse;
+import com.project.jagoga.exception.roomtype.TooManyAccommodationIdsException;
 import com.project.jagoga.exception.user.ForbiddenException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,4 +22,9 @@ public class RoomTypeExceptionHandler {
     public ResponseEntity<ApiResponse<?>> handleForbiddenException(RuntimeException exception) {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.createError(exception.getMessage()));
     }
+
+    @ExceptionHandler({InvalidStayPeriodException.class, TooManyAccommodationIdsException.class})
+    public ResponseEntity<ApiResponse<?>> handleInvalidQueryException(RuntimeException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.createError(exception.getMessage()));
+    }
 }
@@ -0,0 +1,36 @@
+package com.project.jagoga.roomtype.presentation.dto;
+
+import com.project.jagoga.roomtype.domain.RoomType;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+@Getter
+public class AvailableRoomTypeResponseDto {
+
+    private final long roomTypeId;
+    private final long accommodationId;
+    private final String name;
+    private final int price;
+    private final long totalPrice;
+
+    private AvailableRoomTypeResponseDto(long roomTypeId, long accommodationId, String name, int price,
+                                         long totalPrice) {
+        this.roomTypeId = roomTypeId;
+        this.accommodationId = accommodationId;
+        this.name = name;
+        this.price = price;
+        this.totalPrice = totalPrice;
+    }
+
+    public static AvailableRoomTypeResponseDto of(RoomType roomType, long nights) {
+        return new AvailableRoomTypeResponseDto(roomType.getId(), roomType.getAccommodationId(), roomType.getName(),
+            roomType.getPrice(), roomType.getPrice() * nights);
+    }
+
+    public static List<AvailableRoomTypeResponseDto> listOf(List<RoomType> roomTypes, long nights) {
+        return roomTypes.stream()
+            .map(roomType -> AvailableRoomTypeResponseDto.of(roomType, nights))
+            .collect(Collectors.toList());
+    }
+}
@@ -1,11 +1,15 @@
 package com.project.jagoga.roomtype.presentation.dto;
 
 import com.project.jagoga.roomtype.domain.RoomType;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.Getter;
 
 @Getter
 public class RoomTypeResponseDto {
 
+    private long roomTypeId;
+
     private long accommodationId;
 
     private String name;
@@ -16,13 +20,21 @@ public class RoomTypeResponseDto {
 
     public static RoomTypeResponseDto createInstance(RoomType roomType) {
         return new RoomTypeResponseDto(
+            roomType.getId(),
             roomType.getAccommodationId(),
             roomType.getName(),
             roomType.getDescription(),
             roomType.getPrice());
     }
 
-    private RoomTypeResponseDto(long accommodationId, String name, String description, int price) {
+    public static List<RoomTypeResponseDto> listOf(List<RoomType> roomTypes) {
+        return roomTypes.stream()
+            .map(RoomTypeResponseDto::createInstance)
+            .collect(Collectors.toList());
+    }
+
+    private RoomTypeResponseDto(long roomTypeId, long accommodationId, String name, String description, int price) {
+        this.roomTypeId = roomTypeId;
         this.accommodationId = accommodationId;
         this.name = name;
         this.description = description;
@@ -0,0 +1,34 @@
+package com.project.jagoga.search.application;
+
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent;
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent.ChangeType;
+import com.project.jagoga.accommodation.domain.AccommodationRepository;
+import com.project.jagoga.search.domain.SearchDocument;
+import com.project.jagoga.search.infrastructure.AccommodationSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+    숙소 변경이 커밋된 뒤에 색인에 반영한다. (롤백된 변경은 색인되지 않는다)
+ */
+@Component
+@RequiredArgsConstructor
+public class AccommodationSearchIndexer {
+
+    private final AccommodationSearchIndex accommodationSearchIndex;
+    private final AccommodationRepository accommodationRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            accommodationSearchIndex.remove(event.getAccommodationId());
+            return;
+        }
+        accommodationRepository.findById(event.getAccommodationId())
+            .ifPresentOrElse(
+                accommodation -> accommodationSearchIndex.index(SearchDocument.of(accommodation)),
+                () -> accommodationSearchIndex.remove(event.getAccommodationId()));
+    }
+}
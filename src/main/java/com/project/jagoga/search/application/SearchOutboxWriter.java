@@ -0,0 +1,46 @@
+package com.project.jagoga.search.application;
+
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent;
+import com.project.jagoga.roominventory.domain.InventoryChangedEvent;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import com.project.jagoga.roomtype.domain.RoomTypeChangedEvent;
+import com.project.jagoga.search.domain.OutboxEventType;
+import com.project.jagoga.search.infrastructure.JdbcSearchOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+    변경 이벤트를 같은 트랜잭션 안에서 search_outbox에 기록한다. (transactional outbox)
+    변경이 롤백되면 outbox 기록도 함께 롤백되고, 커밋되면 SearchProjectionPoller가 반드시 처리한다.
+ */
+@Component
+@Profile("!memory")
+@RequiredArgsConstructor
+public class SearchOutboxWriter {
+
+    private final JdbcSearchOutboxRepository jdbcSearchOutboxRepository;
+    private final RoomTypeService roomTypeService;
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        jdbcSearchOutboxRepository.insert(event.getAccommodationId(), OutboxEventType.ACCOMMODATION);
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onRoomTypeChanged(RoomTypeChangedEvent event) {
+        jdbcSearchOutboxRepository.insert(event.getAccommodationId(), OutboxEventType.ROOMTYPE);
+    }
+
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        long accommodationId = roomTypeService.getRoomTypeMetadata(event.getRoomTypeId()).getAccommodationId();
+        jdbcSearchOutboxRepository.insert(accommodationId, OutboxEventType.INVENTORY);
+    }
+}
@@ -0,0 +1,140 @@
+package com.project.jagoga.search.application;
+
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot.CityView;
+import com.project.jagoga.accommodation.infrastructure.address.LocationCache;
+import com.project.jagoga.search.domain.AccommodationProjection;
+import com.project.jagoga.search.domain.AccommodationProjection.RoomTypeProjection;
+import com.project.jagoga.search.domain.OutboxEntry;
+import com.project.jagoga.search.domain.SearchSink;
+import com.project.jagoga.search.infrastructure.JdbcAccommodationProjectionRepository;
+import com.project.jagoga.search.infrastructure.JdbcSearchOutboxRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+    search_outbox를 id 순서로 배치 단위로 가져가 숙소별 비정규화 문서를 만들어 SearchSink에 반영한다.
+    한 배치 안에서 같은 숙소의 변경은 한 번만 반영하며, 문서는 반영 시점의 DB 상태로 새로 만든다.
+    항목을 가져가는 트랜잭션은 SearchSink 호출 전에 커밋하므로, 외부 호출이 늦어져도 outbox insert를 막지 않는다.
+    SearchSink 반영이 실패하면 가져간 항목을 되돌려 다음 주기에 다시 처리하고,
+    인스턴스가 중간에 죽으면 claim-timeout-millis가 지난 뒤 다른 인스턴스가 다시 가져간다.
+ */
+@Slf4j
+@Component
+@Profile("!memory")
+public class SearchProjectionPoller {
+
+    private final JdbcSearchOutboxRepository jdbcSearchOutboxRepository;
+    private final JdbcAccommodationProjectionRepository jdbcAccommodationProjectionRepository;
+    private final LocationCache locationCache;
+    private final SearchSink searchSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int inventoryDays;
+    private final long claimTimeoutMillis;
+
+    public SearchProjectionPoller(
+        JdbcSearchOutboxRepository jdbcSearchOutboxRepository,
+        JdbcAccommodationProjectionRepository jdbcAccommodationProjectionRepository,
+        LocationCache locationCache,
+        SearchSink searchSink,
+        PlatformTransactionManager transactionManager,
+        @Value("${search.outbox.batch-size:500}") int batchSize,
+        @Value("${search.projection.inventory-days:30}") int inventoryDays,
+        @Value("${search.outbox.claim-timeout-millis:60000}") long claimTimeoutMillis
+    ) {
+        this.jdbcSearchOutboxRepository = jdbcSearchOutboxRepository;
+        this.jdbcAccommodationProjectionRepository = jdbcAccommodationProjectionRepository;
+        this.locationCache = locationCache;
+        this.searchSink = searchSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.batchSize = batchSize;
+        this.inventoryDays = inventoryDays;
+        this.claimTimeoutMillis = claimTimeoutMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${search.outbox.poll-interval-millis:1000}")
+    public void poll() {
+        int processed;
+        do {
+            processed = pollBatch();
+        } while (processed == batchSize);
+    }
+
+    /*
+        처리한 outbox 항목 수를 반환한다.
+     */
+    public int pollBatch() {
+        String claimToken = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        Integer claimed = transactionTemplate.execute(status ->
+            jdbcSearchOutboxRepository.claimBatch(claimToken, now + claimTimeoutMillis, now, batchSize));
+        if (claimed == null || claimed == 0) {
+            return 0;
+        }
+
+        List<OutboxEntry> entries = jdbcSearchOutboxRepository.findClaimed(claimToken);
+        Set<Long> accommodationIds = new LinkedHashSet<>();
+        entries.forEach(entry -> accommodationIds.add(entry.getAccommodationId()));
+        try {
+            project(accommodationIds);
+        } catch (RuntimeException e) {
+            jdbcSearchOutboxRepository.releaseClaim(claimToken);
+            throw e;
+        }
+
+        jdbcSearchOutboxRepository.deleteClaimed(entries, claimToken);
+        return claimed;
+    }
+
+    private void project(Set<Long> accommodationIds) {
+        LocalDate today = LocalDate.now();
+        List<AccommodationSummary> accommodations =
+            jdbcAccommodationProjectionRepository.findAccommodations(accommodationIds);
+        Map<Long, List<RoomTypeProjection>> roomTypes = jdbcAccommodationProjectionRepository.findRoomTypes(
+            accommodationIds, today, today.plusDays(inventoryDays - 1L));
+        LocationSnapshot locationSnapshot = locationCache.getSnapshot();
+        long now = System.currentTimeMillis();
+
+        List<AccommodationProjection> projections = new ArrayList<>();
+        Set<Long> deletedIds = new LinkedHashSet<>(accommodationIds);
+        for (AccommodationSummary accommodation : accommodations) {
+            deletedIds.remove(accommodation.getId());
+            CityView city = locationSnapshot.getCity(accommodation.getCityId()).orElse(null);
+            projections.add(new AccommodationProjection(
+                accommodation.getId(),
+                accommodation.getAccommodationName(),
+                accommodation.getAccommodationType(),
+                accommodation.getCityId(),
+                city == null ? null : city.getName(),
+                city == null ? null : city.getStateName(),
+                accommodation.getLowPrice(),
+                roomTypes.getOrDefault(accommodation.getId(), List.of()),
+                now
+            ));
+        }
+
+        if (!projections.isEmpty()) {
+            searchSink.upsert(projections);
+        }
+        if (!deletedIds.isEmpty()) {
+            searchSink.delete(new ArrayList<>(deletedIds));
+        }
+        log.debug("search projection applied: upserted={}, deleted={}", projections.size(), deletedIds.size());
+    }
+}
@@ -0,0 +1,108 @@
+package com.project.jagoga.search.application;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationRepository;
+import com.project.jagoga.exception.accommodation.NotExistAccommodationException;
+import com.project.jagoga.exception.search.InvalidSearchQueryException;
+import com.project.jagoga.search.domain.AccommodationProjection;
+import com.project.jagoga.search.domain.SearchDocument;
+import com.project.jagoga.search.domain.SearchHit;
+import com.project.jagoga.search.domain.SearchSink;
+import com.project.jagoga.search.infrastructure.AccommodationSearchIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    public static final int MAX_QUERY_LENGTH = 50;
+    public static final int MAX_RESULT_SIZE = 50;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final AccommodationSearchIndex accommodationSearchIndex;
+    private final AccommodationRepository accommodationRepository;
+    private final SearchSink searchSink;
+
+    /*
+        저장된 세그먼트는 마지막 병합 이후의 변경(다른 인스턴스의 변경, 비정상 종료로 병합되지 못한 변경)을 담고 있지 않다.
+        세그먼트가 있으면 먼저 열어 바로 검색할 수 있게 하고, 항상 DB 기준으로 다시 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIndex() {
+        if (accommodationSearchIndex.open()) {
+            log.info("search index opened: documents={}", accommodationSearchIndex.size());
+        }
+        rebuildIndex();
+    }
+
+    /*
+        다른 인스턴스에서 변경된 숙소는 이벤트로 전달되지 않으므로 주기적으로 DB 기준으로 다시 만든다.
+        DB의 숙소 전체를 id 순으로 나눠 읽고, 문서는 한 페이지씩만 메모리에 두고 바로 색인에 전달한다.
+     */
+    @Scheduled(
+        initialDelayString = "${search.index.rebuild-interval-millis:600000}",
+        fixedDelayString = "${search.index.rebuild-interval-millis:600000}"
+    )
+    public void rebuildIndex() {
+        accommodationSearchIndex.rebuildFrom(this::forEachDocument);
+        log.info("search index rebuilt: documents={}", accommodationSearchIndex.size());
+    }
+
+    private void forEachDocument(Consumer<SearchDocument> consumer) {
+        long lastAccommodationId = 0L;
+        List<Accommodation> page;
+        do {
+            page = accommodationRepository.findAllAfter(lastAccommodationId, REBUILD_PAGE_SIZE);
+            for (Accommodation accommodation : page) {
+                consumer.accept(SearchDocument.of(accommodation));
+                lastAccommodationId = accommodation.getId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+    }
+
+    /*
+        색인은 점수 순 id만 반환하므로 숙소 정보는 상위 결과에 대해서만 IN 쿼리 한 번으로 조회해 점수 순으로 정렬한다.
+        색인 반영 전에 삭제된 숙소는 결과에서 제외한다.
+     */
+    public List<Accommodation> searchAccommodations(String query, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException();
+        }
+
+        List<SearchHit> hits = accommodationSearchIndex.search(query, Math.max(1, Math.min(size, MAX_RESULT_SIZE)));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> accommodationIds = hits.stream().map(SearchHit::getDocumentId).collect(Collectors.toList());
+        Map<Long, Accommodation> accommodations = accommodationRepository.findAllByIds(accommodationIds).stream()
+            .collect(Collectors.toMap(Accommodation::getId, Function.identity()));
+
+        List<Accommodation> result = new ArrayList<>(hits.size());
+        for (Long accommodationId : accommodationIds) {
+            Accommodation accommodation = accommodations.get(accommodationId);
+            if (accommodation != null) {
+                result.add(accommodation);
+            }
+        }
+        return result;
+    }
+
+    /*
+        SearchSink에 반영된 비정규화 문서를 조회한다. outbox 처리 주기만큼 DB보다 늦을 수 있다.
+     */
+    public AccommodationProjection getAccommodationProjection(long accommodationId) {
+        return searchSink.findById(accommodationId).orElseThrow(NotExistAccommodationException::new);
+    }
+}
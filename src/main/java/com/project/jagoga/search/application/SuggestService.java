@@ -0,0 +1,28 @@
+package com.project.jagoga.search.application;
+
+import com.project.jagoga.exception.search.InvalidSearchQueryException;
+import com.project.jagoga.search.domain.Suggestion;
+import com.project.jagoga.search.infrastructure.SuggestionTrie;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/*
+    키 입력마다 호출되므로 DB를 조회하지 않고 메모리의 트라이만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SuggestService {
+
+    public static final int MAX_PREFIX_LENGTH = 30;
+    public static final int MAX_SUGGESTION_SIZE = 20;
+
+    private final SuggestionTrie suggestionTrie;
+
+    public List<Suggestion> suggest(String prefix, int size) {
+        if (prefix == null || prefix.isBlank() || prefix.length() > MAX_PREFIX_LENGTH) {
+            throw new InvalidSearchQueryException();
+        }
+        return suggestionTrie.suggest(prefix, Math.max(1, Math.min(size, MAX_SUGGESTION_SIZE)));
+    }
+}
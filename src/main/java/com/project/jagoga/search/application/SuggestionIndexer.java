@@ -0,0 +1,131 @@
+package com.project.jagoga.search.application;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent;
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent.ChangeType;
+import com.project.jagoga.accommodation.domain.AccommodationRepository;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot.CityView;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot.StateView;
+import com.project.jagoga.accommodation.domain.address.LocationsReloadedEvent;
+import com.project.jagoga.accommodation.infrastructure.address.LocationCache;
+import com.project.jagoga.booking.domain.AccommodationBookingCount;
+import com.project.jagoga.booking.domain.BookingCompletedEvent;
+import com.project.jagoga.booking.domain.BookingRepository;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import com.project.jagoga.search.domain.Suggestion;
+import com.project.jagoga.search.domain.SuggestionType;
+import com.project.jagoga.search.infrastructure.SuggestionTrie;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+    자동완성 트라이를 기동 시점에 채우고, 이후에는 커밋된 변경만 반영한다.
+    숙소 weight는 예약 건수, 도시 weight는 그 도시에 등록된 숙소 수이다.
+    트라이 갱신은 이전 후보를 읽고 교체하는 두 단계라 메서드 단위로 직렬화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestionIndexer {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final SuggestionTrie suggestionTrie;
+    private final AccommodationRepository accommodationRepository;
+    private final BookingRepository bookingRepository;
+    private final RoomTypeService roomTypeService;
+    private final LocationCache locationCache;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        Map<Long, Long> bookingCounts = new HashMap<>();
+        for (AccommodationBookingCount count : bookingRepository.countByAccommodation()) {
+            bookingCounts.put(count.getAccommodationId(), count.getBookingCount());
+        }
+
+        Map<Long, Long> accommodationCounts = new HashMap<>();
+        long lastAccommodationId = 0L;
+        List<Accommodation> page;
+        do {
+            page = accommodationRepository.findAllAfter(lastAccommodationId, REBUILD_PAGE_SIZE);
+            for (Accommodation accommodation : page) {
+                suggestionTrie.put(new Suggestion(SuggestionType.ACCOMMODATION, accommodation.getId(),
+                    accommodation.getAccommodationName(), accommodation.getCityId(),
+                    bookingCounts.getOrDefault(accommodation.getId(), 0L)));
+                accommodationCounts.merge(accommodation.getCityId(), 1L, Long::sum);
+                lastAccommodationId = accommodation.getId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        putCities(locationCache.getSnapshot(), accommodationCounts);
+        log.info("suggestion trie loaded: suggestions={}", suggestionTrie.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onAccommodationChanged(AccommodationChangedEvent event) {
+        long accommodationId = event.getAccommodationId();
+        Optional<Accommodation> accommodation = event.getChangeType() == ChangeType.DELETED
+            ? Optional.empty()
+            : accommodationRepository.findById(accommodationId);
+        Optional<Suggestion> previous = suggestionTrie.get(SuggestionType.ACCOMMODATION, accommodationId);
+        previous.ifPresent(suggestion -> suggestionTrie.addWeight(SuggestionType.CITY, suggestion.getCityId(), -1L));
+        if (accommodation.isEmpty()) {
+            suggestionTrie.remove(SuggestionType.ACCOMMODATION, accommodationId);
+            return;
+        }
+
+        Accommodation saved = accommodation.get();
+        suggestionTrie.put(previous
+            .map(suggestion -> suggestion.withText(saved.getAccommodationName(), saved.getCityId()))
+            .orElseGet(() -> new Suggestion(SuggestionType.ACCOMMODATION, accommodationId,
+                saved.getAccommodationName(), saved.getCityId(), 0L)));
+        suggestionTrie.addWeight(SuggestionType.CITY, saved.getCityId(), 1L);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onBookingCompleted(BookingCompletedEvent event) {
+        long accommodationId = roomTypeService.getRoomTypeMetadata(event.getRoomTypeId()).getAccommodationId();
+        suggestionTrie.addWeight(SuggestionType.ACCOMMODATION, accommodationId, 1L);
+    }
+
+    /*
+        기존 도시의 weight는 유지하고, 스냅샷에서 사라진 도시는 후보에서 제거한다.
+     */
+    @EventListener
+    public synchronized void onLocationsReloaded(LocationsReloadedEvent event) {
+        Map<Long, Long> weights = new HashMap<>();
+        for (Suggestion city : suggestionTrie.getAll(SuggestionType.CITY)) {
+            weights.put(city.getId(), city.getWeight());
+        }
+        Set<Long> reloadedCityIds = putCities(event.getSnapshot(), weights);
+        for (Long cityId : weights.keySet()) {
+            if (!reloadedCityIds.contains(cityId)) {
+                suggestionTrie.remove(SuggestionType.CITY, cityId);
+            }
+        }
+    }
+
+    private Set<Long> putCities(LocationSnapshot snapshot, Map<Long, Long> weights) {
+        Set<Long> cityIds = new HashSet<>();
+        for (StateView state : snapshot.getStates()) {
+            for (CityView city : state.getCities()) {
+                suggestionTrie.put(new Suggestion(SuggestionType.CITY, city.getId(),
+                    city.getStateName() + " " + city.getName(), city.getId(), weights.getOrDefault(city.getId(), 0L)));
+                cityIds.add(city.getId());
+            }
+        }
+        return cityIds;
+    }
+}
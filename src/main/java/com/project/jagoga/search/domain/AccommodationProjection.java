@@ -0,0 +1,40 @@
+package com.project.jagoga.search.domain;
+
+import com.project.jagoga.accommodation.domain.AccommodationType;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    검색 저장소에 저장하는 비정규화 숙소 문서
+    숙소, 지역 이름, RoomType, 재고 요약을 한 문서에 담아 검색 시 조인하지 않는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class AccommodationProjection {
+
+    private long accommodationId;
+    private String accommodationName;
+    private AccommodationType accommodationType;
+    private long cityId;
+    private String cityName;
+    private String stateName;
+    private int lowPrice;
+    private List<RoomTypeProjection> roomTypes;
+    private long projectedAt;
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor
+    public static class RoomTypeProjection {
+
+        private long roomTypeId;
+        private String name;
+        private int price;
+        // 색인 시점부터 일정 기간 동안 예약 가능한 재고가 있는 날 수
+        private int availableDays;
+    }
+}
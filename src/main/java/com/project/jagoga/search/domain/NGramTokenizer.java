@@ -0,0 +1,64 @@
+package com.project.jagoga.search.domain;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/*
+    형태소 분석 없이 한글을 검색하기 위한 bigram 토크나이저
+    NFKC 정규화와 소문자 변환 후 글자/숫자가 아닌 문자로 단어를 나누고, 각 단어를 2글자씩 겹쳐 자른다.
+    한 글자 단어는 그대로 사용한다. ("경포대 펜션" -> 경포, 포대, 펜션)
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class NGramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    public static List<String> tokenize(String text) {
+        List<String> grams = new ArrayList<>();
+        forEachGram(text, grams::add);
+        return grams;
+    }
+
+    /*
+        text의 gram 빈도에 weight를 곱해 termFrequencies에 더하고 추가된 gram 수를 반환한다.
+     */
+    public static int addTermFrequencies(String text, int weight, Map<String, Integer> termFrequencies) {
+        int[] count = new int[1];
+        forEachGram(text, gram -> {
+            termFrequencies.merge(gram, weight, Integer::sum);
+            count[0] += weight;
+        });
+        return count[0];
+    }
+
+    private static void forEachGram(String text, Consumer<String> consumer) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && !Character.isLetterOrDigit(normalized.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && Character.isLetterOrDigit(normalized.charAt(end))) {
+                end++;
+            }
+            if (end - start == 1) {
+                consumer.accept(normalized.substring(start, end));
+            }
+            for (int i = start; i + GRAM_SIZE <= end; i++) {
+                consumer.accept(normalized.substring(i, i + GRAM_SIZE));
+            }
+            start = end;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.jagoga.search.domain;
+
+import lombok.Getter;
+
+@Getter
+public class OutboxEntry {
+
+    private final long outboxId;
+    private final long accommodationId;
+    private final OutboxEventType eventType;
+    private final long createdAt;
+
+    public OutboxEntry(long outboxId, long accommodationId, OutboxEventType eventType, long createdAt) {
+        this.outboxId = outboxId;
+        this.accommodationId = accommodationId;
+        this.eventType = eventType;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,5 @@
+package com.project.jagoga.search.domain;
+
+public enum OutboxEventType {
+    ACCOMMODATION, ROOMTYPE, INVENTORY
+}
@@ -0,0 +1,36 @@
+package com.project.jagoga.search.domain;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+
+/*
+    색인 단위 문서
+    숙소명은 설명보다 중요하므로 가중치를 높여 gram 빈도에 반영한다.
+ */
+@Getter
+public class SearchDocument {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int TEXT_WEIGHT = 1;
+
+    private final long documentId;
+    private final Map<String, Integer> termFrequencies;
+    private final int length;
+
+    private SearchDocument(long documentId, Map<String, Integer> termFrequencies, int length) {
+        this.documentId = documentId;
+        this.termFrequencies = termFrequencies;
+        this.length = length;
+    }
+
+    public static SearchDocument of(Accommodation accommodation) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = NGramTokenizer.addTermFrequencies(accommodation.getAccommodationName(), NAME_WEIGHT,
+            termFrequencies);
+        length += NGramTokenizer.addTermFrequencies(accommodation.getDescription(), TEXT_WEIGHT, termFrequencies);
+        length += NGramTokenizer.addTermFrequencies(accommodation.getInformation(), TEXT_WEIGHT, termFrequencies);
+        return new SearchDocument(accommodation.getId(), termFrequencies, length);
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.jagoga.search.domain;
+
+import lombok.Getter;
+
+@Getter
+public class SearchHit {
+
+    private final long documentId;
+    private final double score;
+
+    public SearchHit(long documentId, double score) {
+        this.documentId = documentId;
+        this.score = score;
+    }
+}
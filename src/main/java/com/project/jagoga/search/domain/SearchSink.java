@@ -0,0 +1,17 @@
+package com.project.jagoga.search.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+/*
+    비정규화 숙소 문서를 저장하는 검색 저장소
+    같은 배치 안에서 upsert, delete 순으로 호출되며, 예외가 발생하면 배치 전체를 다시 전달한다.
+ */
+public interface SearchSink {
+
+    void upsert(List<AccommodationProjection> projections);
+
+    void delete(List<Long> accommodationIds);
+
+    Optional<AccommodationProjection> findById(long accommodationId);
+}
@@ -0,0 +1,38 @@
+package com.project.jagoga.search.domain;
+
+import lombok.Getter;
+
+/*
+    자동완성 후보 하나
+    weight가 클수록 먼저 추천된다. (숙소는 예약 건수, 도시는 등록된 숙소 수)
+    도시 후보의 cityId는 자기 자신의 id이다.
+ */
+@Getter
+public class Suggestion {
+
+    private final SuggestionType type;
+    private final long id;
+    private final String text;
+    private final long cityId;
+    private final long weight;
+
+    public Suggestion(SuggestionType type, long id, String text, long cityId, long weight) {
+        this.type = type;
+        this.id = id;
+        this.text = text;
+        this.cityId = cityId;
+        this.weight = weight;
+    }
+
+    public Suggestion withText(String text, long cityId) {
+        return new Suggestion(type, id, text, cityId, weight);
+    }
+
+    public Suggestion withWeight(long weight) {
+        return new Suggestion(type, id, text, cityId, weight);
+    }
+
+    public boolean isSameTarget(SuggestionType type, long id) {
+        return this.type == type && this.id == id;
+    }
+}
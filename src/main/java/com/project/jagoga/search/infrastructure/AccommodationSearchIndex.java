@@ -0,0 +1,357 @@
+package com.project.jagoga.search.infrastructure;
+
+import com.project.jagoga.search.domain.NGramTokenizer;
+import com.project.jagoga.search.domain.SearchDocument;
+import com.project.jagoga.search.domain.SearchHit;
+import com.project.jagoga.utils.SnapshotFiles;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+    숙소명, 설명, 안내문에 대한 내장 역색인
+    - 세그먼트: 마지막 병합 시점의 전체 색인. 파일로 저장하고 메모리 맵으로 읽는다.
+    - 델타: 병합 이후 추가/변경된 문서의 posting. 변경/삭제된 문서는 세그먼트 posting을 무시한다.
+    주기적으로(그리고 종료 시) 세그먼트와 델타를 합쳐 새 세그먼트를 만든다.
+    재구성과 병합은 락 밖에서 새 세그먼트를 만들고 write lock은 참조를 교체할 때만 잡으므로 검색을 막지 않는다.
+    저장된 세그먼트는 마지막 병합 이후의 변경을 담고 있지 않으므로, 열더라도 DB 기준으로 다시 만들어야 한다.
+    점수는 BM25로 계산하고 상위 K개만 힙으로 유지한다.
+ */
+@Slf4j
+@Component
+public class AccommodationSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final String SEGMENT_FILE_NAME = "accommodation.segment";
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private final Path segmentPath;
+
+    private IndexSegment segment = IndexSegment.empty();
+    // 세그먼트 이후 변경(추가/수정/삭제)된 문서 id
+    private final Set<Long> changedDocuments = new HashSet<>();
+    private final Map<Long, SearchDocument> deltaDocuments = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> deltaPostings = new HashMap<>();
+    // 검색마다 전체 문서를 세지 않도록 변경된 세그먼트 문서 수와 길이 합, 델타 길이 합을 유지한다
+    private int changedSegmentDocuments;
+    private long changedSegmentLength;
+    private long deltaLength;
+    // 재구성/병합 중에 들어온 변경 (삭제는 null). 새 세그먼트보다 최신일 수 있으므로 새 세그먼트 위에 다시 적용한다
+    private Map<Long, SearchDocument> changesDuringBuild;
+
+    public AccommodationSearchIndex(@Value("${search.index.directory:}") String indexDirectory) {
+        this.segmentPath = indexDirectory.isEmpty() ? null : Paths.get(indexDirectory, SEGMENT_FILE_NAME);
+    }
+
+    /*
+        저장된 세그먼트를 연다. 세그먼트가 없으면 false를 반환한다.
+        세그먼트는 마지막 병합 시점의 색인이므로, 재구성이 끝나기 전까지 임시로 검색에 사용한다.
+     */
+    public boolean open() {
+        if (segmentPath == null) {
+            return false;
+        }
+        IndexSegment mapped = IndexSegment.map(segmentPath);
+        lock.writeLock().lock();
+        try {
+            segment = mapped;
+            clearDelta();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return mapped != IndexSegment.empty();
+    }
+
+    public void index(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringBuild != null) {
+                changesDuringBuild.put(document.getDocumentId(), document);
+            }
+            applyDelta(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long documentId) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringBuild != null) {
+                changesDuringBuild.put(documentId, null);
+            }
+            removeDelta(documentId);
+            markChanged(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    public List<SearchHit> search(String query, int size) {
+        Set<String> grams = new LinkedHashSet<>(NGramTokenizer.tokenize(query));
+        if (grams.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documentCount();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = Math.max(1.0, (double) totalLength() / documentCount);
+
+            Map<Long, double[]> scores = new HashMap<>();
+            for (String gram : grams) {
+                Map<Long, Integer> delta = deltaPostings.getOrDefault(gram, Map.of());
+                int documentFrequency = segment.documentFrequency(gram) + delta.size();
+                if (documentFrequency == 0) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                segment.forEachPosting(gram, (documentId, frequency) -> {
+                    if (!changedDocuments.contains(documentId)) {
+                        accumulate(scores, documentId, frequency, segment.getDocumentLengths().get(documentId),
+                            idf, averageLength);
+                    }
+                });
+                delta.forEach((documentId, frequency) -> accumulate(scores, documentId, frequency,
+                    deltaDocuments.get(documentId).getLength(), idf, averageLength));
+            }
+            return topK(scores, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+        전체 색인을 새로 만든다. 기존 세그먼트와 델타는 버린다.
+     */
+    public void rebuild(Iterable<SearchDocument> documents) {
+        rebuildFrom(documents::forEach);
+    }
+
+    /*
+        source가 전달하는 문서로 전체 색인을 새로 만든다. 문서는 목록으로 모으지 않고 받는 즉시 posting에 더한다.
+        source가 읽는 동안 들어온 변경은 source가 읽은 내용보다 최신일 수 있으므로 새 세그먼트 위에 다시 적용한다.
+     */
+    public void rebuildFrom(Consumer<Consumer<SearchDocument>> source) {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                changesDuringBuild = new HashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            IndexSegment rebuilt = null;
+            try {
+                SegmentBuilder builder = new SegmentBuilder();
+                source.accept(builder::add);
+                rebuilt = writeSegment(builder.documentLengths, builder.postings);
+            } finally {
+                swapSegment(rebuilt);
+            }
+        }
+    }
+
+    /*
+        세그먼트와 델타를 합쳐 새 세그먼트를 만든다.
+        병합할 델타는 write lock 안에서 복사하고, 새 세그먼트는 락 밖에서 만든다.
+        병합하는 동안 들어온 변경은 재구성과 마찬가지로 새 세그먼트 위에 다시 적용한다.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${search.index.merge-interval-millis:60000}")
+    public void merge() {
+        // 재구성과 같은 세그먼트 파일을 쓰므로 재구성이 끝난 뒤에 병합한다
+        synchronized (rebuildLock) {
+            mergeDelta();
+        }
+    }
+
+    private void mergeDelta() {
+        IndexSegment base;
+        Set<Long> changed;
+        List<SearchDocument> deltas;
+        lock.writeLock().lock();
+        try {
+            if (changedDocuments.isEmpty()) {
+                return;
+            }
+            base = segment;
+            changed = new HashSet<>(changedDocuments);
+            deltas = new ArrayList<>(deltaDocuments.values());
+            changesDuringBuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        IndexSegment merged = null;
+        try {
+            SegmentBuilder builder = new SegmentBuilder();
+            base.getDocumentLengths().forEach((documentId, length) -> {
+                if (!changed.contains(documentId)) {
+                    builder.documentLengths.put(documentId, length);
+                }
+            });
+            for (String term : base.getTerms()) {
+                base.forEachPosting(term, (documentId, frequency) -> {
+                    if (!changed.contains(documentId)) {
+                        builder.postings.computeIfAbsent(term, key -> new TreeMap<>()).put(documentId, frequency);
+                    }
+                });
+            }
+            deltas.forEach(builder::add);
+            merged = writeSegment(builder.documentLengths, builder.postings);
+            log.info("search index merged: documents={}, changed={}", builder.documentLengths.size(),
+                changed.size());
+        } finally {
+            swapSegment(merged);
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+        새 세그먼트로 교체하고 만드는 동안 들어온 변경을 다시 적용한다. 만들다 실패했으면(null) 기존 세그먼트를 유지한다.
+     */
+    private void swapSegment(IndexSegment built) {
+        lock.writeLock().lock();
+        try {
+            if (built != null) {
+                segment = built;
+                clearDelta();
+                changesDuringBuild.forEach((documentId, document) -> {
+                    if (document == null) {
+                        markChanged(documentId);
+                    } else {
+                        applyDelta(document);
+                    }
+                });
+            }
+            changesDuringBuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private IndexSegment writeSegment(Map<Long, Integer> documentLengths,
+                                      Map<String, TreeMap<Long, Integer>> postings) {
+        if (segmentPath == null) {
+            return IndexSegment.inMemory(documentLengths, postings);
+        }
+        SnapshotFiles.write(segmentPath, out -> IndexSegment.write(out, documentLengths, postings));
+        return IndexSegment.map(segmentPath);
+    }
+
+    /*
+        write lock을 획득한 상태에서 호출해야 한다.
+     */
+    private void applyDelta(SearchDocument document) {
+        removeDelta(document.getDocumentId());
+        markChanged(document.getDocumentId());
+        deltaDocuments.put(document.getDocumentId(), document);
+        deltaLength += document.getLength();
+        document.getTermFrequencies().forEach((term, frequency) ->
+            deltaPostings.computeIfAbsent(term, key -> new HashMap<>()).put(document.getDocumentId(), frequency));
+    }
+
+    private void markChanged(long documentId) {
+        Integer segmentLength = segment.getDocumentLengths().get(documentId);
+        if (changedDocuments.add(documentId) && segmentLength != null) {
+            changedSegmentDocuments++;
+            changedSegmentLength += segmentLength;
+        }
+    }
+
+    private void clearDelta() {
+        changedDocuments.clear();
+        deltaDocuments.clear();
+        deltaPostings.clear();
+        changedSegmentDocuments = 0;
+        changedSegmentLength = 0L;
+        deltaLength = 0L;
+    }
+
+    private void removeDelta(long documentId) {
+        SearchDocument previous = deltaDocuments.remove(documentId);
+        if (previous == null) {
+            return;
+        }
+        deltaLength -= previous.getLength();
+        for (String term : previous.getTermFrequencies().keySet()) {
+            Map<Long, Integer> delta = deltaPostings.get(term);
+            delta.remove(documentId);
+            if (delta.isEmpty()) {
+                deltaPostings.remove(term);
+            }
+        }
+    }
+
+    private int documentCount() {
+        return segment.getDocumentLengths().size() - changedSegmentDocuments + deltaDocuments.size();
+    }
+
+    private long totalLength() {
+        return segment.getTotalLength() - changedSegmentLength + deltaLength;
+    }
+
+    private void accumulate(Map<Long, double[]> scores, long documentId, int frequency, int length, double idf,
+                            double averageLength) {
+        double normalized = frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+        scores.computeIfAbsent(documentId, key -> new double[1])[0] += idf * normalized;
+    }
+
+    private List<SearchHit> topK(Map<Long, double[]> scores, int size) {
+        Comparator<SearchHit> byScore = Comparator.comparingDouble(SearchHit::getScore)
+            .thenComparing(SearchHit::getDocumentId, Comparator.reverseOrder());
+        PriorityQueue<SearchHit> heap = new PriorityQueue<>(size + 1, byScore);
+        scores.forEach((documentId, score) -> {
+            heap.offer(new SearchHit(documentId, score[0]));
+            if (heap.size() > size) {
+                heap.poll();
+            }
+        });
+        List<SearchHit> hits = new ArrayList<>(heap);
+        hits.sort(byScore.reversed());
+        return hits;
+    }
+
+    private static class SegmentBuilder {
+
+        private final Map<Long, Integer> documentLengths = new TreeMap<>();
+        private final Map<String, TreeMap<Long, Integer>> postings = new HashMap<>();
+
+        private void add(SearchDocument document) {
+            documentLengths.put(document.getDocumentId(), document.getLength());
+            document.getTermFrequencies().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new TreeMap<>()).put(document.getDocumentId(), frequency));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.project.jagoga.search.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.jagoga.search.domain.AccommodationProjection;
+import com.project.jagoga.search.domain.SearchSink;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/*
+    docker/docker-compose.yml의 Elasticsearch에 _bulk API로 문서를 반영한다.
+    문서 id는 accommodationId이므로 같은 숙소를 여러 번 반영해도 마지막 문서만 남는다.
+ */
+@Component
+@ConditionalOnProperty(name = "search.sink.type", havingValue = "elasticsearch", matchIfMissing = true)
+public class ElasticsearchSearchSink implements SearchSink {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String indexUrl;
+    private final Duration timeout;
+
+    public ElasticsearchSearchSink(
+        ObjectMapper objectMapper,
+        @Value("${search.sink.elasticsearch.url:http://localhost:9200}") String url,
+        @Value("${search.sink.elasticsearch.index:accommodation}") String index,
+        @Value("${search.sink.elasticsearch.timeout-millis:3000}") long timeoutMillis
+    ) {
+        this.objectMapper = objectMapper;
+        this.indexUrl = url + "/" + index;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public void upsert(List<AccommodationProjection> projections) {
+        StringBuilder body = new StringBuilder();
+        for (AccommodationProjection projection : projections) {
+            body.append(action("index", projection.getAccommodationId())).append('\n')
+                .append(toJson(projection)).append('\n');
+        }
+        bulk(body);
+    }
+
+    @Override
+    public void delete(List<Long> accommodationIds) {
+        StringBuilder body = new StringBuilder();
+        for (Long accommodationId : accommodationIds) {
+            body.append(action("delete", accommodationId)).append('\n');
+        }
+        bulk(body);
+    }
+
+    @Override
+    public Optional<AccommodationProjection> findById(long accommodationId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(indexUrl + "/_doc/" + accommodationId))
+            .timeout(timeout)
+            .GET()
+            .build();
+        HttpResponse<String> response = send(request);
+        if (response.statusCode() == 404) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode source = objectMapper.readTree(response.body()).get("_source");
+            return Optional.of(objectMapper.treeToValue(source, AccommodationProjection.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("검색 문서를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void bulk(StringBuilder body) {
+        if (body.length() == 0) {
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(indexUrl + "/_bulk"))
+            .timeout(timeout)
+            .header("Content-Type", NDJSON)
+            .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+            .build();
+        HttpResponse<String> response = send(request);
+        try {
+            if (response.statusCode() >= 300 || objectMapper.readTree(response.body()).path("errors").asBoolean()) {
+                throw new IllegalStateException("검색 문서 반영에 실패했습니다: " + response.body());
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("검색 문서 반영 결과를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String action(String type, long accommodationId) {
+        return toJson(Map.of(type, Map.of("_id", accommodationId)));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.project.jagoga.search.infrastructure;
+
+import com.project.jagoga.search.domain.AccommodationProjection;
+import com.project.jagoga.search.domain.SearchSink;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/*
+    단일 인스턴스, 테스트용 검색 저장소
+ */
+@Component
+@ConditionalOnProperty(name = "search.sink.type", havingValue = "memory")
+public class InMemorySearchSink implements SearchSink {
+
+    private final Map<Long, AccommodationProjection> projections = new ConcurrentHashMap<>();
+
+    @Override
+    public void upsert(List<AccommodationProjection> projections) {
+        projections.forEach(projection -> this.projections.put(projection.getAccommodationId(), projection));
+    }
+
+    @Override
+    public void delete(List<Long> accommodationIds) {
+        accommodationIds.forEach(projections::remove);
+    }
+
+    @Override
+    public Optional<AccommodationProjection> findById(long accommodationId) {
+        return Optional.ofNullable(projections.get(accommodationId));
+    }
+}
@@ -0,0 +1,161 @@
+package com.project.jagoga.search.infrastructure;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/*
+    변경되지 않는 역색인 세그먼트
+    파일 구조: [magic][version][docCount][termCount]
+              [docId(long), length(int)] * docCount
+              ([termByteLength(int), term(UTF-8), postingCount(int), [docId(long), tf(int)] * postingCount]) * termCount
+    열 때 문서 길이와 term -> posting 위치만 힙에 올리고, posting 목록은 메모리 맵 버퍼에서 바로 읽는다.
+ */
+public final class IndexSegment {
+
+    private static final int MAGIC = 0x4A534958;
+    private static final int VERSION = 1;
+    private static final int POSTING_BYTES = Long.BYTES + Integer.BYTES;
+
+    private static final IndexSegment EMPTY = new IndexSegment(ByteBuffer.allocate(0), Map.of(), Map.of(), 0L);
+
+    private final ByteBuffer buffer;
+    private final Map<Long, Integer> documentLengths;
+    private final Map<String, long[]> terms;
+    private final long totalLength;
+
+    private IndexSegment(ByteBuffer buffer, Map<Long, Integer> documentLengths, Map<String, long[]> terms,
+                         long totalLength) {
+        this.buffer = buffer;
+        this.documentLengths = documentLengths;
+        this.terms = terms;
+        this.totalLength = totalLength;
+    }
+
+    public static IndexSegment empty() {
+        return EMPTY;
+    }
+
+    /*
+        세그먼트 파일이 없으면 빈 세그먼트를 반환한다.
+     */
+    public static IndexSegment map(Path path) {
+        if (!Files.exists(path)) {
+            return EMPTY;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static IndexSegment read(ByteBuffer source) {
+        ByteBuffer buffer = source.duplicate();
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IllegalStateException("검색 색인 세그먼트 형식이 올바르지 않습니다.");
+        }
+        int docCount = buffer.getInt();
+        int termCount = buffer.getInt();
+
+        Map<Long, Integer> documentLengths = new HashMap<>(docCount * 2);
+        long totalLength = 0L;
+        for (int i = 0; i < docCount; i++) {
+            long documentId = buffer.getLong();
+            int length = buffer.getInt();
+            documentLengths.put(documentId, length);
+            totalLength += length;
+        }
+
+        Map<String, long[]> terms = new HashMap<>(termCount * 2);
+        for (int i = 0; i < termCount; i++) {
+            byte[] termBytes = new byte[buffer.getInt()];
+            buffer.get(termBytes);
+            int postingCount = buffer.getInt();
+            terms.put(new String(termBytes, StandardCharsets.UTF_8), new long[] {buffer.position(), postingCount});
+            buffer.position(buffer.position() + postingCount * POSTING_BYTES);
+        }
+        return new IndexSegment(source, Collections.unmodifiableMap(documentLengths),
+            Collections.unmodifiableMap(terms), totalLength);
+    }
+
+    /*
+        postings는 term -> (docId -> tf) 이며 docId 순서로 기록된다.
+     */
+    public static void write(DataOutputStream out, Map<Long, Integer> documentLengths,
+                             Map<String, ? extends Map<Long, Integer>> postings) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(documentLengths.size());
+        out.writeInt(postings.size());
+        for (Map.Entry<Long, Integer> document : documentLengths.entrySet()) {
+            out.writeLong(document.getKey());
+            out.writeInt(document.getValue());
+        }
+        for (Map.Entry<String, ? extends Map<Long, Integer>> term : postings.entrySet()) {
+            byte[] termBytes = term.getKey().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(termBytes.length);
+            out.write(termBytes);
+            out.writeInt(term.getValue().size());
+            for (Map.Entry<Long, Integer> posting : term.getValue().entrySet()) {
+                out.writeLong(posting.getKey());
+                out.writeInt(posting.getValue());
+            }
+        }
+    }
+
+    /*
+        파일 없이 힙 버퍼로 세그먼트를 만든다. (색인 디렉토리를 지정하지 않은 경우)
+     */
+    public static IndexSegment inMemory(Map<Long, Integer> documentLengths,
+                                        Map<String, ? extends Map<Long, Integer>> postings) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            write(out, documentLengths, postings);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return read(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    public void forEachPosting(String term, BiConsumer<Long, Integer> consumer) {
+        long[] location = terms.get(term);
+        if (location == null) {
+            return;
+        }
+        int position = (int) location[0];
+        for (int i = 0; i < location[1]; i++) {
+            consumer.accept(buffer.getLong(position), buffer.getInt(position + Long.BYTES));
+            position += POSTING_BYTES;
+        }
+    }
+
+    public int documentFrequency(String term) {
+        long[] location = terms.get(term);
+        return location == null ? 0 : (int) location[1];
+    }
+
+    public Set<String> getTerms() {
+        return terms.keySet();
+    }
+
+    public Map<Long, Integer> getDocumentLengths() {
+        return documentLengths;
+    }
+
+    public long getTotalLength() {
+        return totalLength;
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.jagoga.search.infrastructure;
+
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import com.project.jagoga.accommodation.domain.AccommodationType;
+import com.project.jagoga.search.domain.AccommodationProjection.RoomTypeProjection;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+    비정규화 문서를 만들기 위해 배치에 포함된 숙소들의 정보를 IN 쿼리 두 번으로 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcAccommodationProjectionRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<AccommodationSummary> findAccommodations(Collection<Long> accommodationIds) {
+        String sql = "SELECT accommodation_id, accommodation_name, city_id, accommodation_type, low_price"
+            + " FROM accommodation WHERE accommodation_id IN (:accommodationIds)";
+        return namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("accommodationIds", accommodationIds),
+            (rs, count) -> {
+                String accommodationType = rs.getString("accommodation_type");
+                return AccommodationSummary.of(
+                    rs.getLong("accommodation_id"),
+                    rs.getString("accommodation_name"),
+                    rs.getLong("city_id"),
+                    accommodationType == null ? null : AccommodationType.valueOf(accommodationType),
+                    rs.getInt("low_price")
+                );
+            });
+    }
+
+    /*
+        숙소 id별 RoomType 목록과 startDate ~ endDate 중 재고가 남은 날 수를 조회한다.
+     */
+    public Map<Long, List<RoomTypeProjection>> findRoomTypes(
+        Collection<Long> accommodationIds, LocalDate startDate, LocalDate endDate
+    ) {
+        String sql = "SELECT r.roomtype_id, r.accommodation_id, r.name, r.price,"
+            + " COUNT(CASE WHEN i.available_count > 0 THEN 1 END) AS available_days"
+            + " FROM roomtype r"
+            + " LEFT JOIN room_inventory i ON i.roomtype_id = r.roomtype_id"
+            + " AND i.inventory_date BETWEEN :startDate AND :endDate"
+            + " WHERE r.accommodation_id IN (:accommodationIds)"
+            + " GROUP BY r.roomtype_id, r.accommodation_id, r.name, r.price"
+            + " ORDER BY r.roomtype_id";
+        MapSqlParameterSource params = new MapSqlParameterSource("accommodationIds", accommodationIds)
+            .addValue("startDate", startDate)
+            .addValue("endDate", endDate);
+
+        Map<Long, List<RoomTypeProjection>> roomTypes = new HashMap<>();
+        namedParameterJdbcTemplate.query(sql, params, rs -> {
+            roomTypes.computeIfAbsent(rs.getLong("accommodation_id"), key -> new ArrayList<>())
+                .add(new RoomTypeProjection(
+                    rs.getLong("roomtype_id"),
+                    rs.getString("name"),
+                    rs.getInt("price"),
+                    rs.getInt("available_days")
+                ));
+        });
+        return roomTypes;
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.jagoga.search.infrastructure;
+
+import com.project.jagoga.search.domain.OutboxEntry;
+import com.project.jagoga.search.domain.OutboxEventType;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcSearchOutboxRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(long accommodationId, OutboxEventType eventType) {
+        jdbcTemplate.update("INSERT INTO search_outbox (accommodation_id, event_type, created_at) VALUES (?, ?, ?)",
+            accommodationId, eventType.name(), System.currentTimeMillis());
+    }
+
+    /*
+        아무도 처리하지 않거나 처리 기한이 지난 항목을 가장 오래된 것부터 limit개 claimToken으로 표시하고 표시한 수를 반환한다.
+        READ COMMITTED에서 짧은 트랜잭션으로 커밋해야 갭 락 없이 outbox insert와 동시에 실행된다.
+     */
+    public int claimBatch(String claimToken, long claimedUntil, long now, int limit) {
+        String sql = "UPDATE search_outbox SET claim_token = ?, claimed_until = ?"
+            + " WHERE claim_token IS NULL OR claimed_until < ? ORDER BY outbox_id LIMIT ?";
+        return jdbcTemplate.update(sql, claimToken, claimedUntil, now, limit);
+    }
+
+    public List<OutboxEntry> findClaimed(String claimToken) {
+        String sql = "SELECT outbox_id, accommodation_id, event_type, created_at FROM search_outbox"
+            + " WHERE claim_token = ? ORDER BY outbox_id";
+        return jdbcTemplate.query(sql, outboxEntryRowMapper(), claimToken);
+    }
+
+    /*
+        처리에 실패한 항목을 기한을 기다리지 않고 다시 처리할 수 있게 되돌린다.
+     */
+    public void releaseClaim(String claimToken) {
+        jdbcTemplate.update("UPDATE search_outbox SET claim_token = NULL, claimed_until = NULL WHERE claim_token = ?",
+            claimToken);
+    }
+
+    /*
+        auto increment 값은 커밋 순서와 다를 수 있으므로 범위가 아니라 처리한 id만 삭제한다.
+        처리 기한이 지나 다른 인스턴스가 다시 가져간 항목은 claimToken이 달라 삭제하지 않는다.
+     */
+    public void deleteClaimed(List<OutboxEntry> entries, String claimToken) {
+        jdbcTemplate.batchUpdate("DELETE FROM search_outbox WHERE outbox_id = ? AND claim_token = ?", entries,
+            entries.size(), (ps, entry) -> {
+                ps.setLong(1, entry.getOutboxId());
+                ps.setString(2, claimToken);
+            });
+    }
+
+    private RowMapper<OutboxEntry> outboxEntryRowMapper() {
+        return (rs, count) -> new OutboxEntry(
+            rs.getLong("outbox_id"),
+            rs.getLong("accommodation_id"),
+            OutboxEventType.valueOf(rs.getString("event_type")),
+            rs.getLong("created_at")
+        );
+    }
+}
@@ -0,0 +1,359 @@
+package com.project.jagoga.search.infrastructure;
+
+import com.project.jagoga.search.domain.Suggestion;
+import com.project.jagoga.search.domain.SuggestionType;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/*
+    자동완성용 압축 트라이 (radix tree)
+    한 자식만 가진 노드는 간선 라벨을 합쳐 저장하므로 노드 수가 키 수에 비례한다.
+    각 노드는 하위 트리의 최대 weight를 가지고 있어, 접두사 노드에서 weight가 큰 순으로 탐색하다
+    k개를 채우면 나머지 하위 트리는 보지 않는다.
+
+    후보는 정규화한 전체 텍스트와 각 단어로 시작하는 접미사로 등록된다.
+    ("강원도 강릉시" -> "강원도 강릉시", "강릉시")
+    조회는 읽기 락, 등록/삭제는 쓰기 락으로 보호한다.
+ */
+@Component
+public class SuggestionTrie {
+
+    private static final Comparator<Candidate> CANDIDATE_ORDER = Comparator
+        .comparingLong((Candidate candidate) -> candidate.weight).reversed()
+        .thenComparing(candidate -> candidate.suggestion == null)
+        .thenComparing(candidate -> candidate.suggestion == null ? "" : candidate.suggestion.getText());
+
+    private final Node root = new Node("");
+    private final Map<SuggestionType, Map<Long, Suggestion>> entries = new EnumMap<>(SuggestionType.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SuggestionTrie() {
+        for (SuggestionType type : SuggestionType.values()) {
+            entries.put(type, new HashMap<>());
+        }
+    }
+
+    /*
+        같은 대상의 후보가 이미 있으면 교체한다.
+     */
+    public void put(Suggestion suggestion) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = entries.get(suggestion.getType()).put(suggestion.getId(), suggestion);
+            if (previous != null) {
+                for (String key : keysOf(previous.getText())) {
+                    removeKey(key, previous);
+                }
+            }
+            for (String key : keysOf(suggestion.getText())) {
+                insertKey(key, suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Suggestion> remove(SuggestionType type, long id) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = entries.get(type).remove(id);
+            if (previous != null) {
+                for (String key : keysOf(previous.getText())) {
+                    removeKey(key, previous);
+                }
+            }
+            return Optional.ofNullable(previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Suggestion> get(SuggestionType type, long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(entries.get(type).get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+        weight에 delta를 더한다. 대상이 없으면 아무것도 하지 않는다.
+     */
+    public void addWeight(SuggestionType type, long id, long delta) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = entries.get(type).get(id);
+            if (previous != null) {
+                put(previous.withWeight(Math.max(0L, previous.getWeight() + delta)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggest(String prefix, int size) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = findPrefixNode(key);
+            return node == null ? List.of() : collectTopK(node, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Suggestion> getAll(SuggestionType type) {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(entries.get(type).values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.values().stream().mapToInt(Map::size).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+        NFKC 정규화, 소문자 변환 후 글자/숫자가 아닌 문자를 공백 하나로 바꾼다.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && builder.length() > 0) {
+                    builder.append(' ');
+                }
+                builder.append(c);
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return builder.toString();
+    }
+
+    static List<String> keysOf(String text) {
+        String normalized = normalize(text);
+        List<String> keys = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+
+    private void insertKey(String key, Suggestion suggestion) {
+        Node node = root;
+        node.maxWeight = Math.max(node.maxWeight, suggestion.getWeight());
+        int index = 0;
+        while (index < key.length()) {
+            Node child = node.getChild(key.charAt(index));
+            if (child == null) {
+                child = new Node(key.substring(index));
+                node.putChild(child);
+                node = child;
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, index);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            index += common;
+            node = child;
+            node.maxWeight = Math.max(node.maxWeight, suggestion.getWeight());
+        }
+        node.addSuggestion(suggestion);
+        node.maxWeight = Math.max(node.maxWeight, suggestion.getWeight());
+    }
+
+    /*
+        child의 라벨을 common 위치에서 나누고, 앞부분을 가진 새 중간 노드를 반환한다.
+     */
+    private Node split(Node parent, Node child, int common) {
+        Node middle = new Node(child.label.substring(0, common));
+        child.label = child.label.substring(common);
+        middle.putChild(child);
+        middle.maxWeight = child.maxWeight;
+        parent.putChild(middle);
+        return middle;
+    }
+
+    private void removeKey(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node child = node.getChild(key.charAt(index));
+            if (child == null || !key.startsWith(child.label, index)) {
+                return;
+            }
+            index += child.label.length();
+            node = child;
+            path.add(node);
+        }
+        if (!node.removeSuggestion(suggestion.getType(), suggestion.getId())) {
+            return;
+        }
+
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node current = path.get(i);
+            Node parent = path.get(i - 1);
+            if (current.suggestions.isEmpty() && current.children.isEmpty()) {
+                parent.removeChild(current);
+            } else if (current.suggestions.isEmpty() && current.children.size() == 1) {
+                Node onlyChild = current.children.values().iterator().next();
+                onlyChild.label = current.label + onlyChild.label;
+                parent.putChild(onlyChild);
+            } else {
+                current.recomputeMaxWeight();
+            }
+        }
+        root.recomputeMaxWeight();
+    }
+
+    private Node findPrefixNode(String prefix) {
+        Node node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            Node child = node.getChild(prefix.charAt(index));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefixLength(child.label, prefix, index);
+            if (index + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            index += common;
+            node = child;
+        }
+        return node;
+    }
+
+    /*
+        노드의 maxWeight는 하위 후보 weight의 상한이므로, 꺼낸 후보보다 큰 weight가 뒤에 나오지 않는다.
+        같은 대상이 여러 키로 등록되어 있을 수 있어 이미 담은 대상은 건너뛴다.
+     */
+    private List<Suggestion> collectTopK(Node start, int size) {
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(CANDIDATE_ORDER);
+        queue.add(new Candidate(start.maxWeight, start, null));
+        Map<String, Suggestion> result = new LinkedHashMap<>();
+        while (!queue.isEmpty() && result.size() < size) {
+            Candidate candidate = queue.poll();
+            if (candidate.suggestion != null) {
+                Suggestion suggestion = candidate.suggestion;
+                result.putIfAbsent(suggestion.getType() + ":" + suggestion.getId(), suggestion);
+                continue;
+            }
+            for (Suggestion suggestion : candidate.node.suggestions) {
+                queue.add(new Candidate(suggestion.getWeight(), null, suggestion));
+            }
+            for (Node child : candidate.node.children.values()) {
+                queue.add(new Candidate(child.maxWeight, child, null));
+            }
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Suggestion> suggestions = new ArrayList<>(1);
+        private long maxWeight;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node getChild(char c) {
+            return children.get(c);
+        }
+
+        private void putChild(Node child) {
+            children.put(child.label.charAt(0), child);
+        }
+
+        private void removeChild(Node child) {
+            children.remove(child.label.charAt(0), child);
+        }
+
+        private void addSuggestion(Suggestion suggestion) {
+            suggestions.add(suggestion);
+        }
+
+        private boolean removeSuggestion(SuggestionType type, long id) {
+            return suggestions.removeIf(suggestion -> suggestion.isSameTarget(type, id));
+        }
+
+        private void recomputeMaxWeight() {
+            long max = 0L;
+            for (Suggestion suggestion : suggestions) {
+                max = Math.max(max, suggestion.getWeight());
+            }
+            for (Node child : children.values()) {
+                max = Math.max(max, child.maxWeight);
+            }
+            maxWeight = max;
+        }
+    }
+
+    private static final class Candidate {
+
+        private final long weight;
+        private final Node node;
+        private final Suggestion suggestion;
+
+        private Candidate(long weight, Node node, Suggestion suggestion) {
+            this.weight = weight;
+            this.node = node;
+            this.suggestion = suggestion;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.project.jagoga.search.presentation.controller;
+
+import com.project.jagoga.exception.dto.ApiResponse;
+import com.project.jagoga.search.application.SearchService;
+import com.project.jagoga.search.application.SuggestService;
+import com.project.jagoga.search.domain.AccommodationProjection;
+import com.project.jagoga.search.presentation.dto.AccommodationSearchResponseDto;
+import com.project.jagoga.search.presentation.dto.SuggestionResponseDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+    private final SuggestService suggestService;
+
+    @GetMapping("/api/search/accommodations")
+    public ApiResponse<List<AccommodationSearchResponseDto>> searchAccommodations(
+        @RequestParam String query,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ApiResponse.createSuccess(
+            AccommodationSearchResponseDto.listOf(searchService.searchAccommodations(query, size)));
+    }
+
+    @GetMapping("/api/search/accommodations/{accommodationId}")
+    public ApiResponse<AccommodationProjection> getAccommodationProjection(@PathVariable long accommodationId) {
+        return ApiResponse.createSuccess(searchService.getAccommodationProjection(accommodationId));
+    }
+
+    @GetMapping("/api/search/suggestions")
+    public ApiResponse<List<SuggestionResponseDto>> suggest(
+        @RequestParam String prefix,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ApiResponse.createSuccess(SuggestionResponseDto.listOf(suggestService.suggest(prefix, size)));
+    }
+}
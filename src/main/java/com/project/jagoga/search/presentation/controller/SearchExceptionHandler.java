@@ -0,0 +1,23 @@
+package com.project.jagoga.search.presentation.controller;
+
+import com.project.jagoga.exception.accommodation.NotExistAccommodationException;
+import com.project.jagoga.exception.dto.ApiResponse;
+import com.project.jagoga.exception.search.InvalidSearchQueryException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice(basePackages = {"com.project.jagoga.search.presentation.controller"})
+public class SearchExceptionHandler {
+
+    @ExceptionHandler(NotExistAccommodationException.class)
+    public ResponseEntity<ApiResponse<?>> handleNotExistAccommodationException(RuntimeException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.createError(exception.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<ApiResponse<?>> handleInvalidSearchQueryException(RuntimeException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.createError(exception.getMessage()));
+    }
+}
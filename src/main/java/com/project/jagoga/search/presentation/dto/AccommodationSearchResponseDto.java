@@ -0,0 +1,37 @@
+package com.project.jagoga.search.presentation.dto;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationType;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+@Getter
+public class AccommodationSearchResponseDto {
+
+    private final long accommodationId;
+    private final String accommodationName;
+    private final long cityId;
+    private final AccommodationType accommodationType;
+    private final int lowPrice;
+
+    private AccommodationSearchResponseDto(long accommodationId, String accommodationName, long cityId,
+                                           AccommodationType accommodationType, int lowPrice) {
+        this.accommodationId = accommodationId;
+        this.accommodationName = accommodationName;
+        this.cityId = cityId;
+        this.accommodationType = accommodationType;
+        this.lowPrice = lowPrice;
+    }
+
+    public static AccommodationSearchResponseDto of(Accommodation accommodation) {
+        return new AccommodationSearchResponseDto(accommodation.getId(), accommodation.getAccommodationName(),
+            accommodation.getCityId(), accommodation.getAccommodationType(), accommodation.getLowPrice());
+    }
+
+    public static List<AccommodationSearchResponseDto> listOf(List<Accommodation> accommodations) {
+        return accommodations.stream()
+            .map(AccommodationSearchResponseDto::of)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.jagoga.search.presentation.dto;
+
+import com.project.jagoga.search.domain.Suggestion;
+import com.project.jagoga.search.domain.SuggestionType;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+@Getter
+public class SuggestionResponseDto {
+
+    private final SuggestionType type;
+    private final long id;
+    private final String text;
+    private final long cityId;
+
+    private SuggestionResponseDto(SuggestionType type, long id, String text, long cityId) {
+        this.type = type;
+        this.id = id;
+        this.text = text;
+        this.cityId = cityId;
+    }
+
+    public static SuggestionResponseDto of(Suggestion suggestion) {
+        return new SuggestionResponseDto(suggestion.getType(), suggestion.getId(), suggestion.getText(),
+            suggestion.getCityId());
+    }
+
+    public static List<SuggestionResponseDto> listOf(List<Suggestion> suggestions) {
+        return suggestions.stream()
+            .map(SuggestionResponseDto::of)
+            .collect(Collectors.toList());
+    }
+}
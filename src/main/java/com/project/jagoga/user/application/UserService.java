@@ -9,7 +9,10 @@ public interface UserService {
 
     public User signUp(UserCreateRequestDto userCreateRequestDto);
 
-    public User updateUser(long id, UserUpdateRequestDto userUpdateRequestDto, AuthUser loginUser);
+    public User signUp(UserCreateRequestDto userCreateRequestDto, String encodedPassword);
+
+    public User updateUser(long id, UserUpdateRequestDto userUpdateRequestDto, String encodedPassword,
+                           AuthUser loginUser);
 
     public User changeRoleToOwner(long id);
 }
@@ -4,11 +4,13 @@ import com.project.jagoga.exception.user.DuplicatedUserException;
 import com.project.jagoga.exception.user.NotFoundUserException;
 import com.project.jagoga.user.application.UserService;
 import com.project.jagoga.user.domain.AuthUser;
+import com.project.jagoga.user.domain.Authentication;
 import com.project.jagoga.user.domain.PasswordEncoder;
 import com.project.jagoga.user.domain.User;
 import com.project.jagoga.user.domain.UserRepository;
 import com.project.jagoga.user.presentation.dto.request.UserCreateRequestDto;
 import com.project.jagoga.user.presentation.dto.request.UserUpdateRequestDto;
+import com.project.jagoga.utils.UniqueConstraints;
 import com.project.jagoga.utils.VerificationUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,27 +21,41 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final Authentication authentication;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                           Authentication authentication) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.authentication = authentication;
     }
 
     @Override
     public User signUp(UserCreateRequestDto userCreateRequestDto) {
+        return signUp(userCreateRequestDto, passwordEncoder.encrypt(userCreateRequestDto.getPassword()));
+    }
+
+    /*
+        비밀번호 해싱을 호출자가 미리 수행한 경우 저장만 한다.
+     */
+    @Override
+    public User signUp(UserCreateRequestDto userCreateRequestDto, String encodedPassword) {
         User user = userCreateRequestDto.toEntity();
-        validateDuplicatedUser(user);
-        user.setEncodedPassword(passwordEncoder.encrypt(user.getPassword()));
-        return userRepository.save(user);
+        user.setEncodedPassword(encodedPassword);
+        return UniqueConstraints.insertOrThrow(() -> userRepository.save(user), DuplicatedUserException::new);
     }
 
+    /*
+        비밀번호 해싱은 트랜잭션 밖에서 호출자가 미리 수행한다.
+     */
     @Override
-    public User updateUser(long id, UserUpdateRequestDto userUpdateRequestDto, AuthUser loginUser) {
+    public User updateUser(long id, UserUpdateRequestDto userUpdateRequestDto, String encodedPassword,
+                           AuthUser loginUser) {
         VerificationUtils.verifyBasicPermission(loginUser, id);
         User user = userRepository.findById(id).orElseThrow(NotFoundUserException::new);
-        user.updateUser(userUpdateRequestDto.getName(),
-            passwordEncoder.encrypt(userUpdateRequestDto.getPassword()),
-            userUpdateRequestDto.getPhone());
+        user.updateUser(userUpdateRequestDto.getName(), encodedPassword, userUpdateRequestDto.getPhone());
+        userRepository.update(user);
+        authentication.revokeTokens(id);
         return user;
     }
 
@@ -47,12 +63,8 @@ public class UserServiceImpl implements UserService {
     public User changeRoleToOwner(long id) {
         User user = userRepository.findById(id).orElseThrow(NotFoundUserException::new);
         user.changeRoleToOwner();
+        userRepository.update(user);
+        authentication.revokeTokens(id);
         return user;
     }
-
-    private void validateDuplicatedUser(User user) {
-        if (userRepository.existsByEmail(user.getEmail())) {
-            throw new DuplicatedUserException();
-        }
-    }
 }
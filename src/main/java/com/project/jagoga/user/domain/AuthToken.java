@@ -0,0 +1,23 @@
+package com.project.jagoga.user.domain;
+
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+@Getter
+public class AuthToken {
+
+    private final String accessToken;
+    private final String refreshToken;
+
+    public static AuthToken createInstance(String accessToken, String refreshToken) {
+        Assert.hasText(accessToken, "access token이 존재하지 않습니다");
+        Assert.hasText(refreshToken, "refresh token이 존재하지 않습니다");
+
+        return new AuthToken(accessToken, refreshToken);
+    }
+
+    private AuthToken(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+}
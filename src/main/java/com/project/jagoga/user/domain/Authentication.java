@@ -8,7 +8,24 @@ public interface Authentication {
 
     public String login(LoginRequestDto loginRequestDto);
 
-    public void verifyLogin(String token);
+    public AuthToken issueToken(LoginRequestDto loginRequestDto);
+
+    /*
+        issueToken을 단계별로 나눈 것이다. 조회(findLoginUser)와 발급(issueToken)은 DB를,
+        비밀번호 검증(verifyPassword)은 BCrypt로 CPU를 사용하므로 검증만 해싱 풀에서 실행할 수 있다.
+     */
+    public User findLoginUser(LoginRequestDto loginRequestDto);
+
+    /*
+        비밀번호가 틀리면 예외가 발생하고, cost가 바뀌어 다시 해싱해야 하면 새 해시값을 반환한다.
+     */
+    public Optional<String> verifyPassword(User user, String password);
+
+    public AuthToken issueToken(User user, Optional<String> rehashedPassword);
+
+    public AuthToken refresh(String refreshToken);
 
     public Optional<AuthUser> getLoginUser(String token);
+
+    public void revokeTokens(long userId);
 }
@@ -5,4 +5,6 @@ public interface PasswordEncoder {
     public String encrypt(String password);
 
     public boolean isMatch(String password, String hashedPassword);
-}
\ No newline at end of file
+
+    public boolean needsRehash(String hashedPassword);
+}
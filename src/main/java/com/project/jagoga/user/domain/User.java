@@ -25,6 +25,7 @@ public class User extends BaseTimeEntity {
     @Column(name = "user_id")
     private Long id;
 
+    @Column(unique = true)
     private String email;
     private String name;
     private String password;
@@ -60,6 +61,15 @@ public class User extends BaseTimeEntity {
         return new User(email, name, password, phone, getUserDefaultRole());
     }
 
+    /*
+        이미 저장되었던 사용자를 복원한다. 비밀번호는 암호화된 값이어야 한다.
+     */
+    public static User restore(long id, String email, String name, String password, String phone, Role role) {
+        User user = new User(email, name, password, phone, role);
+        user.setId(id);
+        return user;
+    }
+
     private static Role getUserDefaultRole() {
         return Role.BASIC;
     }
@@ -0,0 +1,106 @@
+package com.project.jagoga.user.infrastructure;
+
+import com.project.jagoga.user.domain.AuthUser;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    서명 검증이 끝난 토큰을 토큰 해시값 기준으로 캐싱한다.
+    토큰 원문은 보관하지 않으며, 토큰 만료 시각이 지난 엔트리는 조회 시점 또는 정리 시점에 제거된다.
+    최대 크기에 도달하면 만료된 엔트리를 정리하고, 그래도 공간이 없으면 새 엔트리를 저장하지 않는다.
+    조회 시 토큰 폐기 여부를 다시 확인하므로 폐기된 토큰은 캐시에 남아 있어도 반환되지 않는다.
+ */
+public class AuthUserCache {
+
+    private static final long EVICTION_INTERVAL_MILLIS = 1000L;
+
+    private final int maximumSize;
+    private final TokenRevocationList tokenRevocationList;
+    private final ConcurrentHashMap<String, CachedAuthUser> cache = new ConcurrentHashMap<>();
+    private volatile long lastEvictionMillis;
+
+    public AuthUserCache(int maximumSize, TokenRevocationList tokenRevocationList) {
+        this.maximumSize = maximumSize;
+        this.tokenRevocationList = tokenRevocationList;
+    }
+
+    public Optional<AuthUser> get(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        String key = hash(token);
+        CachedAuthUser cached = cache.get(key);
+        if (cached == null) {
+            return Optional.empty();
+        }
+
+        if (cached.isExpired(System.currentTimeMillis())
+            || tokenRevocationList.isRevoked(cached.authUser.getId(), cached.issuedAtMillis)) {
+            cache.remove(key, cached);
+            return Optional.empty();
+        }
+        return Optional.of(cached.authUser);
+    }
+
+    public void put(String token, AuthUser authUser, long issuedAtMillis, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) {
+            return;
+        }
+
+        if (cache.size() >= maximumSize) {
+            evictExpired(now);
+            if (cache.size() >= maximumSize) {
+                return;
+            }
+        }
+        cache.put(hash(token), new CachedAuthUser(authUser, issuedAtMillis, expiresAtMillis));
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private void evictExpired(long now) {
+        if (now - lastEvictionMillis < EVICTION_INTERVAL_MILLIS) {
+            return;
+        }
+        lastEvictionMillis = now;
+        cache.values().removeIf(cached -> cached.isExpired(now));
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedAuthUser {
+
+        private final AuthUser authUser;
+        private final long issuedAtMillis;
+        private final long expiresAtMillis;
+
+        private CachedAuthUser(AuthUser authUser, long issuedAtMillis, long expiresAtMillis) {
+            this.authUser = authUser;
+            this.issuedAtMillis = issuedAtMillis;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
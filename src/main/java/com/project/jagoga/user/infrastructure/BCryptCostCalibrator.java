@@ -0,0 +1,68 @@
+package com.project.jagoga.user.infrastructure;
+
+import java.util.function.IntToLongFunction;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+    현재 하드웨어에서 해싱 한 번이 목표 시간을 넘지 않는 가장 큰 cost를 찾아 적용한다.
+    cost가 1 늘어날 때마다 해싱 시간이 두 배가 되므로, 다음 cost의 예상 시간이 목표를 넘으면 멈춘다.
+    보안을 위해 기본 cost보다 낮추지는 않으며, 목표 시간이 0이면 보정하지 않는다.
+ */
+@Slf4j
+@Component
+public class BCryptCostCalibrator {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final long targetMillis;
+    private final IntToLongFunction hashMillis;
+
+    @Autowired
+    public BCryptCostCalibrator(
+        BCryptPasswordEncoder passwordEncoder,
+        @Value("${password.hashing.target-millis:0}") long targetMillis
+    ) {
+        this(passwordEncoder, targetMillis, BCryptCostCalibrator::measureMillis);
+    }
+
+    BCryptCostCalibrator(BCryptPasswordEncoder passwordEncoder, long targetMillis, IntToLongFunction hashMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.targetMillis = targetMillis;
+        this.hashMillis = hashMillis;
+    }
+
+    @PostConstruct
+    public void calibrate() {
+        if (targetMillis <= 0) {
+            return;
+        }
+        int logRounds = findLogRounds(targetMillis);
+        passwordEncoder.setLogRounds(logRounds);
+        log.info("BCrypt cost calibrated to {} (target {}ms)", logRounds, targetMillis);
+    }
+
+    int findLogRounds(long targetMillis) {
+        int logRounds = BCryptPasswordEncoder.DEFAULT_LOG_ROUNDS;
+        // JIT 워밍업
+        hashMillis.applyAsLong(logRounds);
+        long elapsed = hashMillis.applyAsLong(logRounds);
+
+        while (logRounds < BCryptPasswordEncoder.MAX_LOG_ROUNDS && elapsed * 2 <= targetMillis) {
+            logRounds++;
+            elapsed = hashMillis.applyAsLong(logRounds);
+        }
+        return logRounds;
+    }
+
+    private static long measureMillis(int logRounds) {
+        long start = System.nanoTime();
+        BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(logRounds));
+        return (System.nanoTime() - start) / 1_000_000L;
+    }
+}
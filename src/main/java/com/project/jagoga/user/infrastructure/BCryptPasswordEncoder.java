@@ -7,13 +7,49 @@ import org.springframework.stereotype.Component;
 @Component
 public class BCryptPasswordEncoder implements PasswordEncoder {
 
+    public static final int DEFAULT_LOG_ROUNDS = 10;
+    public static final int MIN_LOG_ROUNDS = 4;
+    public static final int MAX_LOG_ROUNDS = 31;
+
+    private volatile int logRounds = DEFAULT_LOG_ROUNDS;
+
     @Override
     public String encrypt(String password) {
-        return BCrypt.hashpw(password, BCrypt.gensalt());
+        return BCrypt.hashpw(password, BCrypt.gensalt(logRounds));
     }
 
     @Override
     public boolean isMatch(String password, String hashedPassword) {
         return BCrypt.checkpw(password, hashedPassword);
     }
+
+    /*
+        해시값($2a$10$...)에 기록된 cost가 현재 설정과 다르면 재해싱 대상이다.
+     */
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        return getLogRounds(hashedPassword) != logRounds;
+    }
+
+    public int getLogRounds() {
+        return logRounds;
+    }
+
+    public void setLogRounds(int logRounds) {
+        if (logRounds < MIN_LOG_ROUNDS || logRounds > MAX_LOG_ROUNDS) {
+            throw new IllegalArgumentException("BCrypt cost는 4 이상 31 이하여야 합니다");
+        }
+        this.logRounds = logRounds;
+    }
+
+    private int getLogRounds(String hashedPassword) {
+        if (hashedPassword == null || hashedPassword.length() < 7 || hashedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hashedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package com.project.jagoga.user.infrastructure;
+
+import com.project.jagoga.user.domain.Role;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcRefreshTokenRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsertSessions(List<RefreshSession> sessions) {
+        String sql = "INSERT INTO refresh_token (token_hash, user_id, email, role, issued_at, expires_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?)";
+
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+
+            @Override
+            public void setValues(PreparedStatement ps, int index) throws SQLException {
+                RefreshSession session = sessions.get(index);
+                ps.setString(1, session.getTokenHash());
+                ps.setLong(2, session.getUserId());
+                ps.setString(3, session.getEmail());
+                ps.setString(4, session.getRole().name());
+                ps.setLong(5, session.getIssuedAtMillis());
+                ps.setLong(6, session.getExpiresAtMillis());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return sessions.size();
+            }
+        });
+    }
+
+    /*
+        세션을 DB에서 삭제해 사용할 권한을 얻는다. 같은 토큰을 동시에 사용해도 삭제된 행이 있는 요청 하나만 true를 받는다.
+     */
+    public boolean claimSession(String tokenHash, long now) {
+        return jdbcTemplate.update("DELETE FROM refresh_token WHERE token_hash = ? AND expires_at > ?",
+            tokenHash, now) == 1;
+    }
+
+    public void deleteSessionsByUserId(long userId) {
+        jdbcTemplate.update("DELETE FROM refresh_token WHERE user_id = ?", userId);
+    }
+
+    public void deleteExpiredSessions(long now) {
+        jdbcTemplate.update("DELETE FROM refresh_token WHERE expires_at <= ?", now);
+    }
+
+    public Optional<RefreshSession> findSession(String tokenHash, long now) {
+        String sql = "SELECT token_hash, user_id, email, role, issued_at, expires_at FROM refresh_token"
+            + " WHERE token_hash = ? AND expires_at > ?";
+
+        List<RefreshSession> sessions = jdbcTemplate.query(sql, refreshSessionRowMapper(), tokenHash, now);
+        return sessions.stream().findFirst();
+    }
+
+    private RowMapper<RefreshSession> refreshSessionRowMapper() {
+        return (rs, count) -> new RefreshSession(
+            rs.getString("token_hash"),
+            rs.getLong("user_id"),
+            rs.getString("email"),
+            Role.valueOf(rs.getString("role")),
+            rs.getLong("issued_at"),
+            rs.getLong("expires_at")
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.jagoga.user.infrastructure;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcTokenRevocationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveRevocation(long userId, long revokedBefore, long modifiedAt) {
+        String updateSql = "UPDATE token_revocation SET revoked_before = ?, modified_at = ? WHERE user_id = ?";
+        if (jdbcTemplate.update(updateSql, revokedBefore, modifiedAt, userId) > 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update("INSERT INTO token_revocation (user_id, revoked_before, modified_at) VALUES (?, ?, ?)",
+                userId, revokedBefore, modifiedAt);
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 추가한 경우
+            jdbcTemplate.update(updateSql, revokedBefore, modifiedAt, userId);
+        }
+    }
+
+    /*
+        issuedAtMillis 이전(같은 밀리초 포함)에 발급된 사용자의 토큰이 폐기되었는지 DB에서 직접 확인한다.
+     */
+    public boolean isRevoked(long userId, long issuedAtMillis) {
+        String sql = "SELECT COUNT(*) FROM token_revocation WHERE user_id = ? AND revoked_before >= ?";
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, userId, issuedAtMillis);
+        return count != null && count > 0;
+    }
+
+    /*
+        modifiedAt 이후에 변경된 폐기 정보를 조회한다.
+     */
+    public List<TokenRevocation> findModifiedSince(long modifiedAt) {
+        String sql = "SELECT user_id, revoked_before, modified_at FROM token_revocation WHERE modified_at >= ?";
+        return jdbcTemplate.query(sql, tokenRevocationRowMapper(), modifiedAt);
+    }
+
+    private RowMapper<TokenRevocation> tokenRevocationRowMapper() {
+        return (rs, count) -> new TokenRevocation(
+            rs.getLong("user_id"),
+            rs.getLong("revoked_before"),
+            rs.getLong("modified_at")
+        );
+    }
+}
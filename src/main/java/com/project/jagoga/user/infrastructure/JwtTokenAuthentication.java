@@ -1,9 +1,9 @@
 package com.project.jagoga.user.infrastructure;
 
-import com.project.jagoga.exception.user.ExpiredTokenException;
 import com.project.jagoga.exception.user.NotFoundUserException;
 import com.project.jagoga.exception.user.UnAuthorizedException;
 import com.project.jagoga.exception.user.UserAuthenticationFailException;
+import com.project.jagoga.user.domain.AuthToken;
 import com.project.jagoga.user.domain.AuthUser;
 import com.project.jagoga.user.domain.Authentication;
 import com.project.jagoga.user.domain.PasswordEncoder;
@@ -11,105 +11,161 @@ import com.project.jagoga.user.domain.Role;
 import com.project.jagoga.user.domain.User;
 import com.project.jagoga.user.domain.UserRepository;
 import com.project.jagoga.user.presentation.dto.request.LoginRequestDto;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Header;
-import io.jsonwebtoken.Jws;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
-
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Clock;
 import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtTokenAuthentication implements Authentication {
 
-    private final String secretKey;
+    private static final int AUTH_USER_CACHE_SIZE = 10_000;
+    private static final long ACCESS_TOKEN_VALIDITY_SECONDS = 60L * 30;
+
+    private final JwtTokenCodec jwtTokenCodec;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthUserCache authUserCache;
+    private final Clock clock;
 
+    @Autowired
     public JwtTokenAuthentication(
         @Value("${jwt.secret}") String secretKey,
         UserRepository userRepository,
-        PasswordEncoder passwordEncoder
+        PasswordEncoder passwordEncoder,
+        RefreshTokenStore refreshTokenStore,
+        TokenRevocationList tokenRevocationList
+    ) {
+        this(secretKey, userRepository, passwordEncoder, refreshTokenStore, tokenRevocationList, Clock.systemUTC());
+    }
+
+    JwtTokenAuthentication(
+        String secretKey,
+        UserRepository userRepository,
+        PasswordEncoder passwordEncoder,
+        RefreshTokenStore refreshTokenStore,
+        TokenRevocationList tokenRevocationList,
+        Clock clock
     ) {
-        this.secretKey = secretKey;
+        this.clock = clock;
+        this.jwtTokenCodec = new JwtTokenCodec(secretKey);
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.refreshTokenStore = refreshTokenStore;
+        this.tokenRevocationList = tokenRevocationList;
+        this.authUserCache = new AuthUserCache(AUTH_USER_CACHE_SIZE, tokenRevocationList);
     }
 
     @Override
     public String login(LoginRequestDto loginRequestDto) {
-        User foundUser = userRepository.getByEmail(loginRequestDto.getEmail())
+        User user = findLoginUser(loginRequestDto);
+        updatePassword(user, verifyPassword(user, loginRequestDto.getPassword()));
+        return createToken(user);
+    }
+
+    @Override
+    public AuthToken issueToken(LoginRequestDto loginRequestDto) {
+        User user = findLoginUser(loginRequestDto);
+        return issueToken(user, verifyPassword(user, loginRequestDto.getPassword()));
+    }
+
+    @Override
+    public User findLoginUser(LoginRequestDto loginRequestDto) {
+        return userRepository.getByEmail(loginRequestDto.getEmail())
             .orElseThrow(NotFoundUserException::new);
+    }
 
-        if (!passwordEncoder.isMatch(loginRequestDto.getPassword(), foundUser.getPassword())) {
+    /*
+        BCrypt cost가 변경된 경우 평문 비밀번호를 알 수 있는 로그인 시점에 새로운 cost로 다시 해싱한다.
+     */
+    @Override
+    public Optional<String> verifyPassword(User user, String password) {
+        if (!passwordEncoder.isMatch(password, user.getPassword())) {
             throw new UserAuthenticationFailException();
         }
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            return Optional.of(passwordEncoder.encrypt(password));
+        }
+        return Optional.empty();
+    }
 
-        return createToken(foundUser);
+    @Override
+    public AuthToken issueToken(User user, Optional<String> rehashedPassword) {
+        updatePassword(user, rehashedPassword);
+        String refreshToken = refreshTokenStore.issue(user.getId(), user.getEmail(), user.getRole());
+        return AuthToken.createInstance(createToken(user), refreshToken);
     }
 
+    /*
+        refresh token 세션에 보관된 사용자 정보로 access token을 재발급한다.
+        사용한 refresh token은 폐기하고 새 refresh token을 함께 발급한다.
+     */
     @Override
-    public Optional<AuthUser> getLoginUser(String token) {
-        Jws<Claims> claims = tokenParsing(token);
+    public AuthToken refresh(String refreshToken) {
+        RefreshSession session = refreshTokenStore.consume(refreshToken)
+            .orElseThrow(UnAuthorizedException::new);
+
+        String accessToken = createToken(session.getUserId(), session.getEmail(), session.getRole());
+        String newRefreshToken = refreshTokenStore.issue(session.getUserId(), session.getEmail(), session.getRole());
+        return AuthToken.createInstance(accessToken, newRefreshToken);
+    }
+
+    /*
+        사용자의 권한이나 비밀번호가 변경된 경우 기존에 발급된 access token과 refresh token을 모두 무효화한다.
+     */
+    @Override
+    public void revokeTokens(long userId) {
+        tokenRevocationList.revoke(userId);
+        refreshTokenStore.revokeAll(userId);
+    }
 
-        Long id = claims.getBody().get("id", Long.class);
-        String email = claims.getBody().get("email", String.class);
-        String roleValue = claims.getBody().get("role", String.class);
-        Role role = Role.valueOf(roleValue);
-        return Optional.of(AuthUser.createInstance(id, email, role));
+    private void updatePassword(User user, Optional<String> rehashedPassword) {
+        rehashedPassword.ifPresent(password -> {
+            user.setEncodedPassword(password);
+            userRepository.update(user);
+        });
     }
 
-    public void verifyLogin(String token) {
-        tokenParsing(token);
+    /*
+        한 번 검증된 토큰은 만료 전까지 캐시에서 조회하므로 서명 검증을 다시 하지 않는다.
+     */
+    @Override
+    public Optional<AuthUser> getLoginUser(String token) {
+        Optional<AuthUser> cachedUser = authUserCache.get(token);
+        if (cachedUser.isPresent()) {
+            return cachedUser;
+        }
+
+        TokenClaims claims = tokenParsing(token);
+        AuthUser authUser = AuthUser.createInstance(claims.getId(), claims.getEmail(), claims.getRole());
+
+        authUserCache.put(token, authUser, claims.getIssuedAtMillis(), claims.getExpirationMillis());
+        return Optional.of(authUser);
     }
 
     /*
         토큰 파싱 및 검증을 진행한다
         실패 시 에러가 발생한다.
      */
-    private Jws<Claims> tokenParsing(String token) {
-        try {
-            return Jwts.parser()
-                .setSigningKey(secretKey.getBytes())
-                .parseClaimsJws(token);
-        } catch (ExpiredJwtException e) {
-            throw new ExpiredTokenException();
-        } catch (Exception e) {
+    private TokenClaims tokenParsing(String token) {
+        TokenClaims claims = jwtTokenCodec.decode(token);
+        if (tokenRevocationList.isRevoked(claims.getId(), claims.getIssuedAtMillis())) {
             throw new UnAuthorizedException();
         }
+        return claims;
     }
 
     private String createToken(User user) {
-        // Header
-        Map<String, Object> headers = new HashMap<>();
-        headers.put("typ", "JWT");
-        headers.put("alg", "HS256");
-
-        // Payload
-        Map<String, Object> payloads = new HashMap<>();
-        payloads.put("id", user.getId());
-        payloads.put("email", user.getEmail());
-        payloads.put("role", user.getRole());
+        return createToken(user.getId(), user.getEmail(), user.getRole());
+    }
 
+    private String createToken(long id, String email, Role role) {
         // 만료기간 30분
-        Date expireTime = new Date();
-        expireTime.setTime(expireTime.getTime() + (1000 * 60L * 30));
-        payloads.put("exp", expireTime);
-
-        return Jwts.builder()
-                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
-                .setSubject("userToken")
-                .setClaims(payloads)
-                .setExpiration(expireTime)
-                .signWith(SignatureAlgorithm.HS256, secretKey.getBytes())
-                .compact();
+        long issuedAtMillis = clock.millis();
+        long expiration = issuedAtMillis / 1000 + ACCESS_TOKEN_VALIDITY_SECONDS;
+        return jwtTokenCodec.encode(new TokenClaims(id, email, role, issuedAtMillis, expiration));
     }
 }
@@ -0,0 +1,452 @@
+package com.project.jagoga.user.infrastructure;
+
+import com.project.jagoga.exception.user.ExpiredTokenException;
+import com.project.jagoga.exception.user.UnAuthorizedException;
+import com.project.jagoga.user.domain.Role;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/*
+    id, email, role, iat, exp 클레임만 사용하는 HS256 JWT 인코더/디코더
+    키는 생성 시점에 한 번만 만들고 Mac은 스레드별로 재사용한다.
+    디코딩 시 payload를 Map으로 변환하지 않고 base64 디코딩된 바이트에서 필요한 클레임만 읽으며,
+    서명은 상수 시간으로 비교한다.
+ */
+public class JwtTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String HEADER_JSON = "{\"typ\":\"JWT\",\"alg\":\"HS256\"}";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private static final String ENCODED_HEADER = ENCODER.encodeToString(HEADER_JSON.getBytes(StandardCharsets.UTF_8));
+    private static final byte[] ENCODED_HEADER_BYTES = ENCODED_HEADER.getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] ID = bytes("id");
+    private static final byte[] EMAIL = bytes("email");
+    private static final byte[] ROLE = bytes("role");
+    private static final byte[] IAT = bytes("iat");
+    private static final byte[] EXP = bytes("exp");
+    private static final byte[] ALG = bytes("alg");
+    private static final String HS256 = "HS256";
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+
+    public JwtTokenCodec(String secretKey) {
+        this.key = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::createMac);
+    }
+
+    public String encode(TokenClaims claims) {
+        StringBuilder payload = new StringBuilder(96)
+            .append("{\"id\":").append(claims.getId())
+            .append(",\"email\":");
+        appendJsonString(payload, claims.getEmail());
+        payload.append(",\"role\":\"").append(claims.getRole().name())
+            .append("\",\"iat\":");
+        appendNumericDate(payload, claims.getIssuedAtMillis());
+        payload.append(",\"exp\":").append(claims.getExpiration())
+            .append('}');
+
+        String unsignedToken = ENCODED_HEADER + '.'
+            + ENCODER.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] unsignedBytes = unsignedToken.getBytes(StandardCharsets.US_ASCII);
+
+        Mac mac = macs.get();
+        mac.update(unsignedBytes);
+        return unsignedToken + '.' + ENCODER.encodeToString(mac.doFinal());
+    }
+
+    /*
+        서명, 헤더, 만료 시간을 검증한 뒤 클레임을 반환한다.
+        만료된 토큰은 ExpiredTokenException, 그 외 모든 실패는 UnAuthorizedException이 발생한다.
+     */
+    public TokenClaims decode(String token) {
+        if (token == null) {
+            throw new UnAuthorizedException();
+        }
+
+        byte[] tokenBytes = token.getBytes(StandardCharsets.US_ASCII);
+        int firstDot = indexOf(tokenBytes, (byte) '.', 0);
+        int secondDot = firstDot < 0 ? -1 : indexOf(tokenBytes, (byte) '.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || indexOf(tokenBytes, (byte) '.', secondDot + 1) >= 0) {
+            throw new UnAuthorizedException();
+        }
+
+        if (!verifySignature(tokenBytes, secondDot)) {
+            throw new UnAuthorizedException();
+        }
+
+        TokenClaims claims;
+        try {
+            verifyHeader(tokenBytes, firstDot);
+            ByteBuffer payload = DECODER.decode(ByteBuffer.wrap(tokenBytes, firstDot + 1, secondDot - firstDot - 1));
+            claims = new ClaimsReader(payload.array(), payload.arrayOffset(), payload.limit()).readClaims();
+        } catch (RuntimeException e) {
+            throw new UnAuthorizedException();
+        }
+
+        if (claims.getExpirationMillis() <= System.currentTimeMillis()) {
+            throw new ExpiredTokenException();
+        }
+        return claims;
+    }
+
+    private boolean verifySignature(byte[] tokenBytes, int secondDot) {
+        Mac mac = macs.get();
+        mac.update(tokenBytes, 0, secondDot);
+        byte[] expected = ENCODER.encode(mac.doFinal());
+
+        int signatureLength = tokenBytes.length - secondDot - 1;
+        if (signatureLength != expected.length) {
+            return false;
+        }
+
+        int result = 0;
+        for (int i = 0; i < expected.length; i++) {
+            result |= expected[i] ^ tokenBytes[secondDot + 1 + i];
+        }
+        return result == 0;
+    }
+
+    private void verifyHeader(byte[] tokenBytes, int firstDot) {
+        if (firstDot == ENCODED_HEADER_BYTES.length && regionMatches(tokenBytes, 0, ENCODED_HEADER_BYTES)) {
+            return;
+        }
+
+        ByteBuffer header = DECODER.decode(ByteBuffer.wrap(tokenBytes, 0, firstDot));
+        String algorithm = new ClaimsReader(header.array(), header.arrayOffset(), header.limit()).readAlgorithm();
+        if (!HS256.equals(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 알고리즘입니다");
+        }
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void appendJsonString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
+    }
+
+    /*
+        밀리초를 소수점 이하 세 자리의 초(NumericDate)로 기록한다.
+     */
+    private static void appendNumericDate(StringBuilder builder, long millis) {
+        long fraction = millis % 1000;
+        builder.append(millis / 1000).append('.');
+        if (fraction < 100) {
+            builder.append('0');
+        }
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        builder.append(fraction);
+    }
+
+    private static int indexOf(byte[] bytes, byte target, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionMatches(byte[] bytes, int offset, byte[] expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if (bytes[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /*
+        평평한 JSON 객체에서 필요한 필드만 읽는 최소한의 파서
+        알 수 없는 필드는 값을 건너뛰며, 형식이 잘못된 경우 IllegalArgumentException이 발생한다.
+     */
+    private static class ClaimsReader {
+
+        private final byte[] json;
+        private final int end;
+        private int position;
+
+        private ClaimsReader(byte[] json, int offset, int length) {
+            this.json = json;
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        private TokenClaims readClaims() {
+            Long id = null;
+            String email = null;
+            Role role = null;
+            long issuedAtMillis = 0L;
+            Long expiration = null;
+
+            expect('{');
+            while (nextField()) {
+                int keyStart = position + 1;
+                int keyEnd = skipString();
+                expect(':');
+                if (keyEquals(keyStart, keyEnd, ID)) {
+                    id = readLong();
+                } else if (keyEquals(keyStart, keyEnd, EMAIL)) {
+                    email = readString();
+                } else if (keyEquals(keyStart, keyEnd, ROLE)) {
+                    role = Role.valueOf(readString());
+                } else if (keyEquals(keyStart, keyEnd, IAT)) {
+                    issuedAtMillis = readNumericDateMillis();
+                } else if (keyEquals(keyStart, keyEnd, EXP)) {
+                    expiration = readLong();
+                } else {
+                    skipValue();
+                }
+            }
+
+            if (id == null || email == null || role == null || expiration == null) {
+                throw new IllegalArgumentException("필수 클레임이 존재하지 않습니다");
+            }
+            return new TokenClaims(id, email, role, issuedAtMillis, expiration);
+        }
+
+        private String readAlgorithm() {
+            String algorithm = null;
+
+            expect('{');
+            while (nextField()) {
+                int keyStart = position + 1;
+                int keyEnd = skipString();
+                expect(':');
+                if (keyEquals(keyStart, keyEnd, ALG)) {
+                    algorithm = readString();
+                } else {
+                    skipValue();
+                }
+            }
+            return algorithm;
+        }
+
+        /*
+            다음 필드의 키 위치로 이동한다. 객체가 끝났으면 false를 반환한다.
+         */
+        private boolean nextField() {
+            skipWhitespace();
+            byte c = peek();
+            if (c == '}') {
+                position++;
+                return false;
+            }
+            if (c == ',') {
+                position++;
+                skipWhitespace();
+            }
+            if (peek() != '"') {
+                throw new IllegalArgumentException("잘못된 형식의 토큰입니다");
+            }
+            return true;
+        }
+
+        private long readLong() {
+            skipWhitespace();
+            boolean negative = false;
+            if (peek() == '-') {
+                negative = true;
+                position++;
+            }
+
+            int start = position;
+            long value = 0;
+            while (position < end && json[position] >= '0' && json[position] <= '9') {
+                value = Math.addExact(Math.multiplyExact(value, 10), json[position] - '0');
+                position++;
+            }
+            if (position == start) {
+                throw new IllegalArgumentException("숫자 형식이 아닙니다");
+            }
+            return negative ? -value : value;
+        }
+
+        /*
+            초 단위 NumericDate를 밀리초로 읽는다. 소수점 이하 네 번째 자리부터는 버린다.
+         */
+        private long readNumericDateMillis() {
+            long millis = Math.multiplyExact(readLong(), 1000L);
+            if (position >= end || json[position] != '.') {
+                return millis;
+            }
+            position++;
+
+            int start = position;
+            long scale = 100;
+            while (position < end && json[position] >= '0' && json[position] <= '9') {
+                millis += (json[position] - '0') * scale;
+                scale /= 10;
+                position++;
+            }
+            if (position == start) {
+                throw new IllegalArgumentException("숫자 형식이 아닙니다");
+            }
+            return millis;
+        }
+
+        private String readString() {
+            skipWhitespace();
+            int start = position + 1;
+            int stringEnd = skipString();
+
+            boolean escaped = false;
+            for (int i = start; i < stringEnd; i++) {
+                if (json[i] == '\\') {
+                    escaped = true;
+                    break;
+                }
+            }
+            if (!escaped) {
+                return new String(json, start, stringEnd - start, StandardCharsets.UTF_8);
+            }
+            return unescape(start, stringEnd);
+        }
+
+        private String unescape(int start, int stringEnd) {
+            String raw = new String(json, start, stringEnd - start, StandardCharsets.UTF_8);
+            StringBuilder builder = new StringBuilder(raw.length());
+            for (int i = 0; i < raw.length(); i++) {
+                char c = raw.charAt(i);
+                if (c != '\\') {
+                    builder.append(c);
+                    continue;
+                }
+
+                char next = raw.charAt(++i);
+                switch (next) {
+                    case 'b':
+                        builder.append('\b');
+                        break;
+                    case 'f':
+                        builder.append('\f');
+                        break;
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'u':
+                        builder.append((char) Integer.parseInt(raw.substring(i + 1, i + 5), 16));
+                        i += 4;
+                        break;
+                    default:
+                        builder.append(next);
+                }
+            }
+            return builder.toString();
+        }
+
+        /*
+            현재 위치의 문자열을 건너뛰고 닫는 따옴표의 위치를 반환한다.
+         */
+        private int skipString() {
+            expect('"');
+            while (position < end) {
+                byte c = json[position];
+                if (c == '\\') {
+                    position += 2;
+                    continue;
+                }
+                if (c == '"') {
+                    return position++;
+                }
+                position++;
+            }
+            throw new IllegalArgumentException("문자열이 끝나지 않았습니다");
+        }
+
+        private void skipValue() {
+            skipWhitespace();
+            int depth = 0;
+            while (position < end) {
+                byte c = json[position];
+                if (c == '"') {
+                    skipString();
+                    if (depth == 0) {
+                        return;
+                    }
+                    continue;
+                }
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    if (depth == 0) {
+                        return;
+                    }
+                    depth--;
+                } else if (c == ',' && depth == 0) {
+                    return;
+                }
+                position++;
+            }
+            throw new IllegalArgumentException("값이 끝나지 않았습니다");
+        }
+
+        private boolean keyEquals(int start, int keyEnd, byte[] key) {
+            if (keyEnd - start != key.length) {
+                return false;
+            }
+            return regionMatches(json, start, key);
+        }
+
+        private void expect(char expected) {
+            skipWhitespace();
+            if (peek() != expected) {
+                throw new IllegalArgumentException("잘못된 형식의 토큰입니다");
+            }
+            position++;
+        }
+
+        private byte peek() {
+            if (position >= end) {
+                throw new IllegalArgumentException("잘못된 형식의 토큰입니다");
+            }
+            return json[position];
+        }
+
+        private void skipWhitespace() {
+            while (position < end && (json[position] == ' ' || json[position] == '\t'
+                || json[position] == '\n' || json[position] == '\r')) {
+                position++;
+            }
+        }
+    }
+}
@@ -1,48 +1,203 @@
 package com.project.jagoga.user.infrastructure;
 
+import com.project.jagoga.user.domain.Role;
 import com.project.jagoga.user.domain.User;
 import com.project.jagoga.user.domain.UserRepository;
+import com.project.jagoga.utils.SnapshotFiles;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
-import org.apache.commons.lang3.StringUtils;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
 
+/*
+    memory 프로필에서 사용하는 단일 노드용 사용자 저장소
+    id 외에 email 해시 인덱스를 함께 유지하며, 데이터와 인덱스는 하나의 read-write lock으로 보호한다.
+    엔티티는 저장과 조회 모두 복사본으로 주고받으므로, 호출자가 락 밖에서 변경해도 저장된 값에 반영되지 않는다.
+    스냅샷 경로가 설정되면 시작 시 스냅샷을 읽고 주기적으로/종료 시 디스크에 기록한다.
+ */
+@Repository
+@Profile("memory")
 public class MemoryUserRepository implements UserRepository {
 
-    private static ConcurrentHashMap<Long, User> userMap = new ConcurrentHashMap<>();
-    private static AtomicLong sequence = new AtomicLong(); // 초기값이 0인 AtomicLong을 생성
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, User> userMap = new HashMap<>();
+    private final Map<String, Long> emailIndex = new HashMap<>();
+    private final Map<Long, String> indexedEmails = new HashMap<>();
+    private final Path snapshotPath;
+    private long sequence;
+
+    public MemoryUserRepository() {
+        this("");
+    }
+
+    @Autowired
+    public MemoryUserRepository(@Value("${memory.snapshot.directory:}") String snapshotDirectory) {
+        this.snapshotPath = snapshotDirectory.isEmpty() ? null : Paths.get(snapshotDirectory, "users.snapshot");
+    }
 
     @Override
     public User save(User user) {
-        user.setId(sequence.incrementAndGet());
-        userMap.put(user.getId(), user);
-        return user;
+        lock.writeLock().lock();
+        try {
+            if (emailIndex.containsKey(user.getEmail())) {
+                throw new DuplicateKeyException("이미 존재하는 이메일입니다");
+            }
+            user.setId(++sequence);
+            put(user);
+            return user;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public User update(User user) {
-        userMap.put(user.getId(), user);
-        return user;
+        lock.writeLock().lock();
+        try {
+            Long emailUserId = emailIndex.get(user.getEmail());
+            if (emailUserId != null && !emailUserId.equals(user.getId())) {
+                throw new DuplicateKeyException("이미 존재하는 이메일입니다");
+            }
+            put(user);
+            return user;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public Optional<User> findById(Long userId) {
-        return Optional.ofNullable(userMap.get(userId));
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(userMap.get(userId)).map(MemoryUserRepository::copyOf);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public Optional<User> getByEmail(String email) {
-        return userMap.values().stream().filter(user -> StringUtils.equals(user.getEmail(), email)).findAny();
+        lock.readLock().lock();
+        try {
+            Long userId = emailIndex.get(email);
+            return userId == null
+                ? Optional.empty() : Optional.ofNullable(userMap.get(userId)).map(MemoryUserRepository::copyOf);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public boolean existsByEmail(String email) {
-        return userMap.values().stream()
-            .anyMatch(user -> StringUtils.equals(user.getEmail(), email));
+        lock.readLock().lock();
+        try {
+            return emailIndex.containsKey(email);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public void deleteAll() {
-        userMap.clear();
+        lock.writeLock().lock();
+        try {
+            userMap.clear();
+            emailIndex.clear();
+            indexedEmails.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PostConstruct
+    public void loadSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            SnapshotFiles.read(snapshotPath, this::readSnapshot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${memory.snapshot.interval-millis:60000}")
+    public void takeSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        long lastSequence;
+        List<User> users;
+        lock.readLock().lock();
+        try {
+            lastSequence = sequence;
+            users = new ArrayList<>(userMap.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+        SnapshotFiles.write(snapshotPath, out -> writeSnapshot(out, lastSequence, users));
+    }
+
+    /*
+        email이 변경된 경우를 대비해 이전에 인덱싱한 값을 지운 뒤 다시 인덱싱한다.
+        write lock을 획득한 상태에서 호출해야 한다.
+     */
+    private void put(User user) {
+        String previousEmail = indexedEmails.put(user.getId(), user.getEmail());
+        if (previousEmail != null) {
+            emailIndex.remove(previousEmail, user.getId());
+        }
+        userMap.put(user.getId(), copyOf(user));
+        emailIndex.put(user.getEmail(), user.getId());
+    }
+
+    private static User copyOf(User user) {
+        return User.restore(user.getId(), user.getEmail(), user.getName(), user.getPassword(), user.getPhone(),
+            user.getRole());
+    }
+
+    private void writeSnapshot(DataOutputStream out, long lastSequence, List<User> users) throws IOException {
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeLong(lastSequence);
+        out.writeInt(users.size());
+        for (User user : users) {
+            out.writeLong(user.getId());
+            out.writeUTF(user.getEmail());
+            out.writeUTF(user.getName());
+            out.writeUTF(user.getPassword());
+            out.writeUTF(user.getPhone());
+            out.writeUTF(user.getRole().name());
+        }
+    }
+
+    private void readSnapshot(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전입니다");
+        }
+        sequence = in.readLong();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            put(User.restore(in.readLong(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(),
+                Role.valueOf(in.readUTF())));
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.project.jagoga.user.infrastructure;
+
+import com.project.jagoga.user.domain.Role;
+import lombok.Getter;
+
+/*
+    refresh token 한 개에 대응하는 서버 측 세션
+    access token 재발급에 필요한 사용자 정보만 보관하므로 재발급시 사용자 조회나 비밀번호 검증이 필요없다.
+ */
+@Getter
+public class RefreshSession {
+
+    private final String tokenHash;
+    private final long userId;
+    private final String email;
+    private final Role role;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+
+    public RefreshSession(String tokenHash, long userId, String email, Role role, long issuedAtMillis,
+                          long expiresAtMillis) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.issuedAtMillis = issuedAtMillis;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAtMillis <= now;
+    }
+}
@@ -0,0 +1,161 @@
+package com.project.jagoga.user.infrastructure;
+
+import com.project.jagoga.user.domain.Role;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+    refresh token 세션 저장소
+    세션은 토큰 원문이 아닌 SHA-256 해시값을 키로 보관한다. 발급한 세션은 메모리에 두었다가 주기적으로 DB에 반영한다.
+    사용(consume)은 DB의 행을 삭제해서 소유권을 얻는 방식이라 같은 토큰을 여러 인스턴스에서 동시에 사용해도 한 번만 성공한다.
+    아직 DB에 반영되지 않은 세션은 발급한 인스턴스에만 있으므로 메모리에서 꺼내는 것으로 소유권을 얻는다.
+    메모리의 세션 맵은 DB 조회를 줄이기 위한 캐시일 뿐이며 사용 가능 여부를 판단하지 않는다.
+ */
+@Component
+public class RefreshTokenStore {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final long DEFAULT_VALIDITY_MILLIS = 1000L * 60 * 60 * 24 * 14;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final JdbcRefreshTokenRepository jdbcRefreshTokenRepository;
+    private final JdbcTokenRevocationRepository jdbcTokenRevocationRepository;
+    private final long validityMillis;
+
+    private final ConcurrentHashMap<String, RefreshSession> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, RefreshSession> pendingInserts = new ConcurrentHashMap<>();
+    // 스냅샷이 꺼낸 세션을 DB에 반영하는 동안에는 메모리에도 DB에도 없으므로 사용을 잠시 기다리게 한다
+    private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    public RefreshTokenStore(
+        JdbcRefreshTokenRepository jdbcRefreshTokenRepository,
+        JdbcTokenRevocationRepository jdbcTokenRevocationRepository,
+        @Value("${jwt.refresh.validity-millis:" + DEFAULT_VALIDITY_MILLIS + "}") long validityMillis
+    ) {
+        this.jdbcRefreshTokenRepository = jdbcRefreshTokenRepository;
+        this.jdbcTokenRevocationRepository = jdbcTokenRevocationRepository;
+        this.validityMillis = validityMillis;
+    }
+
+    /*
+        새 refresh token을 발급하고 원문을 반환한다.
+     */
+    public String issue(long userId, String email, Role role) {
+        byte[] randomBytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(randomBytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+
+        String tokenHash = hash(refreshToken);
+        long now = System.currentTimeMillis();
+        RefreshSession session = new RefreshSession(tokenHash, userId, email, role, now, now + validityMillis);
+        sessions.put(tokenHash, session);
+        pendingInserts.put(tokenHash, session);
+        return refreshToken;
+    }
+
+    /*
+        유효한 세션을 꺼내고 저장소에서 제거한다. 재발급시 refresh token도 새로 발급(rotation)하므로 한 번만 사용할 수 있다.
+        다른 인스턴스에서 폐기(revokeAll)한 사용자의 세션이 늦게 DB에 반영될 수 있으므로 폐기 시각도 DB에서 확인한다.
+     */
+    public Optional<RefreshSession> consume(String refreshToken) {
+        if (refreshToken == null) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        String tokenHash = hash(refreshToken);
+        RefreshSession session;
+        snapshotLock.readLock().lock();
+        try {
+            session = claim(tokenHash, now);
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+
+        if (session == null || session.isExpired(now)
+            || jdbcTokenRevocationRepository.isRevoked(session.getUserId(), session.getIssuedAtMillis())) {
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    public void revokeAll(long userId) {
+        pendingInserts.values().removeIf(session -> session.getUserId() == userId);
+        sessions.values().removeIf(session -> session.getUserId() == userId);
+        jdbcRefreshTokenRepository.deleteSessionsByUserId(userId);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /*
+        마지막 스냅샷 이후 발급된 세션을 DB에 반영하고 만료된 세션을 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.snapshot-interval-millis:5000}")
+    @PreDestroy
+    public void snapshot() {
+        long now = System.currentTimeMillis();
+        sessions.values().removeIf(session -> session.isExpired(now));
+
+        snapshotLock.writeLock().lock();
+        try {
+            List<RefreshSession> inserts = new ArrayList<>();
+            for (String tokenHash : new ArrayList<>(pendingInserts.keySet())) {
+                RefreshSession session = pendingInserts.remove(tokenHash);
+                if (session != null && !session.isExpired(now)) {
+                    inserts.add(session);
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcRefreshTokenRepository.batchInsertSessions(inserts);
+            }
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+        jdbcRefreshTokenRepository.deleteExpiredSessions(now);
+    }
+
+    private RefreshSession claim(String tokenHash, long now) {
+        RefreshSession pending = pendingInserts.remove(tokenHash);
+        if (pending != null) {
+            sessions.remove(tokenHash);
+            return pending;
+        }
+
+        RefreshSession cached = sessions.remove(tokenHash);
+        RefreshSession session = cached != null
+            ? cached
+            : jdbcRefreshTokenRepository.findSession(tokenHash, now).orElse(null);
+        if (session == null || !jdbcRefreshTokenRepository.claimSession(tokenHash, now)) {
+            return null;
+        }
+        return session;
+    }
+
+    private String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.jagoga.user.infrastructure;
+
+import com.project.jagoga.user.domain.Role;
+import lombok.Getter;
+
+/*
+    JwtTokenCodec이 다루는 고정된 클레임 집합
+    exp는 JWT 표준에 따라 epoch seconds 단위이다.
+    iat는 토큰 폐기 시각과 비교하기 위해 밀리초 단위로 보관하며, 토큰에는 소수점 이하 세 자리의 초로 기록된다.
+    iat가 없는 토큰은 0으로 취급한다.
+ */
+@Getter
+public class TokenClaims {
+
+    private final long id;
+    private final String email;
+    private final Role role;
+    private final long issuedAtMillis;
+    private final long expiration;
+
+    public TokenClaims(long id, String email, Role role, long issuedAtMillis, long expiration) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.issuedAtMillis = issuedAtMillis;
+        this.expiration = expiration;
+    }
+
+    public long getExpirationMillis() {
+        return expiration * 1000L;
+    }
+}
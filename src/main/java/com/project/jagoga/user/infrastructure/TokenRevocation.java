@@ -0,0 +1,17 @@
+package com.project.jagoga.user.infrastructure;
+
+import lombok.Getter;
+
+@Getter
+public class TokenRevocation {
+
+    private final long userId;
+    private final long revokedBefore;
+    private final long modifiedAt;
+
+    public TokenRevocation(long userId, long revokedBefore, long modifiedAt) {
+        this.userId = userId;
+        this.revokedBefore = revokedBefore;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -0,0 +1,100 @@
+package com.project.jagoga.user.infrastructure;
+
+import com.project.jagoga.utils.LongLongHashMap;
+import java.time.Clock;
+import java.util.List;
+import javax.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+    사용자별 "이 시각 이전에 발급된 토큰은 무효" 정보를 보관한다.
+    조회는 volatile 참조 하나와 primitive 맵 조회뿐이라 요청마다 확인해도 객체를 생성하지 않는다.
+    변경은 맵을 복사해서 수정한 뒤 참조를 교체(copy-on-write)하므로 조회는 락이 필요없다.
+    다른 인스턴스에서 폐기한 정보는 주기적으로 DB에서 변경분만 읽어 반영한다.
+
+    폐기 시각과 iat는 모두 밀리초 단위이며, 폐기 시각과 같은 밀리초에 발급된 토큰도 무효로 본다.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final long NOT_REVOKED = Long.MIN_VALUE;
+    // 인스턴스 간 시계 오차와 커밋 지연을 고려해 마지막 조회 시각보다 앞선 구간을 다시 읽는다
+    private static final long REFRESH_OVERLAP_MILLIS = 10_000L;
+
+    private final JdbcTokenRevocationRepository jdbcTokenRevocationRepository;
+    private final Clock clock;
+
+    private volatile LongLongHashMap revokedBefore = new LongLongHashMap();
+    private long lastModifiedAt;
+
+    @Autowired
+    public TokenRevocationList(JdbcTokenRevocationRepository jdbcTokenRevocationRepository) {
+        this(jdbcTokenRevocationRepository, Clock.systemUTC());
+    }
+
+    TokenRevocationList(JdbcTokenRevocationRepository jdbcTokenRevocationRepository, Clock clock) {
+        this.jdbcTokenRevocationRepository = jdbcTokenRevocationRepository;
+        this.clock = clock;
+    }
+
+    public boolean isRevoked(long userId, long issuedAtMillis) {
+        return issuedAtMillis <= revokedBefore.get(userId, NOT_REVOKED);
+    }
+
+    /*
+        현재 시각까지 발급된 사용자의 모든 토큰을 무효화한다.
+        트랜잭션 안에서 호출되면 메모리 반영은 커밋 이후에 한다. 롤백되면 DB와 마찬가지로 반영하지 않는다.
+     */
+    public void revoke(long userId) {
+        long now = clock.millis();
+        jdbcTokenRevocationRepository.saveRevocation(userId, now, now);
+        List<TokenRevocation> revocations = List.of(new TokenRevocation(userId, now, now));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(revocations);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(revocations);
+            }
+        });
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-millis:5000}")
+    public void refresh() {
+        long since;
+        synchronized (this) {
+            since = lastModifiedAt == 0L ? 0L : lastModifiedAt - REFRESH_OVERLAP_MILLIS;
+        }
+        List<TokenRevocation> revocations = jdbcTokenRevocationRepository.findModifiedSince(since);
+        if (!revocations.isEmpty()) {
+            apply(revocations);
+        }
+    }
+
+    private synchronized void apply(List<TokenRevocation> revocations) {
+        LongLongHashMap updated = null;
+        for (TokenRevocation revocation : revocations) {
+            LongLongHashMap current = updated == null ? revokedBefore : updated;
+            if (current.get(revocation.getUserId(), NOT_REVOKED) >= revocation.getRevokedBefore()) {
+                continue;
+            }
+            if (updated == null) {
+                updated = revokedBefore.copy();
+            }
+            updated.put(revocation.getUserId(), revocation.getRevokedBefore());
+        }
+        for (TokenRevocation revocation : revocations) {
+            lastModifiedAt = Math.max(lastModifiedAt, revocation.getModifiedAt());
+        }
+        if (updated != null) {
+            revokedBefore = updated;
+        }
+    }
+}
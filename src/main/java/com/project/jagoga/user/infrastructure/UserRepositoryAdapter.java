@@ -4,9 +4,11 @@ import com.project.jagoga.user.domain.User;
 import com.project.jagoga.user.domain.UserRepository;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 @Component
+@Profile("!memory")
 @RequiredArgsConstructor
 public class UserRepositoryAdapter implements UserRepository {
 
@@ -2,18 +2,25 @@ package com.project.jagoga.user.presentation.controller;
 
 import com.project.jagoga.exception.dto.ApiResponse;
 import com.project.jagoga.user.application.UserService;
+import com.project.jagoga.user.domain.AuthToken;
 import com.project.jagoga.user.domain.AuthUser;
 import com.project.jagoga.user.domain.Authentication;
 import com.project.jagoga.user.domain.LoginCheck;
+import com.project.jagoga.user.domain.PasswordEncoder;
 import com.project.jagoga.user.domain.RequireLoginUser;
 import com.project.jagoga.user.domain.User;
 import com.project.jagoga.user.presentation.dto.request.LoginRequestDto;
+import com.project.jagoga.user.presentation.dto.request.RefreshTokenRequestDto;
 import com.project.jagoga.user.presentation.dto.request.UserCreateRequestDto;
 import com.project.jagoga.user.presentation.dto.request.UserUpdateRequestDto;
 import com.project.jagoga.user.presentation.dto.response.JwtResponseDto;
 import com.project.jagoga.user.presentation.dto.response.UserResponseDto;
+import com.project.jagoga.utils.BoundedExecutor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -30,28 +37,59 @@ public class UserController {
 
     private final UserService userService;
     private final Authentication authentication;
+    private final PasswordEncoder passwordEncoder;
+    @Qualifier("passwordHashingExecutor")
+    private final BoundedExecutor passwordHashingExecutor;
+    @Qualifier("applicationTaskExecutor")
+    private final Executor applicationTaskExecutor;
 
+    /*
+        비밀번호 해싱만 해싱 풀에서 수행하고, 이후의 DB 작업은 해싱 풀 밖(applicationTaskExecutor)에서 이어간다.
+        요청 스레드는 해싱을 기다리지 않고, 해싱 풀 스레드는 DB 커넥션을 잡지 않는다.
+        회원가입, 로그인, 회원정보 수정 모두 같은 방식을 따른다.
+     */
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ApiResponse<UserResponseDto> signUp(@Valid @RequestBody final UserCreateRequestDto userCreateRequestDto) {
-        User user = userService.signUp(userCreateRequestDto);
-        return ApiResponse.createSuccess(UserResponseDto.createInstance(user));
+    public CompletableFuture<ApiResponse<UserResponseDto>> signUp(
+        @Valid @RequestBody final UserCreateRequestDto userCreateRequestDto
+    ) {
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encrypt(userCreateRequestDto.getPassword()))
+            .thenApplyAsync(encodedPassword -> userService.signUp(userCreateRequestDto, encodedPassword),
+                applicationTaskExecutor)
+            .thenApply(user -> ApiResponse.createSuccess(UserResponseDto.createInstance(user)));
     }
 
     @PostMapping("/login")
-    public ApiResponse<JwtResponseDto> login(@Valid @RequestBody final LoginRequestDto loginRequestDto) {
-        String token = authentication.login(loginRequestDto);
-        return ApiResponse.createSuccess(JwtResponseDto.createInstance(token));
+    public CompletableFuture<ApiResponse<JwtResponseDto>> login(
+        @Valid @RequestBody final LoginRequestDto loginRequestDto
+    ) {
+        User user = authentication.findLoginUser(loginRequestDto);
+        return passwordHashingExecutor.submit(
+                () -> authentication.verifyPassword(user, loginRequestDto.getPassword()))
+            .thenApplyAsync(rehashedPassword -> authentication.issueToken(user, rehashedPassword),
+                applicationTaskExecutor)
+            .thenApply(authToken -> ApiResponse.createSuccess(JwtResponseDto.createInstance(authToken)));
+    }
+
+    @PostMapping("/token/refresh")
+    public ApiResponse<JwtResponseDto> refreshToken(
+        @Valid @RequestBody final RefreshTokenRequestDto refreshTokenRequestDto
+    ) {
+        AuthToken authToken = authentication.refresh(refreshTokenRequestDto.getRefreshToken());
+        return ApiResponse.createSuccess(JwtResponseDto.createInstance(authToken));
     }
 
     @LoginCheck
     @PutMapping("/{id}")
-    public ApiResponse<UserResponseDto> updateUser(
+    public CompletableFuture<ApiResponse<UserResponseDto>> updateUser(
         @PathVariable("id") final long id,
         @Valid @RequestBody final UserUpdateRequestDto userUpdateRequestDto,
         @RequireLoginUser AuthUser loginUser
     ) {
-        User user = userService.updateUser(id, userUpdateRequestDto, loginUser);
-        return ApiResponse.createSuccess(UserResponseDto.createInstance(user));
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encrypt(userUpdateRequestDto.getPassword()))
+            .thenApplyAsync(encodedPassword ->
+                    userService.updateUser(id, userUpdateRequestDto, encodedPassword, loginUser),
+                applicationTaskExecutor)
+            .thenApply(user -> ApiResponse.createSuccess(UserResponseDto.createInstance(user)));
     }
 }
@@ -5,6 +5,7 @@ import com.project.jagoga.exception.user.DuplicatedUserException;
 import com.project.jagoga.exception.user.ExpiredTokenException;
 import com.project.jagoga.exception.user.ForbiddenException;
 import com.project.jagoga.exception.user.NotFoundUserException;
+import com.project.jagoga.exception.user.PasswordHashingRejectedException;
 import com.project.jagoga.exception.user.UnAuthorizedException;
 import com.project.jagoga.exception.user.UnknownRoleTypeException;
 import com.project.jagoga.exception.user.UserAuthenticationFailException;
@@ -63,4 +64,10 @@ public class UserExceptionHandler {
     public ResponseEntity<ApiResponse<?>> handleUnknownRoleTypeException(RuntimeException exception) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.createError(exception.getMessage()));
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ApiResponse<?>> handlePasswordHashingRejectedException(RuntimeException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(ApiResponse.createError(exception.getMessage()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.project.jagoga.user.presentation.dto.request;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class RefreshTokenRequestDto {
+
+    @NotBlank(message = "refresh token은 빈 값일 수 없습니다")
+    private String refreshToken;
+}
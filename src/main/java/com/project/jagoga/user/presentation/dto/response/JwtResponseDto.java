@@ -1,5 +1,6 @@
 package com.project.jagoga.user.presentation.dto.response;
 
+import com.project.jagoga.user.domain.AuthToken;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -9,8 +10,9 @@ import lombok.Getter;
 public class JwtResponseDto {
 
     private final String accessToken;
+    private final String refreshToken;
 
-    public static JwtResponseDto createInstance(String accessToken) {
-        return new JwtResponseDto(accessToken);
+    public static JwtResponseDto createInstance(AuthToken authToken) {
+        return new JwtResponseDto(authToken.getAccessToken(), authToken.getRefreshToken());
     }
 }
@@ -1,5 +1,7 @@
 package com.project.jagoga.user.presentation.interceptor;
 
+import com.project.jagoga.exception.user.UnAuthorizedException;
+import com.project.jagoga.user.domain.AuthUser;
 import com.project.jagoga.user.domain.Authentication;
 import com.project.jagoga.user.domain.LoginCheck;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,9 @@ import javax.servlet.http.HttpServletResponse;
 @RequiredArgsConstructor
 public class AuthenticationInterceptor implements HandlerInterceptor {
 
+    // 인증이 끝난 AuthUser를 요청 속성에 저장해 RequireLoginUserArgumentResolver에서 토큰을 다시 파싱하지 않도록 한다.
+    public static final String AUTH_USER_ATTRIBUTE = AuthenticationInterceptor.class.getName() + ".AUTH_USER";
+
     private final Authentication authentication;
 
     @Override
@@ -33,6 +38,7 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
 
     private void verifyLogin(HttpServletRequest request) {
         String token = request.getHeader(HttpHeaders.AUTHORIZATION);
-        authentication.verifyLogin(token);
+        AuthUser authUser = authentication.getLoginUser(token).orElseThrow(UnAuthorizedException::new);
+        request.setAttribute(AUTH_USER_ATTRIBUTE, authUser);
     }
 }
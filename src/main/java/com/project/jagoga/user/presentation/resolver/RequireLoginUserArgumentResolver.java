@@ -3,11 +3,13 @@ package com.project.jagoga.user.presentation.resolver;
 import com.project.jagoga.exception.user.UnAuthorizedException;
 import com.project.jagoga.user.domain.Authentication;
 import com.project.jagoga.user.domain.RequireLoginUser;
+import com.project.jagoga.user.presentation.interceptor.AuthenticationInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
@@ -30,6 +32,12 @@ public class RequireLoginUserArgumentResolver implements HandlerMethodArgumentRe
         NativeWebRequest nativeWebRequest,
         WebDataBinderFactory webDataBinderFactory
     ) throws Exception {
+        Object authUser = nativeWebRequest
+            .getAttribute(AuthenticationInterceptor.AUTH_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (authUser != null) {
+            return authUser;
+        }
+
         String token = nativeWebRequest.getHeader(HttpHeaders.AUTHORIZATION);
         return authentication.getLoginUser(token).orElseThrow(UnAuthorizedException::new);
     }
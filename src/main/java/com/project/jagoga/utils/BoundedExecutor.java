@@ -0,0 +1,92 @@
+package com.project.jagoga.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/*
+    스레드 수와 대기열 크기가 모두 제한된 실행기
+    대기열이 가득 차면 작업을 쌓아두지 않고 즉시 rejectionException으로 실패한 future를 반환한다.
+ */
+public class BoundedExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Supplier<? extends RuntimeException> rejectionException;
+
+    public BoundedExecutor(String name, int threads, int queueCapacity,
+                           Supplier<? extends RuntimeException> rejectionException) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new NamedThreadFactory(name), new ThreadPoolExecutor.AbortPolicy());
+        this.rejectionException = rejectionException;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(rejectionException.get());
+        }
+    }
+
+    /*
+        timeoutMillis 안에 끝나지 않으면 TimeoutException으로 실패한 future를 반환한다.
+        그때까지 대기열에 있던 작업은 대기열에서 빼고, 그 사이 꺼내진 작업도 실행하지 않는다.
+        이미 실행 중인 작업은 중단하지 않고 끝까지 실행하며 결과는 버려진다.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task, long timeoutMillis) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable runnable = () -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(task.get());
+            } catch (Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        };
+        try {
+            executor.execute(runnable);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(rejectionException.get());
+        }
+        future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+            .whenComplete((result, throwable) -> {
+                if (throwable instanceof TimeoutException) {
+                    executor.remove(runnable);
+                }
+            });
+        return future;
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
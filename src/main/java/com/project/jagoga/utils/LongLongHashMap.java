@@ -0,0 +1,98 @@
+package com.project.jagoga.utils;
+
+import java.util.Arrays;
+
+/*
+    long 키와 long 값을 박싱 없이 보관하는 open addressing 해시맵
+    조회 시 객체를 생성하지 않는다. 0은 빈 슬롯 표시에 사용하므로 키로 사용할 수 없다.
+    동기화하지 않으므로 공유할 때는 copy()로 복사본을 만들어 수정한 뒤 교체하는 방식으로 사용한다.
+ */
+public class LongLongHashMap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    public LongLongHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = tableSizeFor((int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR));
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+    }
+
+    public long get(long key, long defaultValue) {
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (true) {
+            long current = keys[index];
+            if (current == key) {
+                return values[index];
+            }
+            if (current == 0L) {
+                return defaultValue;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public void put(long key, long value) {
+        if (key == 0L) {
+            throw new IllegalArgumentException("0은 키로 사용할 수 없습니다");
+        }
+        if (size + 1 > keys.length * LOAD_FACTOR) {
+            resize(keys.length << 1);
+        }
+
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (keys[index] != 0L && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        if (keys[index] == 0L) {
+            keys[index] = key;
+            size++;
+        }
+        values[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public LongLongHashMap copy() {
+        LongLongHashMap copied = new LongLongHashMap(0);
+        copied.keys = Arrays.copyOf(keys, keys.length);
+        copied.values = Arrays.copyOf(values, values.length);
+        copied.size = size;
+        return copied;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0L) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        return Math.max(size, 2);
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.jagoga.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/*
+    메모리 저장소의 디스크 스냅샷 입출력
+    임시 파일에 모두 기록한 뒤 원자적으로 교체하므로 기록 도중 종료되어도 이전 스냅샷이 유지된다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SnapshotFiles {
+
+    public interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    public interface Reader {
+        void read(DataInputStream in) throws IOException;
+    }
+
+    public static void write(Path path, Writer writer) {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+            try (DataOutputStream out =
+                     new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                writer.write(out);
+            }
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+        스냅샷 파일이 없으면 false를 반환한다.
+     */
+    public static boolean read(Path path, Reader reader) {
+        if (!Files.exists(path)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            reader.read(in);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    public static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    public static void writeNullableDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    public static Double readNullableDouble(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readDouble() : null;
+    }
+}
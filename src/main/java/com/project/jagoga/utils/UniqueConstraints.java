@@ -0,0 +1,52 @@
+package com.project.jagoga.utils;
+
+import java.sql.SQLException;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+/*
+    사전 조회 없이 insert를 실행하고, unique 제약조건 위반을 도메인의 중복 예외로 변환한다.
+    중복 여부는 DB의 unique 인덱스가 판단하므로 조회와 저장 사이의 경쟁 상태가 없다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class UniqueConstraints {
+
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    public static <T> T insertOrThrow(Supplier<T> insert, Supplier<? extends RuntimeException> duplicatedException) {
+        try {
+            return insert.get();
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw duplicatedException.get();
+            }
+            throw e;
+        }
+    }
+
+    /*
+        JPA를 거친 예외는 DuplicateKeyException으로 변환되지 않으므로 원인 SQLException의 에러 코드를 확인한다.
+     */
+    public static boolean isUniqueViolation(DataIntegrityViolationException exception) {
+        if (exception instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException) {
+                SQLException sqlException = (SQLException) cause;
+                if (sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY
+                    || UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                    return true;
+                }
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
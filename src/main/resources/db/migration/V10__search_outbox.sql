@@ -0,0 +1,11 @@
+create table search_outbox (
+    outbox_id bigint AUTO_INCREMENT not null,
+    accommodation_id bigint not null,
+    event_type varchar(20) not null,
+    created_at bigint not null,
+    claim_token varchar(36),
+    claimed_until bigint,
+    primary key (outbox_id)
+) engine=InnoDB;
+
+create index idx_search_outbox_claim on search_outbox (claim_token);
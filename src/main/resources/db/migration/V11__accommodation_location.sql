@@ -0,0 +1,2 @@
+ALTER TABLE accommodation ADD COLUMN latitude double;
+ALTER TABLE accommodation ADD COLUMN longitude double;
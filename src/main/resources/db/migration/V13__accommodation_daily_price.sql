@@ -0,0 +1,19 @@
+create table accommodation_daily_price (
+    accommodation_id bigint not null,
+    price_date date not null,
+    city_id bigint,
+    low_price int not null,
+    primary key (accommodation_id, price_date)
+) engine=InnoDB;
+
+CREATE INDEX idx_daily_price_date_price ON accommodation_daily_price(price_date, low_price, accommodation_id);
+CREATE INDEX idx_daily_price_city_date_price
+    ON accommodation_daily_price(city_id, price_date, low_price, accommodation_id);
+
+INSERT INTO accommodation_daily_price (accommodation_id, price_date, city_id, low_price)
+SELECT r.accommodation_id, i.inventory_date, a.city_id, MIN(r.price)
+FROM room_inventory i
+JOIN roomtype r ON r.roomtype_id = i.roomtype_id
+JOIN accommodation a ON a.accommodation_id = r.accommodation_id
+WHERE i.available_count > 0 AND i.inventory_date IS NOT NULL AND r.price IS NOT NULL
+GROUP BY r.accommodation_id, i.inventory_date, a.city_id;
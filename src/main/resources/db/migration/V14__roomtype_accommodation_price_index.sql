@@ -0,0 +1 @@
+CREATE INDEX idx_roomtype_accommodation_price ON roomtype(accommodation_id, price);
@@ -0,0 +1,30 @@
+create table inventory_change_sequence (
+    sequence_id int not null,
+    last_sequence bigint not null,
+    primary key (sequence_id)
+) engine=InnoDB;
+
+create table room_inventory_change (
+    roomtype_id bigint not null,
+    inventory_date date not null,
+    change_sequence bigint not null,
+    primary key (roomtype_id, inventory_date)
+) engine=InnoDB;
+
+CREATE UNIQUE INDEX idx_room_inventory_change_sequence ON room_inventory_change(change_sequence);
+
+create table room_inventory_change_pending (
+    pending_id bigint AUTO_INCREMENT not null,
+    roomtype_id bigint not null,
+    start_date date not null,
+    end_date date not null,
+    primary key (pending_id)
+) engine=InnoDB;
+
+INSERT INTO inventory_change_sequence (sequence_id, last_sequence) VALUES (1, 0);
+
+INSERT INTO room_inventory_change_pending (roomtype_id, start_date, end_date)
+SELECT roomtype_id, MIN(inventory_date), MAX(inventory_date)
+FROM room_inventory
+WHERE inventory_date IS NOT NULL
+GROUP BY roomtype_id;
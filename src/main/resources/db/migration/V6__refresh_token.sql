@@ -0,0 +1,12 @@
+create table refresh_token (
+    token_hash varchar(64) not null,
+    user_id bigint not null,
+    email varchar(255) not null,
+    role varchar(10) not null,
+    issued_at bigint not null,
+    expires_at bigint not null,
+    primary key (token_hash)
+) engine=InnoDB;
+
+CREATE INDEX idx_refresh_token_user ON refresh_token(user_id);
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token(expires_at);
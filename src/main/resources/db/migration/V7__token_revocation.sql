@@ -0,0 +1,8 @@
+create table token_revocation (
+    user_id bigint not null,
+    revoked_before bigint not null comment 'epoch milliseconds',
+    modified_at bigint not null comment 'epoch milliseconds',
+    primary key (user_id)
+) engine=InnoDB;
+
+CREATE INDEX idx_token_revocation_modified_at ON token_revocation(modified_at);
@@ -0,0 +1,2 @@
+CREATE UNIQUE INDEX ux_accommodation_name ON accommodation(accommodation_name);
+CREATE UNIQUE INDEX ux_category_name ON category(name);
@@ -0,0 +1,4 @@
+CREATE INDEX idx_accommodation_city_type_price ON accommodation(city_id, accommodation_type, low_price);
+CREATE INDEX idx_accommodation_city_price ON accommodation(city_id, low_price);
+CREATE INDEX idx_accommodation_type_price ON accommodation(accommodation_type, low_price);
+CREATE INDEX idx_accommodation_price ON accommodation(low_price);
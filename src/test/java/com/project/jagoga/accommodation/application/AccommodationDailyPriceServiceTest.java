@@ -0,0 +1,143 @@
+package com.project.jagoga.accommodation.application;
+
+import static com.project.jagoga.user.domain.Role.OWNER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationSummary;
+import com.project.jagoga.accommodation.domain.address.City;
+import com.project.jagoga.accommodation.domain.address.State;
+import com.project.jagoga.accommodation.infrastructure.address.JpaCityRepository;
+import com.project.jagoga.accommodation.infrastructure.address.JpaStateRepository;
+import com.project.jagoga.category.domain.Category;
+import com.project.jagoga.category.infrastructure.JpaCategoryRepository;
+import com.project.jagoga.common.factory.AccommodationFactory;
+import com.project.jagoga.roominventory.application.RoomInventoryService;
+import com.project.jagoga.roominventory.presentation.dto.RoomInventoryAddRequestDto;
+import com.project.jagoga.roominventory.presentation.dto.RoomInventoryUpdateRequestDto;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.roomtype.presentation.dto.RoomTypeCreateRequestDto;
+import com.project.jagoga.user.application.UserService;
+import com.project.jagoga.user.domain.AuthUser;
+import com.project.jagoga.user.domain.User;
+import com.project.jagoga.user.domain.UserRepository;
+import com.project.jagoga.user.presentation.dto.request.UserCreateRequestDto;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class AccommodationDailyPriceServiceTest {
+
+    @Autowired
+    AccommodationDailyPriceService accommodationDailyPriceService;
+
+    @Autowired
+    AccommodationService accommodationService;
+
+    @Autowired
+    RoomTypeService roomTypeService;
+
+    @Autowired
+    RoomInventoryService roomInventoryService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JpaCategoryRepository jpaCategoryRepository;
+
+    @Autowired
+    JpaStateRepository jpaStateRepository;
+
+    @Autowired
+    JpaCityRepository jpaCityRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    AuthUser authUser;
+    City city;
+
+    @BeforeEach
+    public void setUp() {
+        User user = userService.signUp(
+            new UserCreateRequestDto("dailyprice@test", "testname", "@Aabcdef", "010-1234-1234"));
+        authUser = AuthUser.createInstance(user.getId(), user.getEmail(), OWNER);
+
+        Category category = jpaCategoryRepository.save(new Category(null, "강릉/경포"));
+        State state = jpaStateRepository.save(new State(null, "강원"));
+        city = jpaCityRepository.save(new City(null, "강릉시", state, category.getId()));
+    }
+
+    @AfterEach
+    public void after() {
+        jdbcTemplate.update("DELETE FROM accommodation_daily_price");
+        userRepository.deleteAll();
+        accommodationService.deleteAll();
+        jpaCityRepository.deleteAll();
+        jpaStateRepository.deleteAll();
+        jpaCategoryRepository.deleteAll();
+    }
+
+    @DisplayName("날짜별 최저가는 재고가 남은 룸타입 중 가장 싼 가격으로 갱신된다.")
+    @Test
+    void refreshOnInventoryChanged() {
+        // given
+        LocalDate firstDate = LocalDate.now().plusDays(1);
+        LocalDate secondDate = firstDate.plusDays(1);
+        Accommodation accommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        RoomType cheap = roomTypeService.registerRoomType(accommodation.getId(),
+            new RoomTypeCreateRequestDto("스탠다드", "스탠다드 룸", 30000), authUser);
+        RoomType expensive = roomTypeService.registerRoomType(accommodation.getId(),
+            new RoomTypeCreateRequestDto("디럭스", "디럭스 룸", 50000), authUser);
+        roomInventoryService.addInventory(cheap.getId(),
+            new RoomInventoryAddRequestDto(firstDate, secondDate, 1), authUser);
+        roomInventoryService.addInventory(expensive.getId(),
+            new RoomInventoryAddRequestDto(firstDate, secondDate, 1), authUser);
+
+        // when
+        roomInventoryService.changeStock(cheap.getId(),
+            new RoomInventoryUpdateRequestDto(firstDate, firstDate, -1), authUser);
+
+        // then
+        List<AccommodationSummary> first = accommodationDailyPriceService
+            .getCheapestAccommodations(firstDate, city.getId(), null, null, 20).getContent();
+        List<AccommodationSummary> second = accommodationDailyPriceService
+            .getCheapestAccommodations(secondDate, city.getId(), null, null, 20).getContent();
+        assertThat(first).hasSize(1);
+        assertThat(first.get(0).getLowPrice()).isEqualTo(50000);
+        assertThat(second).hasSize(1);
+        assertThat(second.get(0).getLowPrice()).isEqualTo(30000);
+    }
+
+    @DisplayName("모든 룸타입이 매진된 날짜에는 숙소가 조회되지 않는다.")
+    @Test
+    void excludeSoldOutDate() {
+        // given
+        LocalDate date = LocalDate.now().plusDays(1);
+        Accommodation accommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        RoomType roomType = roomTypeService.registerRoomType(accommodation.getId(),
+            new RoomTypeCreateRequestDto("스탠다드", "스탠다드 룸", 30000), authUser);
+        roomInventoryService.addInventory(roomType.getId(), new RoomInventoryAddRequestDto(date, date, 1), authUser);
+
+        // when
+        roomInventoryService.changeStock(roomType.getId(),
+            new RoomInventoryUpdateRequestDto(date, date, -1), authUser);
+
+        // then
+        assertThat(accommodationDailyPriceService.getCheapestAccommodations(date, null, null, null, 20)).isEmpty();
+    }
+}
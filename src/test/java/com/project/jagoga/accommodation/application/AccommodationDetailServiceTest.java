@@ -0,0 +1,197 @@
+package com.project.jagoga.accommodation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationDetail;
+import com.project.jagoga.common.factory.AccommodationFactory;
+import com.project.jagoga.exception.accommodation.AccommodationDetailUnavailableException;
+import com.project.jagoga.roominventory.application.RoomInventoryService;
+import com.project.jagoga.roominventory.domain.RoomTypeAvailabilities;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.utils.BoundedExecutor;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AccommodationDetailServiceTest {
+
+    private static final long ACCOMMODATION_ID = 1L;
+    private static final long TIMEOUT_MILLIS = 50;
+
+    @Mock
+    private AccommodationService accommodationService;
+
+    @Mock
+    private RoomTypeService roomTypeService;
+
+    @Mock
+    private RoomInventoryService roomInventoryService;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final LocalDate checkInDate = LocalDate.now().plusDays(1);
+    private final LocalDate checkOutDate = checkInDate.plusDays(1);
+    private BoundedExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @DisplayName("룸타입 조회가 제한 시간을 넘기면 룸타입 없이 응답하고 missingParts에 담는다.")
+    @Test
+    void getDetail_RoomTypesTimeout() {
+        // given
+        Accommodation accommodation = AccommodationFactory.accommodation();
+        when(accommodationService.getAccommodationById(ACCOMMODATION_ID)).thenReturn(accommodation);
+        when(roomTypeService.getRoomTypesByAccommodationId(ACCOMMODATION_ID)).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+
+        // when
+        AccommodationDetail detail = createService(4, 10).getDetail(ACCOMMODATION_ID, null, null).join();
+
+        // then
+        assertThat(detail.getAccommodation()).isSameAs(accommodation);
+        assertThat(detail.getRoomTypes()).isNull();
+        assertThat(detail.getMissingParts()).containsExactly(AccommodationDetail.ROOM_TYPES);
+    }
+
+    @DisplayName("재고 조회가 실패하면 재고 없이 응답하고 missingParts에 담는다.")
+    @Test
+    void getDetail_AvailabilitiesFailed() {
+        // given
+        List<RoomType> roomTypes = List.of();
+        when(accommodationService.getAccommodationById(ACCOMMODATION_ID))
+            .thenReturn(AccommodationFactory.accommodation());
+        when(roomTypeService.getRoomTypesByAccommodationId(ACCOMMODATION_ID)).thenReturn(roomTypes);
+        when(roomInventoryService.getAvailabilities(ACCOMMODATION_ID, checkInDate, checkOutDate))
+            .thenThrow(new IllegalStateException());
+
+        // when
+        AccommodationDetail detail =
+            createService(4, 10).getDetail(ACCOMMODATION_ID, checkInDate, checkOutDate).join();
+
+        // then
+        assertThat(detail.getRoomTypes()).isSameAs(roomTypes);
+        assertThat(detail.getAvailabilities()).isNull();
+        assertThat(detail.getMissingParts()).containsExactly(AccommodationDetail.AVAILABILITIES);
+    }
+
+    @DisplayName("룸타입과 재고가 모두 늦으면 둘 다 missingParts에 담는다.")
+    @Test
+    void getDetail_AllOptionalPartsTimeout() {
+        // given
+        when(accommodationService.getAccommodationById(ACCOMMODATION_ID))
+            .thenReturn(AccommodationFactory.accommodation());
+        when(roomTypeService.getRoomTypesByAccommodationId(ACCOMMODATION_ID)).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+        when(roomInventoryService.getAvailabilities(ACCOMMODATION_ID, checkInDate, checkOutDate))
+            .thenAnswer(invocation -> {
+                release.await();
+                return RoomTypeAvailabilities.builder(0).build();
+            });
+
+        // when
+        AccommodationDetail detail =
+            createService(4, 10).getDetail(ACCOMMODATION_ID, checkInDate, checkOutDate).join();
+
+        // then
+        assertThat(detail.getMissingParts())
+            .containsExactlyInAnyOrder(AccommodationDetail.ROOM_TYPES, AccommodationDetail.AVAILABILITIES);
+    }
+
+    @DisplayName("숙소 조회가 제한 시간을 넘기면 AccommodationDetailUnavailableException으로 실패한다.")
+    @Test
+    void getDetail_AccommodationTimeout() {
+        // given
+        when(accommodationService.getAccommodationById(ACCOMMODATION_ID)).thenAnswer(invocation -> {
+            release.await();
+            return AccommodationFactory.accommodation();
+        });
+        when(roomTypeService.getRoomTypesByAccommodationId(ACCOMMODATION_ID)).thenReturn(List.of());
+
+        // when
+        CompletableFuture<AccommodationDetail> detail = createService(4, 10).getDetail(ACCOMMODATION_ID, null, null);
+
+        // then
+        assertThatThrownBy(detail::join).hasCauseInstanceOf(AccommodationDetailUnavailableException.class);
+    }
+
+    @DisplayName("실행기가 작업을 거절하면 AccommodationDetailUnavailableException으로 실패한다.")
+    @Test
+    void getDetail_ExecutorRejected() throws InterruptedException {
+        // given
+        AccommodationDetailService accommodationDetailService = createService(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> {
+            started.countDown();
+            return awaitRelease();
+        });
+        started.await(1, TimeUnit.SECONDS);
+        executor.submit(this::awaitRelease);
+
+        // when
+        CompletableFuture<AccommodationDetail> detail =
+            accommodationDetailService.getDetail(ACCOMMODATION_ID, null, null);
+
+        // then
+        assertThatThrownBy(detail::join).hasCauseInstanceOf(AccommodationDetailUnavailableException.class);
+    }
+
+    @DisplayName("제한 시간이 지나도록 대기열에 있던 조회는 실행하지 않는다.")
+    @Test
+    void getDetail_SkipTimedOutQueuedParts() throws InterruptedException {
+        // given
+        AccommodationDetailService accommodationDetailService = createService(1, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> {
+            started.countDown();
+            return awaitRelease();
+        });
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<AccommodationDetail> detail =
+            accommodationDetailService.getDetail(ACCOMMODATION_ID, null, null);
+
+        // then
+        assertThatThrownBy(detail::join).hasCauseInstanceOf(AccommodationDetailUnavailableException.class);
+        release.countDown();
+        executor.submit(() -> null).join();
+        verifyNoInteractions(accommodationService, roomTypeService);
+    }
+
+    private AccommodationDetailService createService(int threads, int queueCapacity) {
+        executor = new BoundedExecutor("accommodation-detail-test", threads, queueCapacity,
+            AccommodationDetailUnavailableException::new);
+        return new AccommodationDetailService(accommodationService, roomTypeService, roomInventoryService,
+            executor, TIMEOUT_MILLIS);
+    }
+
+    private boolean awaitRelease() {
+        try {
+            return release.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.jagoga.accommodation.application;
 
 import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationChangedEvent;
 import com.project.jagoga.accommodation.domain.AccommodationRepository;
 import com.project.jagoga.accommodation.domain.AccommodationType;
 import com.project.jagoga.accommodation.domain.address.City;
@@ -18,7 +19,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -35,6 +39,9 @@ class AccommodationServiceTest {
     @Mock
     private AccommodationRepository accommodationRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     public static AuthUser createOwnerAuthUser() {
         String email = "test@test";
         return AuthUser.createInstance(1L, email, Role.OWNER);
@@ -55,7 +62,7 @@ class AccommodationServiceTest {
     public static AccommodationUpdateRequestDto createAccommodationUpdateRequestDto() {
         return new AccommodationUpdateRequestDto("010-4321-1234",
                 new City(1L, "city", new State(1L, "statte"), 1L),
-                AccommodationType.HOTEL, "update", "update", 1000);
+                AccommodationType.HOTEL, "update", "update", 1000, null, null);
     }
 
     @DisplayName("OWNER 권한을 가진 사용자는 숙소를 등록할 수 있다.")
@@ -63,13 +70,18 @@ class AccommodationServiceTest {
     void succeed_Register_Accommodation_ByOwner() {
         // given
         AccommodationRequestDto dto = createAccommodationRequestDto();
-        when(accommodationRepository.findByAccommodationName(dto.getAccommodationName())).thenReturn(Optional.empty());
+        when(accommodationRepository.save(any(Accommodation.class))).thenAnswer(invocation -> {
+            Accommodation accommodation = invocation.getArgument(0);
+            accommodation.setId(1L);
+            return accommodation;
+        });
 
         // when
         accommodationService.saveAccommodation(dto, createOwnerAuthUser());
 
         // then
         verify(accommodationRepository, times(1)).save(any(Accommodation.class));
+        verify(eventPublisher, times(1)).publishEvent(any(AccommodationChangedEvent.class));
     }
 
     @DisplayName("이미 등록된 숙소 등록 시 예외가 발생한다.")
@@ -77,8 +89,9 @@ class AccommodationServiceTest {
     void should_Fail_Register_ExistAccommodation() {
         // given
         AccommodationRequestDto dto = createAccommodationRequestDto();
-        when(accommodationRepository.findByAccommodationName(dto.getAccommodationName()))
-                .thenReturn(Optional.of(dto.toEntity(1L)));
+        when(accommodationRepository.save(any(Accommodation.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate accommodation name",
+                        new SQLException("Duplicate entry", "23000", 1062)));
 
         // then
         Exception exception = assertThrows(DuplicatedAccommodationException.class,
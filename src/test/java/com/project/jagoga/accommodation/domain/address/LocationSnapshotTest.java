@@ -0,0 +1,65 @@
+package com.project.jagoga.accommodation.domain.address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot.CityView;
+import com.project.jagoga.accommodation.domain.address.LocationSnapshot.StateView;
+import com.project.jagoga.category.domain.Category;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocationSnapshotTest {
+
+    State gangwon = new State(1L, "강원");
+    State jeju = new State(2L, "제주");
+    Category gyeongpo = new Category(10L, "강릉/경포");
+    City gangneung = new City(100L, "강릉시", gangwon, gyeongpo.getId());
+    City sokcho = new City(101L, "속초시", gangwon, gyeongpo.getId());
+
+    @Test
+    @DisplayName("city id로 지역 이름과 category를 조회할 수 있다")
+    public void getCity() {
+        // given
+        LocationSnapshot snapshot = LocationSnapshot.of(List.of(gangwon, jeju), List.of(gangneung, sokcho),
+            List.of(gyeongpo));
+
+        // when
+        CityView city = snapshot.getCity(100L).orElseThrow();
+
+        // then
+        assertThat(city.getName()).isEqualTo("강릉시");
+        assertThat(city.getStateName()).isEqualTo("강원");
+        assertThat(city.getCategory().getName()).isEqualTo("강릉/경포");
+    }
+
+    @Test
+    @DisplayName("state에서 하위 city 목록을 탐색할 수 있다")
+    public void navigateStateToCities() {
+        // given
+        LocationSnapshot snapshot = LocationSnapshot.of(List.of(gangwon, jeju), List.of(gangneung, sokcho),
+            List.of(gyeongpo));
+
+        // when
+        StateView state = snapshot.getState(1L).orElseThrow();
+
+        // then
+        assertThat(state.getCities()).extracting(CityView::getId).containsExactly(100L, 101L);
+        assertThat(snapshot.getState(2L).orElseThrow().getCities()).isEmpty();
+        assertThat(snapshot.getCitiesByCategoryId(10L)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 id는 빈 값을 반환하고, 반환된 목록은 변경할 수 없다")
+    public void unknownIdAndImmutable() {
+        // given
+        LocationSnapshot snapshot = LocationSnapshot.of(List.of(gangwon), List.of(gangneung), List.of(gyeongpo));
+
+        // when, then
+        assertThat(snapshot.getCity(999L)).isEmpty();
+        assertThat(snapshot.getCitiesByCategoryId(999L)).isEmpty();
+        assertThrows(UnsupportedOperationException.class,
+            () -> snapshot.getState(1L).orElseThrow().getCities().clear());
+    }
+}
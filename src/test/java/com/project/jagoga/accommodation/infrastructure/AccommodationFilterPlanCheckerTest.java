@@ -0,0 +1,80 @@
+package com.project.jagoga.accommodation.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+@SpringBootTest
+class AccommodationFilterPlanCheckerTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    JdbcAccommodationFilterRepository jdbcAccommodationFilterRepository;
+
+    /*
+        테스트 스키마는 hibernate가 엔티티 기준으로 다시 만들어 Flyway로 만든 인덱스가 없으므로 V9를 직접 적용한다.
+        이미 인덱스가 있으면 생성 오류는 무시한다.
+     */
+    @BeforeEach
+    void setUp() {
+        ResourceDatabasePopulator populator =
+            new ResourceDatabasePopulator(new ClassPathResource("db/migration/V9__accommodation_filter_index.sql"));
+        populator.setContinueOnError(true);
+        populator.execute(dataSource);
+    }
+
+    @DisplayName("V9 인덱스로 모든 필터 조합이 전체 스캔 없이 실행된다.")
+    @Test
+    void check_AllCombinationsUseIndex() {
+        AccommodationFilterPlanChecker checker = new AccommodationFilterPlanChecker(jdbcAccommodationFilterRepository);
+
+        assertThatCode(checker::check).doesNotThrowAnyException();
+    }
+
+    @DisplayName("MySQL 계획에서 type이 ALL이면 사용할 수 있는 인덱스가 있어도 전체 스캔으로 본다.")
+    @Test
+    void isFullScan_TypeAll() {
+        assertThat(AccommodationFilterPlanChecker.isFullScan(
+            mysqlRow("ALL", "idx_accommodation_price", "idx_accommodation_price"))).isTrue();
+        assertThat(AccommodationFilterPlanChecker.isFullScan(
+            mysqlRow("ALL", "idx_accommodation_price", null))).isTrue();
+    }
+
+    @DisplayName("MySQL 계획에서 실제로 사용한 key가 없으면 전체 스캔으로 본다.")
+    @Test
+    void isFullScan_NoKey() {
+        assertThat(AccommodationFilterPlanChecker.isFullScan(mysqlRow("range", "idx_accommodation_price", null)))
+            .isTrue();
+        assertThat(AccommodationFilterPlanChecker.isFullScan(
+            mysqlRow("ref", "idx_accommodation_city_price", "idx_accommodation_city_price"))).isFalse();
+    }
+
+    @DisplayName("H2 계획은 tableScan 여부로 판단한다.")
+    @Test
+    void isFullScan_H2Plan() {
+        assertThat(AccommodationFilterPlanChecker.isFullScan(
+            Map.of("PLAN", "SELECT ... FROM PUBLIC.ACCOMMODATION /* PUBLIC.ACCOMMODATION.tableScan */"))).isTrue();
+        assertThat(AccommodationFilterPlanChecker.isFullScan(
+            Map.of("PLAN", "SELECT ... FROM PUBLIC.ACCOMMODATION /* PUBLIC.IDX_ACCOMMODATION_PRICE */"))).isFalse();
+    }
+
+    private Map<String, Object> mysqlRow(String type, String possibleKeys, String key) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("type", type);
+        row.put("possible_keys", possibleKeys);
+        row.put("key", key);
+        return row;
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.jagoga.accommodation.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.jagoga.accommodation.domain.geo.GeoBoundingBox;
+import com.project.jagoga.accommodation.domain.geo.GeoHit;
+import com.project.jagoga.accommodation.domain.geo.GeoPoint;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoGridIndexTest {
+
+    static List<Long> ids(List<GeoHit> hits) {
+        return hits.stream().map(GeoHit::getAccommodationId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("셀 경계를 넘는 반경도 거리 순으로 조회하고 반경 밖의 숙소는 제외한다")
+    public void findWithinRadius() {
+        // given
+        GeoGridIndex index = new GeoGridIndex(0.01);
+        index.put(1L, GeoPoint.of(37.7950, 128.8960));
+        index.put(2L, GeoPoint.of(37.8050, 128.9100));
+        index.put(3L, GeoPoint.of(37.7700, 128.9500));
+        index.put(4L, GeoPoint.of(37.5665, 126.9780));
+
+        // when
+        List<GeoHit> hits = index.findWithinRadius(GeoPoint.of(37.7955, 128.8965), 2_000);
+
+        // then
+        assertThat(ids(hits)).containsExactly(1L, 2L);
+        assertThat(hits.get(0).getDistanceMeters()).isLessThan(100d);
+    }
+
+    @Test
+    @DisplayName("좌표를 변경하거나 삭제하면 이전 위치에서 조회되지 않는다")
+    public void moveAndRemove() {
+        // given
+        GeoGridIndex index = new GeoGridIndex(0.05);
+        index.put(1L, GeoPoint.of(37.7950, 128.8960));
+        index.put(2L, GeoPoint.of(37.7960, 128.8970));
+
+        // when
+        index.put(1L, GeoPoint.of(37.5665, 126.9780));
+        index.remove(2L);
+
+        // then
+        assertThat(index.findWithinRadius(GeoPoint.of(37.7955, 128.8965), 5_000)).isEmpty();
+        assertThat(ids(index.findWithinBox(GeoBoundingBox.of(37.5, 126.9, 37.6, 127.0)))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.jagoga.accommodation.infrastructure;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationType;
+import com.project.jagoga.exception.accommodation.NotExistAccommodationException;
+import com.project.jagoga.utils.SnapshotFiles;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoryAccommodationRepositoryTest {
+
+    MemoryAccommodationRepository accommodationRepository = new MemoryAccommodationRepository();
+
+    static Accommodation createAccommodation(String accommodationName, Double latitude, Double longitude) {
+        return new Accommodation(null, accommodationName, 1L, "010-1111-2222", 3L, AccommodationType.PENSION,
+            "description", null, 50_000, latitude, longitude);
+    }
+
+    @Test
+    @DisplayName("조회한 숙소를 변경해도 update 전에는 저장된 값이 바뀌지 않는다.")
+    public void findById_ReturnsCopy() {
+        // given
+        Accommodation saved = accommodationRepository.save(createAccommodation("숙소", null, null));
+        Accommodation found = accommodationRepository.findById(saved.getId()).get();
+
+        // when
+        found.update("010-3333-4444", 4L, AccommodationType.HOTEL, "updated", "info", 70_000);
+
+        // then
+        Accommodation stored = accommodationRepository.findById(saved.getId()).get();
+        assertThat(stored.getCityId()).isEqualTo(3L);
+        assertThat(accommodationRepository.findAllByCityId(4L)).isEmpty();
+
+        accommodationRepository.update(found);
+        assertThat(accommodationRepository.findById(saved.getId()).get().getCityId()).isEqualTo(4L);
+        assertThat(accommodationRepository.findAllByCityId(4L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("다른 숙소의 이름으로 변경하면 DuplicateKeyException이 발생하고 인덱스는 그대로다.")
+    public void update_DuplicatedName() {
+        // given
+        Accommodation saved = accommodationRepository.save(createAccommodation("숙소", null, null));
+        accommodationRepository.save(createAccommodation("다른 숙소", null, null));
+        Accommodation renamed = new Accommodation(saved.getId(), "다른 숙소", 1L, "010-1111-2222", 3L,
+            AccommodationType.PENSION, "description", null, 50_000, null, null);
+
+        // then
+        assertThatThrownBy(() -> accommodationRepository.update(renamed))
+            .isInstanceOf(DuplicateKeyException.class);
+        assertThat(accommodationRepository.findByAccommodationName("숙소").get().getId()).isEqualTo(saved.getId());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 숙소를 삭제하면 NotExistAccommodationException이 발생한다.")
+    public void delete_NotExist() {
+        assertThatThrownBy(() -> accommodationRepository.delete(10_000L))
+            .isInstanceOf(NotExistAccommodationException.class);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 기록한 뒤 다시 시작하면 숙소와 인덱스, 위치가 복원된다.")
+    public void snapshot(@TempDir Path snapshotDirectory) {
+        // given
+        MemoryAccommodationRepository repository = new MemoryAccommodationRepository(snapshotDirectory.toString());
+        Accommodation located = repository.save(createAccommodation("위치 있는 숙소", 37.5, 127.0));
+        Accommodation unlocated = repository.save(createAccommodation("위치 없는 숙소", null, null));
+        repository.takeSnapshot();
+
+        // when
+        MemoryAccommodationRepository restarted = new MemoryAccommodationRepository(snapshotDirectory.toString());
+        restarted.loadSnapshot();
+
+        // then
+        Accommodation restored = restarted.findByAccommodationName("위치 있는 숙소").get();
+        assertThat(restored.getId()).isEqualTo(located.getId());
+        assertThat(restored.getPhoneNumber()).isEqualTo("010-1111-2222");
+        assertThat(restored.getAccommodationType()).isEqualTo(AccommodationType.PENSION);
+        assertThat(restored.getDescription()).isEqualTo("description");
+        assertThat(restored.getInformation()).isNull();
+        assertThat(restored.getLowPrice()).isEqualTo(50_000);
+        assertThat(restored.getLatitude()).isEqualTo(37.5);
+        assertThat(restored.getLongitude()).isEqualTo(127.0);
+        assertThat(restarted.findById(unlocated.getId()).get().hasLocation()).isFalse();
+        assertThat(restarted.findAllByOwnerId(1L)).hasSize(2);
+        assertThat(restarted.save(createAccommodation("새 숙소", null, null)).getId())
+            .isGreaterThan(unlocated.getId());
+    }
+
+    @Test
+    @DisplayName("위치 정보가 없던 v1 스냅샷도 읽을 수 있다.")
+    public void snapshot_Version1(@TempDir Path snapshotDirectory) {
+        // given
+        SnapshotFiles.write(snapshotDirectory.resolve("accommodations.snapshot"), out -> {
+            out.writeInt(1);
+            out.writeLong(7L);
+            out.writeInt(1);
+            out.writeLong(7L);
+            out.writeUTF("v1 숙소");
+            out.writeLong(2L);
+            SnapshotFiles.writeNullableString(out, "010-5555-6666");
+            out.writeLong(3L);
+            SnapshotFiles.writeNullableString(out, AccommodationType.HOTEL.name());
+            SnapshotFiles.writeNullableString(out, null);
+            SnapshotFiles.writeNullableString(out, "information");
+            out.writeInt(30_000);
+        });
+
+        // when
+        MemoryAccommodationRepository repository = new MemoryAccommodationRepository(snapshotDirectory.toString());
+        repository.loadSnapshot();
+
+        // then
+        Accommodation restored = repository.findById(7L).get();
+        assertThat(restored.getAccommodationName()).isEqualTo("v1 숙소");
+        assertThat(restored.getOwnerId()).isEqualTo(2L);
+        assertThat(restored.getAccommodationType()).isEqualTo(AccommodationType.HOTEL);
+        assertThat(restored.getDescription()).isNull();
+        assertThat(restored.getInformation()).isEqualTo("information");
+        assertThat(restored.getLowPrice()).isEqualTo(30_000);
+        assertThat(restored.hasLocation()).isFalse();
+        assertThat(repository.save(createAccommodation("새 숙소", null, null)).getId()).isEqualTo(8L);
+    }
+}
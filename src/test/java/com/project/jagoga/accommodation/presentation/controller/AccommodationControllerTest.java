@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.jagoga.accommodation.application.AccommodationService;
 import com.project.jagoga.accommodation.domain.Accommodation;
 import com.project.jagoga.accommodation.domain.AccommodationRepository;
+import com.project.jagoga.accommodation.domain.AccommodationType;
 import com.project.jagoga.category.domain.Category;
 import com.project.jagoga.accommodation.domain.address.City;
 import com.project.jagoga.accommodation.domain.address.State;
@@ -30,9 +31,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import static org.hamcrest.Matchers.hasItems;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -110,6 +115,9 @@ class AccommodationControllerTest {
     public void after() {
         userRepository.deleteAll();
         accommodationRepository.deleteAll();
+        jpaCityRepository.deleteAll();
+        jpaStateRepository.deleteAll();
+        jpaCategoryRepository.deleteAll();
     }
 
     @DisplayName("정상적으로 숙소 등록를 등록한다.")
@@ -254,4 +262,173 @@ class AccommodationControllerTest {
             .andDo(print())
             .andExpect(status().isForbidden());
     }
+
+    @DisplayName("숙소 목록을 id 순으로 페이지 단위 조회하고 다음 페이지 커서를 반환한다.")
+    @Test
+    void getAccommodations_Keyset() throws Exception {
+        // given
+        Accommodation first = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        Accommodation second = accommodationService.saveAccommodation(
+            AccommodationFactory.mockUpdatedAccommodationRequestDto(city), authUser);
+
+        // then
+        mockMvc.perform(get("/api/accommodation")
+            .param("lastAccommodationId", String.valueOf(first.getId() - 1))
+            .param("size", "1"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.accommodations.length()").value(1))
+            .andExpect(jsonPath("$.data.accommodations[0].accommodationId").value(first.getId()))
+            .andExpect(jsonPath("$.data.nextAccommodationId").value(first.getId()));
+
+        mockMvc.perform(get("/api/accommodation")
+            .param("lastAccommodationId", String.valueOf(first.getId()))
+            .param("size", "1"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.accommodations[0].accommodationId").value(second.getId()))
+            .andExpect(jsonPath("$.data.nextAccommodationId").doesNotExist());
+    }
+
+    @DisplayName("전체 숙소를 JSON 배열로 스트리밍한다.")
+    @Test
+    void exportAccommodations() throws Exception {
+        // given
+        accommodationService.saveAccommodation(AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        accommodationService.saveAccommodation(AccommodationFactory.mockUpdatedAccommodationRequestDto(city), authUser);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/accommodation/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$[*].accommodationName", hasItems("test", "test12")));
+    }
+
+    @DisplayName("도시, 숙소 타입, 가격 범위로 숙소를 필터링하고 최저가 순으로 정렬한다.")
+    @Test
+    void filterAccommodations() throws Exception {
+        // given
+        Accommodation cheap = accommodationService.saveAccommodation(
+            AccommodationFactory.createAccommodation("cheap", "010-1111-4682", city, AccommodationType.PENSION,
+                "description", "information", 30000), authUser);
+        Accommodation expensive = accommodationService.saveAccommodation(
+            AccommodationFactory.createAccommodation("expensive", "010-1111-4682", city, AccommodationType.PENSION,
+                "description", "information", 90000), authUser);
+        accommodationService.saveAccommodation(
+            AccommodationFactory.createAccommodation("hotel", "010-1111-4682", city, AccommodationType.HOTEL,
+                "description", "information", 50000), authUser);
+
+        // then
+        mockMvc.perform(get("/api/accommodation/filter")
+            .param("cityId", String.valueOf(city.getId()))
+            .param("accommodationType", "PENSION")
+            .param("minPrice", "10000")
+            .param("size", "1"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.accommodations[0].accommodationId").value(cheap.getId()))
+            .andExpect(jsonPath("$.data.nextLowPrice").value(30000))
+            .andExpect(jsonPath("$.data.nextAccommodationId").value(cheap.getId()));
+
+        mockMvc.perform(get("/api/accommodation/filter")
+            .param("cityId", String.valueOf(city.getId()))
+            .param("accommodationType", "PENSION")
+            .param("minPrice", "10000")
+            .param("lastLowPrice", "30000")
+            .param("lastAccommodationId", String.valueOf(cheap.getId()))
+            .param("size", "1"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.accommodations[0].accommodationId").value(expensive.getId()))
+            .andExpect(jsonPath("$.data.nextAccommodationId").doesNotExist());
+    }
+
+    @DisplayName("가격 조건이 음수이면 예외가 발생한다.")
+    @Test
+    void filterAccommodations_InvalidPrice() throws Exception {
+        mockMvc.perform(get("/api/accommodation/filter")
+            .param("minPrice", "-1"))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("반경 안의 숙소를 가까운 순으로 조회한다.")
+    @Test
+    void findNearbyAccommodations() throws Exception {
+        // given
+        Accommodation near = accommodationService.saveAccommodation(AccommodationRequestDto.builder()
+            .accommodationName("near").phoneNumber("010-1111-4682").city(city)
+            .accommodationType(AccommodationType.HOTEL).latitude(37.7950).longitude(128.8960).build(), authUser);
+        Accommodation far = accommodationService.saveAccommodation(AccommodationRequestDto.builder()
+            .accommodationName("far").phoneNumber("010-1111-4682").city(city)
+            .accommodationType(AccommodationType.HOTEL).latitude(37.7700).longitude(128.9500).build(), authUser);
+        accommodationService.saveAccommodation(AccommodationRequestDto.builder()
+            .accommodationName("seoul").phoneNumber("010-1111-4682").city(city)
+            .accommodationType(AccommodationType.HOTEL).latitude(37.5665).longitude(126.9780).build(), authUser);
+
+        // then
+        mockMvc.perform(get("/api/accommodation/nearby")
+            .param("latitude", "37.7955")
+            .param("longitude", "128.8965")
+            .param("radiusMeters", "10000"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(2))
+            .andExpect(jsonPath("$.data[0].accommodationId").value(near.getId()))
+            .andExpect(jsonPath("$.data[1].accommodationId").value(far.getId()));
+    }
+
+    @DisplayName("반경이 최대값보다 크면 예외가 발생한다.")
+    @Test
+    void findNearbyAccommodations_InvalidRadius() throws Exception {
+        mockMvc.perform(get("/api/accommodation/nearby")
+            .param("latitude", "37.7955")
+            .param("longitude", "128.8965")
+            .param("radiusMeters", "100000"))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("숙소 상세는 숙소와 룸타입 목록을 한 번에 응답한다.")
+    @Test
+    void getAccommodationDetail() throws Exception {
+        // given
+        Accommodation accommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/accommodation/" + accommodation.getId() + "/detail"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.accommodationId").value(accommodation.getId()))
+            .andExpect(jsonPath("$.data.accommodation.accommodationName").value(accommodation.getAccommodationName()))
+            .andExpect(jsonPath("$.data.roomTypes").isArray())
+            .andExpect(jsonPath("$.data.missingParts").isEmpty());
+    }
+
+    @DisplayName("존재하지 않는 숙소의 상세를 조회하면 예외가 발생한다.")
+    @Test
+    void getAccommodationDetail_NotExist() throws Exception {
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/accommodation/10000/detail"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andDo(print())
+            .andExpect(status().isNotFound());
+    }
 }
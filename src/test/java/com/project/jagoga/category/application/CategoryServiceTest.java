@@ -5,6 +5,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import com.project.jagoga.category.domain.Category;
 import com.project.jagoga.category.presentation.dto.request.CategoryCreateRequestDto;
+import com.project.jagoga.exception.category.DuplicatedCategoryException;
 import com.project.jagoga.exception.user.ForbiddenException;
 import com.project.jagoga.user.application.UserService;
 import com.project.jagoga.user.domain.AuthUser;
@@ -67,6 +68,19 @@ public class CategoryServiceTest {
             .isEqualTo(categoryService.getCategoryById(category.getId()).getId());
     }
 
+    @Test
+    @DisplayName("이미 존재하는 카테고리명으로 등록시 예외가 발생한다.")
+    public void duplicatedCategory_Exception() {
+        // given
+        CategoryCreateRequestDto categoryCreateRequestDto =
+            new CategoryCreateRequestDto(categoryName);
+        categoryService.registerCategory(categoryCreateRequestDto, authUser);
+
+        // when, then
+        assertThrows(DuplicatedCategoryException.class,
+            () -> categoryService.registerCategory(categoryCreateRequestDto, authUser));
+    }
+
     @Test
     @DisplayName("일반 사용자가 카테고리 등록시 예외가 발생한다.")
     public void basicUserRegisterCategory_Exception() {
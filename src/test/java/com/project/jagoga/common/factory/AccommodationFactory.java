@@ -73,4 +73,24 @@ public class AccommodationFactory {
             .information(information)
             .build();
     }
+
+    public static AccommodationRequestDto createAccommodation(
+        String accommodationName,
+        String phoneNumber,
+        City city,
+        AccommodationType accommodationType,
+        String description,
+        String information,
+        int lowPrice
+    ) {
+        return AccommodationRequestDto.builder()
+            .accommodationName(accommodationName)
+            .phoneNumber(phoneNumber)
+            .city(city)
+            .accommodationType(accommodationType)
+            .description(description)
+            .information(information)
+            .lowPrice(lowPrice)
+            .build();
+    }
 }
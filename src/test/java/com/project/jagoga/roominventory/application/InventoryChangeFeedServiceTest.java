@@ -0,0 +1,155 @@
+package com.project.jagoga.roominventory.application;
+
+import static com.project.jagoga.user.domain.Role.OWNER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.jagoga.accommodation.application.AccommodationService;
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.address.City;
+import com.project.jagoga.accommodation.domain.address.State;
+import com.project.jagoga.accommodation.infrastructure.address.JpaCityRepository;
+import com.project.jagoga.accommodation.infrastructure.address.JpaStateRepository;
+import com.project.jagoga.category.domain.Category;
+import com.project.jagoga.category.infrastructure.JpaCategoryRepository;
+import com.project.jagoga.common.factory.AccommodationFactory;
+import com.project.jagoga.roominventory.domain.InventoryChange;
+import com.project.jagoga.roominventory.presentation.dto.RoomInventoryAddRequestDto;
+import com.project.jagoga.roominventory.presentation.dto.RoomInventoryUpdateRequestDto;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.roomtype.presentation.dto.RoomTypeCreateRequestDto;
+import com.project.jagoga.user.application.UserService;
+import com.project.jagoga.user.domain.AuthUser;
+import com.project.jagoga.user.domain.User;
+import com.project.jagoga.user.domain.UserRepository;
+import com.project.jagoga.user.presentation.dto.request.UserCreateRequestDto;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class InventoryChangeFeedServiceTest {
+
+    @Autowired
+    InventoryChangeFeedService inventoryChangeFeedService;
+
+    @Autowired
+    InventoryChangeSequencer inventoryChangeSequencer;
+
+    @Autowired
+    RoomInventoryService roomInventoryService;
+
+    @Autowired
+    AccommodationService accommodationService;
+
+    @Autowired
+    RoomTypeService roomTypeService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JpaCategoryRepository jpaCategoryRepository;
+
+    @Autowired
+    JpaStateRepository jpaStateRepository;
+
+    @Autowired
+    JpaCityRepository jpaCityRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    AuthUser authUser;
+    RoomType roomType;
+
+    @BeforeEach
+    public void setUp() {
+        User user = userService.signUp(
+            new UserCreateRequestDto("changefeed@test", "testname", "@Aabcdef", "010-1234-1234"));
+        authUser = AuthUser.createInstance(user.getId(), user.getEmail(), OWNER);
+
+        Category category = jpaCategoryRepository.save(new Category(null, "강릉/경포"));
+        State state = jpaStateRepository.save(new State(null, "강원"));
+        City city = jpaCityRepository.save(new City(null, "강릉시", state, category.getId()));
+        Accommodation accommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        roomType = roomTypeService.registerRoomType(accommodation.getId(),
+            new RoomTypeCreateRequestDto("스탠다드", "스탠다드 룸", 30000), authUser);
+    }
+
+    @AfterEach
+    public void after() {
+        jdbcTemplate.update("DELETE FROM room_inventory_change");
+        jdbcTemplate.update("DELETE FROM room_inventory_change_pending");
+        jdbcTemplate.update("DELETE FROM accommodation_daily_price");
+        userRepository.deleteAll();
+        accommodationService.deleteAll();
+        jpaCityRepository.deleteAll();
+        jpaStateRepository.deleteAll();
+        jpaCategoryRepository.deleteAll();
+    }
+
+    @DisplayName("마지막으로 받은 순번 이후에 바뀐 날짜만 현재 객실 수와 함께 순번 순으로 조회된다.")
+    @Test
+    void getChangesSince() {
+        // given
+        LocalDate firstDate = LocalDate.now().plusDays(1);
+        LocalDate secondDate = firstDate.plusDays(1);
+        inventoryChangeSequencer.sequence();
+        long since = inventoryChangeFeedService.getLastSequence();
+        roomInventoryService.addInventory(roomType.getId(),
+            new RoomInventoryAddRequestDto(firstDate, secondDate, 3), authUser);
+        inventoryChangeSequencer.sequence();
+        long afterAdd = inventoryChangeFeedService.getLastSequence();
+
+        // when
+        roomInventoryService.changeStock(roomType.getId(),
+            new RoomInventoryUpdateRequestDto(firstDate, firstDate, -1), authUser);
+        inventoryChangeSequencer.sequence();
+
+        // then
+        List<InventoryChange> all = inventoryChangeFeedService.getChangesSince(since, 10).getContent();
+        assertThat(all).extracting(InventoryChange::getDate).containsExactly(secondDate, firstDate);
+        assertThat(all).extracting(InventoryChange::getAvailableCount).containsExactly(3, 2);
+
+        List<InventoryChange> changed = inventoryChangeFeedService.getChangesSince(afterAdd, 10).getContent();
+        assertThat(changed).hasSize(1);
+        assertThat(changed.get(0).getDate()).isEqualTo(firstDate);
+        assertThat(changed.get(0).getSequence()).isEqualTo(inventoryChangeFeedService.getLastSequence());
+    }
+
+    @DisplayName("페이지 크기를 넘는 변경은 다음 페이지로 나뉜다.")
+    @Test
+    void pageChanges() {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        inventoryChangeSequencer.sequence();
+        long since = inventoryChangeFeedService.getLastSequence();
+        roomInventoryService.addInventory(roomType.getId(),
+            new RoomInventoryAddRequestDto(startDate, startDate.plusDays(2), 1), authUser);
+        inventoryChangeSequencer.sequence();
+
+        // when
+        Slice<InventoryChange> first = inventoryChangeFeedService.getChangesSince(since, 2);
+        Slice<InventoryChange> second = inventoryChangeFeedService.getChangesSince(
+            first.getContent().get(1).getSequence(), 2);
+
+        // then
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.getContent().get(0).getDate()).isEqualTo(startDate.plusDays(2));
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.jagoga.roominventory.application;
+
+import static com.project.jagoga.user.domain.Role.OWNER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+import com.project.jagoga.accommodation.application.AccommodationService;
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.address.City;
+import com.project.jagoga.accommodation.domain.address.State;
+import com.project.jagoga.accommodation.infrastructure.address.JpaCityRepository;
+import com.project.jagoga.accommodation.infrastructure.address.JpaStateRepository;
+import com.project.jagoga.category.domain.Category;
+import com.project.jagoga.category.infrastructure.JpaCategoryRepository;
+import com.project.jagoga.common.factory.AccommodationFactory;
+import com.project.jagoga.roominventory.domain.InventoryChange;
+import com.project.jagoga.roominventory.infrastructure.JdbcInventoryChangeRepository;
+import com.project.jagoga.roominventory.presentation.dto.RoomInventoryAddRequestDto;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.roomtype.presentation.dto.RoomTypeCreateRequestDto;
+import com.project.jagoga.user.application.UserService;
+import com.project.jagoga.user.domain.AuthUser;
+import com.project.jagoga.user.domain.User;
+import com.project.jagoga.user.domain.UserRepository;
+import com.project.jagoga.user.presentation.dto.request.UserCreateRequestDto;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class InventoryChangeRecorderTest {
+
+    @SpyBean
+    JdbcInventoryChangeRepository jdbcInventoryChangeRepository;
+
+    @Autowired
+    InventoryChangeSequencer inventoryChangeSequencer;
+
+    @Autowired
+    InventoryChangeFeedService inventoryChangeFeedService;
+
+    @Autowired
+    RoomInventoryService roomInventoryService;
+
+    @Autowired
+    AccommodationService accommodationService;
+
+    @Autowired
+    RoomTypeService roomTypeService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JpaCategoryRepository jpaCategoryRepository;
+
+    @Autowired
+    JpaStateRepository jpaStateRepository;
+
+    @Autowired
+    JpaCityRepository jpaCityRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    AuthUser authUser;
+    RoomType roomType;
+
+    @BeforeEach
+    public void setUp() {
+        User user = userService.signUp(
+            new UserCreateRequestDto("recorder@test", "testname", "@Aabcdef", "010-1234-1234"));
+        authUser = AuthUser.createInstance(user.getId(), user.getEmail(), OWNER);
+
+        Category category = jpaCategoryRepository.save(new Category(null, "강릉/경포"));
+        State state = jpaStateRepository.save(new State(null, "강원"));
+        City city = jpaCityRepository.save(new City(null, "강릉시", state, category.getId()));
+        Accommodation accommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        roomType = roomTypeService.registerRoomType(accommodation.getId(),
+            new RoomTypeCreateRequestDto("스탠다드", "스탠다드 룸", 30000), authUser);
+        clearInvocations(jdbcInventoryChangeRepository);
+    }
+
+    @AfterEach
+    public void after() {
+        jdbcTemplate.update("DELETE FROM room_inventory_change");
+        jdbcTemplate.update("DELETE FROM room_inventory_change_pending");
+        jdbcTemplate.update("DELETE FROM accommodation_daily_price");
+        jdbcTemplate.update("DELETE FROM search_outbox");
+        userRepository.deleteAll();
+        accommodationService.deleteAll();
+        jpaCityRepository.deleteAll();
+        jpaStateRepository.deleteAll();
+        jpaCategoryRepository.deleteAll();
+    }
+
+    @DisplayName("재고 변경은 순번 없이 기록되고, 커밋 후 순번이 매겨지면 피드에 나타난다.")
+    @Test
+    void recordWithoutSequence() {
+        // given
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = startDate.plusDays(1);
+        inventoryChangeSequencer.sequence();
+        long since = inventoryChangeFeedService.getLastSequence();
+
+        // when
+        roomInventoryService.addInventory(roomType.getId(),
+            new RoomInventoryAddRequestDto(startDate, endDate, 1), authUser);
+        inventoryChangeSequencer.sequence();
+
+        // then
+        verify(jdbcInventoryChangeRepository).record(roomType.getId(), startDate, endDate);
+        List<InventoryChange> changes = inventoryChangeFeedService.getChangesSince(since, 10).getContent();
+        assertThat(changes).extracting(InventoryChange::getDate).containsExactly(startDate, endDate);
+        assertThat(inventoryChangeFeedService.getLastSequence()).isEqualTo(since + 2);
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.jagoga.roominventory.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AvailabilityCalendarTest {
+
+    @DisplayName("재고가 없는 날은 -1이고 달 밖의 날짜는 무시한다.")
+    @Test
+    void setCounts() {
+        // given
+        AvailabilityCalendar calendar = AvailabilityCalendar.empty(1L, YearMonth.of(2024, 2));
+
+        // when
+        calendar.set(LocalDate.of(2024, 2, 1), 3);
+        calendar.set(LocalDate.of(2024, 2, 29), 0);
+        calendar.set(LocalDate.of(2024, 3, 1), 5);
+
+        // then
+        assertThat(calendar.getCounts()).hasSize(29);
+        assertThat(calendar.getCounts()[0]).isEqualTo(3);
+        assertThat(calendar.getCounts()[1]).isEqualTo(AvailabilityCalendar.NO_INVENTORY);
+        assertThat(calendar.getCounts()[28]).isZero();
+        assertThat(calendar.getEndDate()).isEqualTo(LocalDate.of(2024, 2, 29));
+    }
+
+    @DisplayName("재고가 바뀌면 ETag도 바뀐다.")
+    @Test
+    void eTagChangesWithCounts() {
+        // given
+        AvailabilityCalendar calendar = AvailabilityCalendar.empty(1L, YearMonth.of(2024, 2));
+        calendar.set(LocalDate.of(2024, 2, 1), 3);
+        AvailabilityCalendar same = AvailabilityCalendar.empty(1L, YearMonth.of(2024, 2));
+        same.set(LocalDate.of(2024, 2, 1), 3);
+        String eTag = calendar.getETag();
+
+        // when
+        calendar.set(LocalDate.of(2024, 2, 1), 2);
+
+        // then
+        assertThat(same.getETag()).isEqualTo(eTag);
+        assertThat(calendar.getETag()).isNotEqualTo(eTag);
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.jagoga.roominventory.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomTypeAvailabilitiesTest {
+
+    @DisplayName("초기 용량보다 많이 추가해도 순서대로 보관하고 roomTypeId로 조회할 수 있다.")
+    @Test
+    void addAndLookup() {
+        // given
+        RoomTypeAvailabilities.Builder builder = RoomTypeAvailabilities.builder(1);
+        for (long roomTypeId = 1; roomTypeId <= 10; roomTypeId++) {
+            builder.add(roomTypeId * 10, (int) roomTypeId);
+        }
+
+        // when
+        RoomTypeAvailabilities availabilities = builder.build();
+
+        // then
+        assertThat(availabilities.size()).isEqualTo(10);
+        assertThat(availabilities.getRoomTypeId(9)).isEqualTo(100L);
+        assertThat(availabilities.availableCountOf(30L)).isEqualTo(3);
+        assertThat(availabilities.contains(35L)).isFalse();
+        assertThat(availabilities.availableCountOf(35L)).isZero();
+    }
+
+    @DisplayName("roomTypeId가 오름차순이 아니면 예외발생")
+    @Test
+    void should_Fail_NotAscending() {
+        // given
+        RoomTypeAvailabilities.Builder builder = RoomTypeAvailabilities.builder(4).add(2L, 1);
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> builder.add(1L, 1));
+    }
+}
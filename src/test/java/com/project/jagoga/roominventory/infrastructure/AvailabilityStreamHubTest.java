@@ -0,0 +1,253 @@
+package com.project.jagoga.roominventory.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.project.jagoga.exception.roominventory.AvailabilityStreamLimitException;
+import com.project.jagoga.roominventory.domain.AvailabilityChange;
+import com.project.jagoga.roominventory.domain.AvailabilityDelta;
+import com.project.jagoga.utils.BoundedExecutor;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class AvailabilityStreamHubTest {
+
+    private static final long SEND_TIMEOUT_MILLIS = 50;
+
+    BoundedExecutor executor = new BoundedExecutor("test-stream", 1, 10, AvailabilityStreamLimitException::new);
+    AvailabilityStreamHub hub = new AvailabilityStreamHub(executor, 2, 3, 60_000L, SEND_TIMEOUT_MILLIS);
+    CountDownLatch release = new CountDownLatch(1);
+    LocalDate date = LocalDate.of(2024, 1, 10);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @DisplayName("최대 구독자 수를 넘으면 예외발생")
+    @Test
+    void should_Fail_TooManySubscribers() {
+        // given
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        // when, then
+        assertThrows(AvailabilityStreamLimitException.class, () -> hub.subscribe(3L));
+        assertThat(hub.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @DisplayName("전송이 밀린 동안 받은 변경은 날짜별 최신 값으로 합쳐 한 번에 보낸다.")
+    @Test
+    void publish_MergePendingChanges() throws InterruptedException {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(1L, emitter);
+        blockExecutor();
+
+        // when
+        hub.publish(1L, List.of(new AvailabilityChange(date, 3), new AvailabilityChange(date.plusDays(1), 3)));
+        hub.publish(1L, List.of(new AvailabilityChange(date, 2)));
+        release.countDown();
+
+        // then
+        AvailabilityDelta delta = emitter.deltas.poll(1, TimeUnit.SECONDS);
+        assertThat(delta).isNotNull();
+        assertThat(delta.getRoomTypeId()).isEqualTo(1L);
+        assertThat(delta.getChanges()).extracting(AvailabilityChange::getAvailableCount).containsExactly(2, 3);
+        assertThat(emitter.deltas.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(hub.hasSubscribers(1L)).isTrue();
+    }
+
+    @DisplayName("날짜가 많은 변경 묶음 하나로는 연결을 끊지 않는다.")
+    @Test
+    void publish_LargeDeltaKeepsConnection() throws InterruptedException {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(1L, emitter);
+        List<AvailabilityChange> changes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            changes.add(new AvailabilityChange(date.plusDays(i), 1));
+        }
+
+        // when
+        hub.publish(1L, changes);
+
+        // then
+        AvailabilityDelta delta = emitter.deltas.poll(1, TimeUnit.SECONDS);
+        assertThat(delta).isNotNull();
+        assertThat(delta.getChanges()).hasSize(500);
+        assertThat(hub.hasSubscribers(1L)).isTrue();
+    }
+
+    @DisplayName("마지막 전송 이후 보내지 못한 변경 묶음이 최대치를 넘으면 연결을 끊는다.")
+    @Test
+    void publish_DisconnectWhenTooManyPendingDeltas() throws InterruptedException {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(1L, emitter);
+        blockExecutor();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            hub.publish(1L, List.of(new AvailabilityChange(date, i)));
+        }
+        assertThat(hub.hasSubscribers(1L)).isTrue();
+        hub.publish(1L, List.of(new AvailabilityChange(date, 3)));
+
+        // then
+        assertThat(hub.hasSubscribers(1L)).isFalse();
+        assertThat(hub.getSubscriberCount()).isZero();
+        release.countDown();
+        assertThat(emitter.deltas.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @DisplayName("전송에 성공하면 보내지 못한 변경 묶음 수를 다시 센다.")
+    @Test
+    void publish_ResetPendingDeltasAfterSend() throws InterruptedException {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(1L, emitter);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            hub.publish(1L, List.of(new AvailabilityChange(date, i)));
+            assertThat(emitter.deltas.poll(1, TimeUnit.SECONDS)).isNotNull();
+        }
+
+        // then
+        assertThat(hub.hasSubscribers(1L)).isTrue();
+    }
+
+    @DisplayName("전송에 실패하면 구독을 정리한다.")
+    @Test
+    void publish_CloseWhenSendFailed() throws InterruptedException {
+        // given
+        CountDownLatch failed = new CountDownLatch(1);
+        hub.subscribe(1L, new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                failed.countDown();
+                throw new IOException("broken pipe");
+            }
+        });
+
+        // when
+        hub.publish(1L, List.of(new AvailabilityChange(date, 1)));
+
+        // then
+        assertThat(failed.await(1, TimeUnit.SECONDS)).isTrue();
+        awaitNoSubscribers(1L);
+        assertThat(hub.getSubscriberCount()).isZero();
+    }
+
+    @DisplayName("전송이 제한 시간을 넘기면 구독을 정리하고, 전송이 끝난 뒤에 연결을 닫는다.")
+    @Test
+    void expireStuckSends() throws InterruptedException {
+        // given
+        StuckEmitter emitter = new StuckEmitter();
+        hub.subscribe(1L, emitter);
+        hub.publish(1L, List.of(new AvailabilityChange(date, 1)));
+        assertThat(emitter.sending.await(1, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(SEND_TIMEOUT_MILLIS * 2);
+
+        // when
+        hub.expireStuckSends();
+
+        // then
+        assertThat(hub.hasSubscribers(1L)).isFalse();
+        assertThat(hub.getSubscriberCount()).isZero();
+        assertThat(emitter.completed.getCount()).isOne();
+        release.countDown();
+        assertThat(emitter.completed.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @DisplayName("전송이 제한 시간을 넘긴 채로 변경을 받으면 보내지 못한 묶음 수와 관계없이 연결을 끊는다.")
+    @Test
+    void publish_DisconnectWhenSendStuck() throws InterruptedException {
+        // given
+        StuckEmitter emitter = new StuckEmitter();
+        hub.subscribe(1L, emitter);
+        hub.publish(1L, List.of(new AvailabilityChange(date, 1)));
+        assertThat(emitter.sending.await(1, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(SEND_TIMEOUT_MILLIS * 2);
+
+        // when
+        hub.publish(1L, List.of(new AvailabilityChange(date, 0)));
+
+        // then
+        assertThat(hub.hasSubscribers(1L)).isFalse();
+        release.countDown();
+        assertThat(emitter.completed.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    /*
+        실행기의 유일한 스레드를 release 전까지 점유해 전송이 밀린 상황을 만든다.
+     */
+    private void blockExecutor() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> {
+            started.countDown();
+            try {
+                return release.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void awaitNoSubscribers(long roomTypeId) throws InterruptedException {
+        for (int i = 0; i < 100 && hub.hasSubscribers(roomTypeId); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(hub.hasSubscribers(roomTypeId)).isFalse();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<AvailabilityDelta> deltas = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                .filter(data -> data.getData() instanceof AvailabilityDelta)
+                .forEach(data -> deltas.add((AvailabilityDelta) data.getData()));
+        }
+    }
+
+    /*
+        release 전까지 전송이 끝나지 않는 연결
+     */
+    private class StuckEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                release.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+}
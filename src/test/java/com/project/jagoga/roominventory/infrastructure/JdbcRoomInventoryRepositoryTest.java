@@ -0,0 +1,159 @@
+package com.project.jagoga.roominventory.infrastructure;
+
+import static com.project.jagoga.user.domain.Role.OWNER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.jagoga.accommodation.application.AccommodationService;
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.address.City;
+import com.project.jagoga.accommodation.domain.address.State;
+import com.project.jagoga.accommodation.infrastructure.address.JpaCityRepository;
+import com.project.jagoga.accommodation.infrastructure.address.JpaStateRepository;
+import com.project.jagoga.category.domain.Category;
+import com.project.jagoga.category.infrastructure.JpaCategoryRepository;
+import com.project.jagoga.common.factory.AccommodationFactory;
+import com.project.jagoga.roominventory.application.RoomInventoryService;
+import com.project.jagoga.roominventory.domain.RoomTypeAvailabilities;
+import com.project.jagoga.roominventory.presentation.dto.RoomInventoryAddRequestDto;
+import com.project.jagoga.roominventory.presentation.dto.RoomInventoryUpdateRequestDto;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.roomtype.presentation.dto.RoomTypeCreateRequestDto;
+import com.project.jagoga.user.application.UserService;
+import com.project.jagoga.user.domain.AuthUser;
+import com.project.jagoga.user.domain.User;
+import com.project.jagoga.user.presentation.dto.request.UserCreateRequestDto;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class JdbcRoomInventoryRepositoryTest {
+
+    @Autowired
+    JdbcRoomInventoryRepository jdbcRoomInventoryRepository;
+
+    @Autowired
+    AccommodationService accommodationService;
+
+    @Autowired
+    RoomTypeService roomTypeService;
+
+    @Autowired
+    RoomInventoryService roomInventoryService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    JpaCategoryRepository jpaCategoryRepository;
+
+    @Autowired
+    JpaStateRepository jpaStateRepository;
+
+    @Autowired
+    JpaCityRepository jpaCityRepository;
+
+    AuthUser authUser;
+    long accommodationId;
+    LocalDate checkInDate;
+
+    @BeforeEach
+    public void setUp() {
+        User user = userService.signUp(
+            new UserCreateRequestDto("availability@test", "testname", "@Aabcdef", "010-1234-1234"));
+        authUser = AuthUser.createInstance(user.getId(), user.getEmail(), OWNER);
+
+        Category category = jpaCategoryRepository.save(new Category(null, "강릉/경포"));
+        State state = jpaStateRepository.save(new State(null, "강원"));
+        City city = jpaCityRepository.save(new City(null, "강릉시", state, category.getId()));
+        Accommodation accommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        accommodationId = accommodation.getId();
+        checkInDate = LocalDate.now().plusDays(1);
+    }
+
+    @DisplayName("구간의 재고 중 가장 작은 값을 반환한다.")
+    @Test
+    void findAvailabilities_MinimumCount() {
+        // given
+        RoomType roomType = registerRoomType("스탠다드");
+        roomInventoryService.addInventory(roomType.getId(),
+            new RoomInventoryAddRequestDto(checkInDate, checkInDate.plusDays(1), 3), authUser);
+        roomInventoryService.changeStock(roomType.getId(),
+            new RoomInventoryUpdateRequestDto(checkInDate.plusDays(1), checkInDate.plusDays(1), -1), authUser);
+
+        // when
+        RoomTypeAvailabilities availabilities =
+            jdbcRoomInventoryRepository.findAvailabilities(accommodationId, checkInDate, checkInDate.plusDays(2), 2);
+
+        // then
+        assertThat(availabilities.availableCountOf(roomType.getId())).isEqualTo(2);
+    }
+
+    @DisplayName("재고 행이 없는 날이 있으면 0을 반환한다.")
+    @Test
+    void findAvailabilities_MissingDay() {
+        // given
+        RoomType roomType = registerRoomType("스탠다드");
+        roomInventoryService.addInventory(roomType.getId(),
+            new RoomInventoryAddRequestDto(checkInDate, checkInDate, 3), authUser);
+
+        // when
+        RoomTypeAvailabilities availabilities =
+            jdbcRoomInventoryRepository.findAvailabilities(accommodationId, checkInDate, checkInDate.plusDays(2), 2);
+
+        // then
+        assertThat(availabilities.contains(roomType.getId())).isTrue();
+        assertThat(availabilities.availableCountOf(roomType.getId())).isZero();
+    }
+
+    @DisplayName("재고가 전혀 없는 룸타입도 0으로 함께 반환한다.")
+    @Test
+    void findAvailabilities_RoomTypeWithoutInventory() {
+        // given
+        RoomType stocked = registerRoomType("스탠다드");
+        RoomType empty = registerRoomType("디럭스");
+        roomInventoryService.addInventory(stocked.getId(),
+            new RoomInventoryAddRequestDto(checkInDate, checkInDate, 3), authUser);
+
+        // when
+        RoomTypeAvailabilities availabilities =
+            jdbcRoomInventoryRepository.findAvailabilities(accommodationId, checkInDate, checkInDate.plusDays(1), 1);
+
+        // then
+        assertThat(availabilities.size()).isEqualTo(2);
+        assertThat(availabilities.availableCountOf(stocked.getId())).isEqualTo(3);
+        assertThat(availabilities.contains(empty.getId())).isTrue();
+        assertThat(availabilities.availableCountOf(empty.getId())).isZero();
+    }
+
+    @DisplayName("체크아웃 날짜의 재고는 보지 않는다.")
+    @Test
+    void findAvailabilities_ExcludeCheckOutDate() {
+        // given
+        LocalDate checkOutDate = checkInDate.plusDays(2);
+        RoomType roomType = registerRoomType("스탠다드");
+        roomInventoryService.addInventory(roomType.getId(),
+            new RoomInventoryAddRequestDto(checkInDate, checkOutDate, 2), authUser);
+        roomInventoryService.changeStock(roomType.getId(),
+            new RoomInventoryUpdateRequestDto(checkOutDate, checkOutDate, -2), authUser);
+
+        // when
+        RoomTypeAvailabilities availabilities =
+            jdbcRoomInventoryRepository.findAvailabilities(accommodationId, checkInDate, checkOutDate, 2);
+
+        // then
+        assertThat(availabilities.availableCountOf(roomType.getId())).isEqualTo(2);
+    }
+
+    private RoomType registerRoomType(String name) {
+        return roomTypeService.registerRoomType(accommodationId,
+            new RoomTypeCreateRequestDto(name, name + " 룸", 30000), authUser);
+    }
+}
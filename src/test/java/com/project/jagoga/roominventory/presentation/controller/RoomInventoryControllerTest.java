@@ -0,0 +1,157 @@
+package com.project.jagoga.roominventory.presentation.controller;
+
+import static com.project.jagoga.user.domain.Role.OWNER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.project.jagoga.accommodation.application.AccommodationService;
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.address.City;
+import com.project.jagoga.accommodation.domain.address.State;
+import com.project.jagoga.accommodation.infrastructure.address.JpaCityRepository;
+import com.project.jagoga.accommodation.infrastructure.address.JpaStateRepository;
+import com.project.jagoga.category.domain.Category;
+import com.project.jagoga.category.infrastructure.JpaCategoryRepository;
+import com.project.jagoga.common.factory.AccommodationFactory;
+import com.project.jagoga.roominventory.application.RoomInventoryService;
+import com.project.jagoga.roominventory.presentation.dto.RoomInventoryAddRequestDto;
+import com.project.jagoga.roominventory.presentation.dto.RoomInventoryUpdateRequestDto;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.roomtype.presentation.dto.RoomTypeCreateRequestDto;
+import com.project.jagoga.user.application.UserService;
+import com.project.jagoga.user.domain.AuthUser;
+import com.project.jagoga.user.domain.User;
+import com.project.jagoga.user.presentation.dto.request.UserCreateRequestDto;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class RoomInventoryControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    AccommodationService accommodationService;
+
+    @Autowired
+    RoomTypeService roomTypeService;
+
+    @Autowired
+    RoomInventoryService roomInventoryService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    JpaCategoryRepository jpaCategoryRepository;
+
+    @Autowired
+    JpaStateRepository jpaStateRepository;
+
+    @Autowired
+    JpaCityRepository jpaCityRepository;
+
+    AuthUser authUser;
+    RoomType roomType;
+    YearMonth month;
+    LocalDate date;
+
+    @BeforeEach
+    public void setUp() {
+        User user = userService.signUp(
+            new UserCreateRequestDto("calendar@test", "testname", "@Aabcdef", "010-1234-1234"));
+        authUser = AuthUser.createInstance(user.getId(), user.getEmail(), OWNER);
+
+        Category category = jpaCategoryRepository.save(new Category(null, "강릉/경포"));
+        State state = jpaStateRepository.save(new State(null, "강원"));
+        City city = jpaCityRepository.save(new City(null, "강릉시", state, category.getId()));
+        Accommodation accommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        roomType = roomTypeService.registerRoomType(accommodation.getId(),
+            new RoomTypeCreateRequestDto("스탠다드", "스탠다드 룸", 30000), authUser);
+
+        month = YearMonth.now().plusMonths(1);
+        date = month.atDay(1);
+        roomInventoryService.addInventory(roomType.getId(), new RoomInventoryAddRequestDto(date, date, 3), authUser);
+    }
+
+    @DisplayName("달력을 ETag와 함께 응답한다.")
+    @Test
+    void getCalendar() throws Exception {
+        mockMvc.perform(get(calendarUrl()).param("month", month.toString()))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("$.data.roomTypeId").value(roomType.getId()))
+            .andExpect(jsonPath("$.data.counts[0]").value(3));
+    }
+
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 응답한다.")
+    @Test
+    void getCalendar_NotModified() throws Exception {
+        // given
+        String eTag = getETag();
+
+        // then
+        mockMvc.perform(get(calendarUrl()).param("month", month.toString())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andDo(print())
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""));
+    }
+
+    @DisplayName("달력이 바뀌면 이전 ETag로 요청해도 새 ETag와 함께 200을 응답한다.")
+    @Test
+    void getCalendar_Modified() throws Exception {
+        // given
+        String eTag = getETag();
+        roomInventoryService.changeStock(roomType.getId(), new RoomInventoryUpdateRequestDto(date, date, -1), authUser);
+
+        // when
+        String newETag = mockMvc.perform(get(calendarUrl()).param("month", month.toString())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.counts[0]").value(2))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // then
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+
+    @DisplayName("존재하지 않는 룸타입의 달력을 조회하면 404를 응답한다.")
+    @Test
+    void getCalendar_NotExistRoomType() throws Exception {
+        mockMvc.perform(get("/api/roomtypes/10000/roominventories/calendar").param("month", month.toString()))
+            .andDo(print())
+            .andExpect(status().isNotFound());
+    }
+
+    private String calendarUrl() {
+        return "/api/roomtypes/" + roomType.getId() + "/roominventories/calendar";
+    }
+
+    private String getETag() throws Exception {
+        return mockMvc.perform(get(calendarUrl()).param("month", month.toString()))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
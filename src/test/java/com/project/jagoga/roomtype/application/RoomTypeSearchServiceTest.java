@@ -0,0 +1,79 @@
+package com.project.jagoga.roomtype.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.jagoga.exception.accommodation.InvalidStayPeriodException;
+import com.project.jagoga.roominventory.application.RoomInventoryService;
+import com.project.jagoga.roomtype.domain.RoomTypeMetadata;
+import com.project.jagoga.roomtype.domain.RoomTypeRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class RoomTypeSearchServiceTest {
+
+    @InjectMocks
+    RoomTypeSearchService roomTypeSearchService;
+
+    @Mock
+    RoomTypeRepository roomTypeRepository;
+
+    @Mock
+    RoomInventoryService roomInventoryService;
+
+    LocalDate checkInDate = LocalDate.of(2021, 9, 1);
+    LocalDate checkOutDate = LocalDate.of(2021, 9, 3);
+
+    @Test
+    @DisplayName("가격 순 후보에서 예약 가능한 k개를 채우면 다음 후보 묶음을 조회하지 않는다")
+    public void findCheapestAvailable_StopEarly() {
+        // given
+        List<RoomTypeMetadata> candidates = LongStream.rangeClosed(1, 100)
+            .mapToObj(id -> new RoomTypeMetadata(id, 1L, 1L, (int) id * 1000))
+            .collect(Collectors.toList());
+        when(roomTypeRepository.findMetadataByCityIdAfter(eq(1L), anyInt(), anyLong(), any(Pageable.class)))
+            .thenReturn(candidates);
+        when(roomInventoryService.getAvailableRoomTypeIds(any(), eq(checkInDate), eq(checkOutDate)))
+            .thenReturn(Set.of(2L, 4L, 6L, 8L));
+
+        // when
+        roomTypeSearchService.findCheapestAvailable(1L, checkInDate, checkOutDate, 3);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<Long>> roomTypeIds = ArgumentCaptor.forClass(Iterable.class);
+        verify(roomTypeRepository).findAllById(roomTypeIds.capture());
+        List<Long> result = new ArrayList<>();
+        roomTypeIds.getValue().forEach(result::add);
+        assertThat(result).containsExactly(2L, 4L, 6L);
+        verify(roomTypeRepository, times(1))
+            .findMetadataByCityIdAfter(eq(1L), anyInt(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("체크아웃 날짜가 체크인 날짜보다 빠르면 예외가 발생한다")
+    public void findCheapestAvailable_InvalidPeriod() {
+        assertThrows(InvalidStayPeriodException.class,
+            () -> roomTypeSearchService.findCheapestAvailable(1L, checkOutDate, checkInDate, 3));
+    }
+}
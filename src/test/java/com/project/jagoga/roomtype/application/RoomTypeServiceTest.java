@@ -14,13 +14,17 @@ import com.project.jagoga.accommodation.infrastructure.address.JpaStateRepositor
 import com.project.jagoga.accommodation.presentation.dto.AccommodationRequestDto;
 import com.project.jagoga.common.factory.AccommodationFactory;
 import com.project.jagoga.exception.accommodation.NotExistAccommodationException;
+import com.project.jagoga.exception.roomtype.NotExistRoomTypeException;
 import com.project.jagoga.exception.user.ForbiddenException;
 import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.roomtype.domain.RoomTypeMetadata;
 import com.project.jagoga.roomtype.presentation.dto.RoomTypeCreateRequestDto;
 import com.project.jagoga.user.application.UserService;
 import com.project.jagoga.user.domain.AuthUser;
 import com.project.jagoga.user.domain.User;
 import com.project.jagoga.user.presentation.dto.request.UserCreateRequestDto;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -106,6 +110,30 @@ class RoomTypeServiceTest {
             .isEqualTo(roomTypeService.getRoomTypeById(roomType.getId()).getId());
     }
 
+    @DisplayName("룸타입 메타데이터는 등록한 룸타입의 소유자와 숙소 정보를 반환한다.")
+    @Test
+    void getRoomTypeMetadata() {
+        // given
+        RoomTypeCreateRequestDto roomTypeCreateRequestDto =
+            new RoomTypeCreateRequestDto(roomTypeName, description, price);
+        RoomType roomType = roomTypeService.registerRoomType(accommodationId, roomTypeCreateRequestDto, authUser);
+
+        // when
+        RoomTypeMetadata metadata = roomTypeService.getRoomTypeMetadata(roomType.getId());
+
+        // then
+        assertThat(metadata.getOwnerId()).isEqualTo(authUser.getId());
+        assertThat(metadata.getAccommodationId()).isEqualTo(accommodationId);
+        assertThat(metadata.getPrice()).isEqualTo(price);
+    }
+
+    @DisplayName("존재하지 않는 룸타입의 메타데이터를 조회하면 예외가 발생한다.")
+    @Test
+    void getNotExistRoomTypeMetadata() {
+        // when, then
+        assertThrows(NotExistRoomTypeException.class, () -> roomTypeService.getRoomTypeMetadata(1111L));
+    }
+
     @DisplayName("본인이 등록하지 않은 숙소에 roomType을 등록할 수 없다.")
     @Test
     void registerRoomTypeAtOtherAccommodation() {
@@ -137,4 +165,25 @@ class RoomTypeServiceTest {
         assertThrows(NotExistAccommodationException.class,
             () -> roomTypeService.registerRoomType(notExistAccommodationId, roomTypeCreateRequestDto, authUser));
     }
-}
\ No newline at end of file
+
+    @DisplayName("여러 숙소의 룸타입을 숙소별로 묶어 가격 순으로 조회한다.")
+    @Test
+    void getRoomTypesByAccommodationIds() {
+        // given
+        RoomType expensive = roomTypeService.registerRoomType(accommodationId,
+            new RoomTypeCreateRequestDto("디럭스", description, 50000), authUser);
+        RoomType cheap = roomTypeService.registerRoomType(accommodationId,
+            new RoomTypeCreateRequestDto(roomTypeName, description, 30000), authUser);
+        long emptyAccommodationId = 1111L;
+
+        // when
+        Map<Long, List<RoomType>> roomTypes =
+            roomTypeService.getRoomTypesByAccommodationIds(List.of(accommodationId, emptyAccommodationId));
+
+        // then
+        assertThat(roomTypes.get(accommodationId))
+            .extracting(RoomType::getId)
+            .containsExactly(cheap.getId(), expensive.getId());
+        assertThat(roomTypes.get(emptyAccommodationId)).isEmpty();
+    }
+}
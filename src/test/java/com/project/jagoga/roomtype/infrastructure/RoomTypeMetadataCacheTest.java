@@ -0,0 +1,64 @@
+package com.project.jagoga.roomtype.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.jagoga.roomtype.domain.RoomTypeMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomTypeMetadataCacheTest {
+
+    RoomTypeMetadataCache roomTypeMetadataCache = new RoomTypeMetadataCache(2);
+
+    @DisplayName("최대 크기를 넘으면 조회된 적 없는 엔트리부터 제거한다.")
+    @Test
+    void put_EvictUnreferenced() {
+        // given
+        roomTypeMetadataCache.put(metadata(1L));
+        roomTypeMetadataCache.put(metadata(2L));
+        roomTypeMetadataCache.get(1L);
+
+        // when
+        roomTypeMetadataCache.put(metadata(3L));
+
+        // then
+        assertThat(roomTypeMetadataCache.size()).isEqualTo(2);
+        assertThat(roomTypeMetadataCache.get(1L)).isPresent();
+        assertThat(roomTypeMetadataCache.get(2L)).isEmpty();
+    }
+
+    @DisplayName("모든 엔트리가 조회되었어도 최대 크기를 지킨다.")
+    @Test
+    void put_EvictAllReferenced() {
+        // given
+        roomTypeMetadataCache.put(metadata(1L));
+        roomTypeMetadataCache.put(metadata(2L));
+        roomTypeMetadataCache.get(1L);
+        roomTypeMetadataCache.get(2L);
+
+        // when
+        roomTypeMetadataCache.put(metadata(3L));
+
+        // then
+        assertThat(roomTypeMetadataCache.size()).isEqualTo(2);
+    }
+
+    @DisplayName("숙소가 삭제되면 그 숙소의 엔트리만 제거한다.")
+    @Test
+    void evictByAccommodationId() {
+        // given
+        roomTypeMetadataCache.put(new RoomTypeMetadata(1L, 10L, 100L, 30000));
+        roomTypeMetadataCache.put(new RoomTypeMetadata(2L, 20L, 100L, 30000));
+
+        // when
+        roomTypeMetadataCache.evictByAccommodationId(10L);
+
+        // then
+        assertThat(roomTypeMetadataCache.get(1L)).isEmpty();
+        assertThat(roomTypeMetadataCache.get(2L)).isPresent();
+    }
+
+    private RoomTypeMetadata metadata(long roomTypeId) {
+        return new RoomTypeMetadata(roomTypeId, 1L, 100L, 30000);
+    }
+}
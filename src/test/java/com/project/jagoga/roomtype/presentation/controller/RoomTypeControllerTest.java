@@ -0,0 +1,137 @@
+package com.project.jagoga.roomtype.presentation.controller;
+
+import static com.project.jagoga.user.domain.Role.OWNER;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.project.jagoga.accommodation.application.AccommodationService;
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.address.City;
+import com.project.jagoga.accommodation.domain.address.State;
+import com.project.jagoga.accommodation.infrastructure.address.JpaCityRepository;
+import com.project.jagoga.accommodation.infrastructure.address.JpaStateRepository;
+import com.project.jagoga.category.domain.Category;
+import com.project.jagoga.category.infrastructure.JpaCategoryRepository;
+import com.project.jagoga.common.factory.AccommodationFactory;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import com.project.jagoga.roomtype.domain.RoomType;
+import com.project.jagoga.roomtype.presentation.dto.RoomTypeCreateRequestDto;
+import com.project.jagoga.user.application.UserService;
+import com.project.jagoga.user.domain.AuthUser;
+import com.project.jagoga.user.domain.User;
+import com.project.jagoga.user.presentation.dto.request.UserCreateRequestDto;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class RoomTypeControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    AccommodationService accommodationService;
+
+    @Autowired
+    RoomTypeService roomTypeService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    JpaCategoryRepository jpaCategoryRepository;
+
+    @Autowired
+    JpaStateRepository jpaStateRepository;
+
+    @Autowired
+    JpaCityRepository jpaCityRepository;
+
+    AuthUser authUser;
+    City city;
+
+    @BeforeEach
+    public void setUp() {
+        User user = userService.signUp(
+            new UserCreateRequestDto("roomtype@test", "testname", "@Aabcdef", "010-1234-1234"));
+        authUser = AuthUser.createInstance(user.getId(), user.getEmail(), OWNER);
+
+        Category category = jpaCategoryRepository.save(new Category(null, "강릉/경포"));
+        State state = jpaStateRepository.save(new State(null, "강원"));
+        city = jpaCityRepository.save(new City(null, "강릉시", state, category.getId()));
+    }
+
+    @DisplayName("숙소의 룸타입을 가격 순으로 조회한다.")
+    @Test
+    void getRoomTypes() throws Exception {
+        // given
+        Accommodation accommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        RoomType expensive = roomTypeService.registerRoomType(accommodation.getId(),
+            new RoomTypeCreateRequestDto("디럭스", "디럭스 룸", 50000), authUser);
+        RoomType cheap = roomTypeService.registerRoomType(accommodation.getId(),
+            new RoomTypeCreateRequestDto("스탠다드", "스탠다드 룸", 30000), authUser);
+
+        // then
+        mockMvc.perform(get("/api/accommodation/" + accommodation.getId() + "/roomtype"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(2))
+            .andExpect(jsonPath("$.data[0].roomTypeId").value(cheap.getId()))
+            .andExpect(jsonPath("$.data[1].roomTypeId").value(expensive.getId()));
+    }
+
+    @DisplayName("존재하지 않는 숙소의 룸타입을 조회하면 404를 응답한다.")
+    @Test
+    void getRoomTypes_NotExistAccommodation() throws Exception {
+        mockMvc.perform(get("/api/accommodation/10000/roomtype"))
+            .andDo(print())
+            .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("여러 숙소의 룸타입을 숙소별로 묶어 조회하고, 룸타입이 없는 숙소는 빈 목록이다.")
+    @Test
+    void getRoomTypesOfAccommodations() throws Exception {
+        // given
+        Accommodation accommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        Accommodation emptyAccommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockUpdatedAccommodationRequestDto(city), authUser);
+        RoomType roomType = roomTypeService.registerRoomType(accommodation.getId(),
+            new RoomTypeCreateRequestDto("스탠다드", "스탠다드 룸", 30000), authUser);
+
+        // then
+        mockMvc.perform(get("/api/roomtype")
+                .param("accommodationIds", accommodation.getId() + "," + emptyAccommodation.getId()))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data['" + accommodation.getId() + "'][0].roomTypeId").value(roomType.getId()))
+            .andExpect(jsonPath("$.data['" + emptyAccommodation.getId() + "']").isEmpty());
+    }
+
+    @DisplayName("한 번에 조회할 수 있는 숙소 수를 넘기면 400을 응답한다.")
+    @Test
+    void getRoomTypesOfAccommodations_TooManyIds() throws Exception {
+        // given
+        String accommodationIds = LongStream.rangeClosed(1, RoomTypeService.MAX_BATCH_ACCOMMODATION_SIZE + 1)
+            .mapToObj(String::valueOf)
+            .collect(Collectors.joining(","));
+
+        // then
+        mockMvc.perform(get("/api/roomtype").param("accommodationIds", accommodationIds))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+    }
+}
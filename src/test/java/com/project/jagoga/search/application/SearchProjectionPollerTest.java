@@ -0,0 +1,143 @@
+package com.project.jagoga.search.application;
+
+import static com.project.jagoga.user.domain.Role.OWNER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.jagoga.accommodation.application.AccommodationService;
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.address.City;
+import com.project.jagoga.accommodation.domain.address.State;
+import com.project.jagoga.accommodation.infrastructure.address.JpaCityRepository;
+import com.project.jagoga.accommodation.infrastructure.address.JpaStateRepository;
+import com.project.jagoga.category.domain.Category;
+import com.project.jagoga.category.infrastructure.JpaCategoryRepository;
+import com.project.jagoga.common.factory.AccommodationFactory;
+import com.project.jagoga.roomtype.application.RoomTypeService;
+import com.project.jagoga.roomtype.presentation.dto.RoomTypeCreateRequestDto;
+import com.project.jagoga.search.domain.AccommodationProjection;
+import com.project.jagoga.search.domain.SearchSink;
+import com.project.jagoga.search.infrastructure.JdbcSearchOutboxRepository;
+import com.project.jagoga.user.application.UserService;
+import com.project.jagoga.user.domain.AuthUser;
+import com.project.jagoga.user.domain.User;
+import com.project.jagoga.user.domain.UserRepository;
+import com.project.jagoga.user.presentation.dto.request.UserCreateRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class SearchProjectionPollerTest {
+
+    @Autowired
+    SearchProjectionPoller searchProjectionPoller;
+
+    @Autowired
+    SearchSink searchSink;
+
+    @Autowired
+    AccommodationService accommodationService;
+
+    @Autowired
+    RoomTypeService roomTypeService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JpaCategoryRepository jpaCategoryRepository;
+
+    @Autowired
+    JpaStateRepository jpaStateRepository;
+
+    @Autowired
+    JpaCityRepository jpaCityRepository;
+
+    @Autowired
+    JdbcSearchOutboxRepository jdbcSearchOutboxRepository;
+
+    AuthUser authUser;
+    City city;
+
+    @BeforeEach
+    public void setUp() {
+        User user = userService.signUp(
+            new UserCreateRequestDto("projection@test", "testname", "@Aabcdef", "010-1234-1234"));
+        authUser = AuthUser.createInstance(user.getId(), user.getEmail(), OWNER);
+
+        Category category = jpaCategoryRepository.save(new Category(null, "속초/고성"));
+        State state = jpaStateRepository.save(new State(null, "강원"));
+        city = jpaCityRepository.save(new City(null, "속초시", state, category.getId()));
+    }
+
+    @AfterEach
+    public void after() {
+        userRepository.deleteAll();
+        accommodationService.deleteAll();
+        jpaCityRepository.deleteAll();
+        jpaStateRepository.deleteAll();
+        jpaCategoryRepository.deleteAll();
+    }
+
+    @DisplayName("숙소와 룸타입 변경이 outbox를 거쳐 하나의 검색 문서로 반영된다.")
+    @Test
+    void projectAccommodationWithRoomTypes() {
+        // given
+        Accommodation accommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        roomTypeService.registerRoomType(accommodation.getId(),
+            new RoomTypeCreateRequestDto("스탠다드", "스탠다드 룸", 50000), authUser);
+
+        // when
+        searchProjectionPoller.poll();
+
+        // then
+        AccommodationProjection projection = searchSink.findById(accommodation.getId()).orElseThrow();
+        assertThat(projection.getAccommodationName()).isEqualTo(accommodation.getAccommodationName());
+        assertThat(projection.getRoomTypes()).hasSize(1);
+        assertThat(projection.getRoomTypes().get(0).getPrice()).isEqualTo(50000);
+    }
+
+    @DisplayName("삭제된 숙소는 검색 문서에서도 삭제된다.")
+    @Test
+    void deleteProjection() {
+        // given
+        Accommodation accommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        searchProjectionPoller.poll();
+
+        // when
+        accommodationService.deleteAccommodation(accommodation.getId(), authUser);
+        searchProjectionPoller.poll();
+
+        // then
+        assertThat(searchSink.findById(accommodation.getId())).isEmpty();
+    }
+
+    @DisplayName("다른 인스턴스가 가져간 항목은 처리 기한이 지나기 전까지 다시 가져가지 않는다.")
+    @Test
+    void skipClaimedEntries() {
+        // given
+        Accommodation accommodation = accommodationService.saveAccommodation(
+            AccommodationFactory.mockAccommodationRequestDto(city), authUser);
+        long now = System.currentTimeMillis();
+        jdbcSearchOutboxRepository.claimBatch("other-instance", now + 60_000L, now, 500);
+
+        // when
+        int processed = searchProjectionPoller.pollBatch();
+
+        // then
+        assertThat(processed).isZero();
+        assertThat(searchSink.findById(accommodation.getId())).isEmpty();
+
+        jdbcSearchOutboxRepository.releaseClaim("other-instance");
+        searchProjectionPoller.poll();
+        assertThat(searchSink.findById(accommodation.getId())).isPresent();
+    }
+}
@@ -0,0 +1,138 @@
+package com.project.jagoga.search.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.jagoga.accommodation.domain.Accommodation;
+import com.project.jagoga.accommodation.domain.AccommodationType;
+import com.project.jagoga.search.domain.SearchDocument;
+import com.project.jagoga.search.domain.SearchHit;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AccommodationSearchIndexTest {
+
+    @TempDir
+    Path indexDirectory;
+
+    static SearchDocument document(long id, String name, String description) {
+        return SearchDocument.of(new Accommodation(id, name, 1L, "010-1111-2222", 1L, AccommodationType.PENSION,
+            description, "", 10000));
+    }
+
+    static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getDocumentId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("숙소명이 일치하는 문서가 설명만 일치하는 문서보다 높은 점수를 받는다")
+    public void rankByName() {
+        // given
+        AccommodationSearchIndex index = new AccommodationSearchIndex("");
+        index.index(document(1L, "바다 호텔", "경포대 근처"));
+        index.index(document(2L, "경포대 펜션", "바다가 보이는 숙소"));
+        index.index(document(3L, "산장", "조용한 숙소"));
+
+        // when
+        List<SearchHit> hits = index.search("경포대", 10);
+
+        // then
+        assertThat(ids(hits)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("수정, 삭제된 문서는 이전 내용으로 검색되지 않는다")
+    public void updateAndRemove() {
+        // given
+        AccommodationSearchIndex index = new AccommodationSearchIndex("");
+        index.rebuild(List.of(document(1L, "경포대 펜션", ""), document(2L, "속초 호텔", "")));
+
+        // when
+        index.index(document(1L, "강릉 펜션", ""));
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("경포대", 10)).isEmpty();
+        assertThat(index.search("속초", 10)).isEmpty();
+        assertThat(ids(index.search("강릉", 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("병합한 세그먼트 파일을 다시 열면 같은 결과를 반환한다")
+    public void mergeAndReopen() {
+        // given
+        AccommodationSearchIndex index = new AccommodationSearchIndex(indexDirectory.toString());
+        index.rebuild(List.of(document(1L, "경포대 펜션", "")));
+        index.index(document(2L, "경포 호텔", ""));
+        index.merge();
+
+        // when
+        AccommodationSearchIndex reopened = new AccommodationSearchIndex(indexDirectory.toString());
+        boolean opened = reopened.open();
+
+        // then
+        assertThat(opened).isTrue();
+        assertThat(reopened.size()).isEqualTo(2);
+        assertThat(ids(reopened.search("경포", 10))).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("재구성 중에 들어온 변경은 재구성 결과보다 우선한다")
+    public void rebuild_KeepsChangesDuringRebuild() {
+        // given
+        AccommodationSearchIndex index = new AccommodationSearchIndex(indexDirectory.toString());
+
+        // when
+        index.rebuildFrom(documents -> {
+            documents.accept(document(1L, "경포대 펜션", ""));
+            // DB를 읽은 뒤 커밋된 변경
+            index.index(document(2L, "경포 호텔", ""));
+            index.remove(1L);
+        });
+
+        // then
+        assertThat(ids(index.search("경포", 10))).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장된 세그먼트를 연 뒤 재구성하면 병합 이후의 변경이 반영된다")
+    public void openAndRebuild() {
+        // given
+        AccommodationSearchIndex index = new AccommodationSearchIndex(indexDirectory.toString());
+        index.rebuild(List.of(document(1L, "경포대 펜션", ""), document(2L, "속초 호텔", "")));
+        // 병합 전에 종료되어 세그먼트에 남지 않은 변경
+        index.remove(2L);
+        index.index(document(3L, "경포 호텔", ""));
+
+        // when
+        AccommodationSearchIndex restarted = new AccommodationSearchIndex(indexDirectory.toString());
+        restarted.open();
+        restarted.rebuild(List.of(document(1L, "경포대 펜션", ""), document(3L, "경포 호텔", "")));
+
+        // then
+        assertThat(restarted.search("속초", 10)).isEmpty();
+        assertThat(ids(restarted.search("경포", 10))).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("상위 K개만 반환한다")
+    public void topK() {
+        // given
+        AccommodationSearchIndex index = new AccommodationSearchIndex("");
+        for (long id = 1; id <= 20; id++) {
+            index.index(document(id, "펜션" + id, ""));
+        }
+
+        // when
+        List<SearchHit> hits = index.search("펜션", 5);
+
+        // then
+        assertThat(hits).hasSize(5);
+        assertThat(hits.get(0).getScore()).isGreaterThanOrEqualTo(hits.get(4).getScore());
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.jagoga.search.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.jagoga.search.domain.Suggestion;
+import com.project.jagoga.search.domain.SuggestionType;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SuggestionTrieTest {
+
+    static Suggestion accommodation(long id, String name, long weight) {
+        return new Suggestion(SuggestionType.ACCOMMODATION, id, name, 1L, weight);
+    }
+
+    static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getText).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("접두사가 일치하는 후보를 weight가 큰 순서로 k개 반환한다")
+    public void suggestTopKByWeight() {
+        // given
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.put(accommodation(1L, "경포대 펜션", 3L));
+        trie.put(accommodation(2L, "경포 호텔", 10L));
+        trie.put(accommodation(3L, "경주 한옥", 7L));
+        trie.put(accommodation(4L, "강릉 게스트하우스", 100L));
+
+        // when
+        List<Suggestion> suggestions = trie.suggest("경", 2);
+
+        // then
+        assertThat(texts(suggestions)).containsExactly("경포 호텔", "경주 한옥");
+    }
+
+    @Test
+    @DisplayName("이름 중간 단어로 시작하는 접두사도 찾고, 같은 후보는 한 번만 반환한다")
+    public void suggestByWordPrefix() {
+        // given
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.put(new Suggestion(SuggestionType.CITY, 10L, "강원도 강릉시", 10L, 5L));
+        trie.put(accommodation(1L, "강릉 강릉 펜션", 1L));
+
+        // when
+        List<Suggestion> byCity = trie.suggest("강릉", 10);
+        List<Suggestion> byState = trie.suggest("  강원도   강", 10);
+
+        // then
+        assertThat(texts(byCity)).containsExactly("강원도 강릉시", "강릉 강릉 펜션");
+        assertThat(texts(byState)).containsExactly("강원도 강릉시");
+    }
+
+    @Test
+    @DisplayName("이름 변경과 삭제 후에는 이전 키로 찾을 수 없다")
+    public void replaceAndRemove() {
+        // given
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.put(accommodation(1L, "바다 호텔", 1L));
+        trie.put(accommodation(2L, "바다 펜션", 2L));
+
+        // when
+        trie.put(accommodation(1L, "산 호텔", 1L));
+        trie.remove(SuggestionType.ACCOMMODATION, 2L);
+
+        // then
+        assertThat(trie.suggest("바다", 10)).isEmpty();
+        assertThat(texts(trie.suggest("호텔", 10))).containsExactly("산 호텔");
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("weight를 늘리면 추천 순서에 반영된다")
+    public void addWeight() {
+        // given
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.put(accommodation(1L, "바다 호텔", 1L));
+        trie.put(accommodation(2L, "바다 펜션", 2L));
+
+        // when
+        trie.addWeight(SuggestionType.ACCOMMODATION, 1L, 5L);
+
+        // then
+        assertThat(texts(trie.suggest("바다", 1))).containsExactly("바다 호텔");
+    }
+}
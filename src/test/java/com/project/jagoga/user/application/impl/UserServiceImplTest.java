@@ -14,6 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.util.Optional;
 
@@ -35,7 +36,11 @@ class UserServiceImplTest {
     @Spy
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Mock
+    private Authentication authentication;
+
     private static String email = "test1223@test";
+    private static final String ENCODED_PASSWORD = "$2a$10$encodedupdatepassword";
 
     public static UserCreateRequestDto createUserCreateRequestDto() {
         String name = "testname";
@@ -64,7 +69,6 @@ class UserServiceImplTest {
     public void succeed_Signup() {
         // given
         UserCreateRequestDto dto = createUserCreateRequestDto();
-        when(userRepository.existsByEmail(dto.getEmail())).thenReturn(false);
 
         // when
          userService.signUp(dto);
@@ -79,7 +83,7 @@ class UserServiceImplTest {
     public void should_Fail_Signup_ifDuplicatedEmailUser() {
         // given
         UserCreateRequestDto dto = createUserCreateRequestDto();
-        when(userRepository.existsByEmail(dto.getEmail())).thenReturn(true);
+        when(userRepository.save(any(User.class))).thenThrow(new DuplicateKeyException("duplicate email"));
 
         Exception exception =
                 // then
@@ -100,7 +104,7 @@ class UserServiceImplTest {
         // then
         Exception exception = assertThrows(NotFoundUserException.class,
                 // then
-                () -> userService.updateUser(1L, createUserUpdateRequestDto(), createBasicAuthUser()));
+                () -> userService.updateUser(1L, createUserUpdateRequestDto(), ENCODED_PASSWORD, createBasicAuthUser()));
 
         assertEquals("사용자를 찾을 수 없습니다", exception.getMessage());
     }
@@ -115,7 +119,7 @@ class UserServiceImplTest {
         // then
         Exception exception = assertThrows(ForbiddenException.class,
                 // when
-                () -> userService.updateUser(otherId, createUserUpdateRequestDto(), createBasicAuthUser()));
+                () -> userService.updateUser(otherId, createUserUpdateRequestDto(), ENCODED_PASSWORD, createBasicAuthUser()));
 
         // then
         assertEquals("권한이 없는 사용자입니다", exception.getMessage());
@@ -140,7 +144,7 @@ class UserServiceImplTest {
                 .thenReturn(Optional.of(foundUser));
 
         // when
-        User updatedUser = userService.updateUser(otherId, createUserUpdateRequestDto(), createAdminAuthUser());
+        User updatedUser = userService.updateUser(otherId, createUserUpdateRequestDto(), ENCODED_PASSWORD, createAdminAuthUser());
 
         // then
         assertThat(beforeEmail).isEqualTo(updatedUser.getEmail());
@@ -169,7 +173,7 @@ class UserServiceImplTest {
         String beforePhone = foundUser.getPhone();
 
         // when
-        User updatedUser = userService.updateUser(basicAuthUser.getId(), createUserUpdateRequestDto(), basicAuthUser);
+        User updatedUser = userService.updateUser(basicAuthUser.getId(), createUserUpdateRequestDto(), ENCODED_PASSWORD, basicAuthUser);
 
         // then
         assertThat(beforeEmail).isEqualTo(updatedUser.getEmail());
@@ -178,5 +182,6 @@ class UserServiceImplTest {
         assertThat(passwordEncoder.encrypt(beforePw))
                 .isNotEqualTo(passwordEncoder.encrypt(updatedUser.getPassword()));
         assertThat(beforePhone).isNotEqualTo(updatedUser.getPhone());
+        verify(authentication, times(1)).revokeTokens(basicAuthUser.getId());
     }
 }
\ No newline at end of file
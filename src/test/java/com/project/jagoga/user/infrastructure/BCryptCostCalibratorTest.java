@@ -0,0 +1,103 @@
+package com.project.jagoga.user.infrastructure;
+
+import java.util.function.IntToLongFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptCostCalibratorTest {
+
+    // cost 10에서 50ms, cost가 1 늘 때마다 두 배가 되는 하드웨어를 흉내낸다.
+    private static final IntToLongFunction DOUBLING_HASH_MILLIS =
+        logRounds -> 50L << (logRounds - BCryptPasswordEncoder.DEFAULT_LOG_ROUNDS);
+
+    BCryptPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder();
+    }
+
+    @Test
+    @DisplayName("목표 시간을 넘지 않는 가장 큰 cost를 고른다")
+    public void findLogRounds_WithinTarget() {
+        // given
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator(passwordEncoder, 400, DOUBLING_HASH_MILLIS);
+
+        // when
+        int logRounds = calibrator.findLogRounds(400);
+
+        // then
+        assertThat(logRounds).isEqualTo(13);
+        assertThat(DOUBLING_HASH_MILLIS.applyAsLong(logRounds)).isLessThanOrEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("목표 시간이 기본 cost보다 짧아도 기본 cost 아래로 낮추지 않는다")
+    public void findLogRounds_NotBelowDefault() {
+        // given
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator(passwordEncoder, 1, DOUBLING_HASH_MILLIS);
+
+        // when
+        int logRounds = calibrator.findLogRounds(1);
+
+        // then
+        assertThat(logRounds).isEqualTo(BCryptPasswordEncoder.DEFAULT_LOG_ROUNDS);
+    }
+
+    @Test
+    @DisplayName("목표 시간이 아무리 길어도 최대 cost를 넘지 않는다")
+    public void findLogRounds_NotAboveMax() {
+        // given
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator(passwordEncoder, Long.MAX_VALUE, logRounds -> 0L);
+
+        // when
+        int logRounds = calibrator.findLogRounds(Long.MAX_VALUE);
+
+        // then
+        assertThat(logRounds).isEqualTo(BCryptPasswordEncoder.MAX_LOG_ROUNDS);
+    }
+
+    @Test
+    @DisplayName("보정 결과가 인코더의 cost로 적용된다")
+    public void calibrate_AppliesLogRounds() {
+        // given
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator(passwordEncoder, 200, DOUBLING_HASH_MILLIS);
+
+        // when
+        calibrator.calibrate();
+
+        // then
+        assertThat(passwordEncoder.getLogRounds()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("목표 시간이 0이면 보정하지 않는다")
+    public void calibrate_Disabled() {
+        // given
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator(passwordEncoder, 0, logRounds -> {
+            throw new AssertionError("보정이 꺼져 있으면 해싱하지 않아야 합니다");
+        });
+
+        // when
+        calibrator.calibrate();
+
+        // then
+        assertThat(passwordEncoder.getLogRounds()).isEqualTo(BCryptPasswordEncoder.DEFAULT_LOG_ROUNDS);
+    }
+
+    @Test
+    @DisplayName("실제 해싱으로 측정해도 cost는 허용 범위 안에 있다")
+    public void findLogRounds_RealHashing() {
+        // given
+        BCryptCostCalibrator calibrator = new BCryptCostCalibrator(passwordEncoder, 1);
+
+        // when
+        int logRounds = calibrator.findLogRounds(1);
+
+        // then
+        assertThat(logRounds).isBetween(BCryptPasswordEncoder.DEFAULT_LOG_ROUNDS, BCryptPasswordEncoder.MAX_LOG_ROUNDS);
+    }
+}
@@ -29,4 +29,18 @@ class BCryptPasswordEncoderTest {
         assertNotEquals(originalString, encryptedString);
         assertThat(originalString).isNotEqualTo(encryptedString);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("cost가 변경되면 기존 해시값은 재해싱 대상")
+    public void needsRehash_AfterCostChanged() {
+        // given
+        String hashedPassword = bCryptPasswordEncoder.encrypt("abcde");
+        assertThat(bCryptPasswordEncoder.needsRehash(hashedPassword)).isFalse();
+
+        // when
+        bCryptPasswordEncoder.setLogRounds(BCryptPasswordEncoder.DEFAULT_LOG_ROUNDS + 1);
+
+        // then
+        assertThat(bCryptPasswordEncoder.needsRehash(hashedPassword)).isTrue();
+    }
+}
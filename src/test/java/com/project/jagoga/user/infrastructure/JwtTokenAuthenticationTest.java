@@ -1,18 +1,29 @@
 package com.project.jagoga.user.infrastructure;
 
 import com.project.jagoga.exception.user.UnAuthorizedException;
+import com.project.jagoga.user.domain.AuthToken;
+import com.project.jagoga.user.domain.AuthUser;
 import com.project.jagoga.user.domain.PasswordEncoder;
 import com.project.jagoga.user.domain.User;
 import com.project.jagoga.user.domain.UserRepository;
 import com.project.jagoga.user.presentation.dto.request.LoginRequestDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mindrot.jbcrypt.BCrypt;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class JwtTokenAuthenticationTest {
@@ -21,8 +32,17 @@ class JwtTokenAuthenticationTest {
 
     PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
-    JwtTokenAuthentication jwtTokenAuthentication =
-            new JwtTokenAuthentication("testSecretKey", userRepository, passwordEncoder);
+    RefreshTokenStore refreshTokenStore =
+            new RefreshTokenStore(mock(JdbcRefreshTokenRepository.class), mock(JdbcTokenRevocationRepository.class),
+                    60_000L);
+
+    MutableClock clock = new MutableClock(System.currentTimeMillis());
+
+    TokenRevocationList tokenRevocationList =
+            new TokenRevocationList(mock(JdbcTokenRevocationRepository.class), clock);
+
+    JwtTokenAuthentication jwtTokenAuthentication = new JwtTokenAuthentication(
+            "testSecretKey", userRepository, passwordEncoder, refreshTokenStore, tokenRevocationList, clock);
 
     static String email = "verifyNormalToken@test";
     static String password = "@Aabcdef";
@@ -30,7 +50,9 @@ class JwtTokenAuthenticationTest {
     public User createFoundUser() {
         String name = "testname";
         String phone = "010-1234-1234";
-        return User.createInstance(email, name, passwordEncoder.encrypt(password), phone);
+        User user = User.createInstance(email, name, passwordEncoder.encrypt(password), phone);
+        user.setId(1L);
+        return user;
     }
 
     @Test
@@ -43,7 +65,107 @@ class JwtTokenAuthenticationTest {
         String token = jwtTokenAuthentication.login(new LoginRequestDto(email, password));
 
         // then
-        jwtTokenAuthentication.verifyLogin(token);
+        assertEquals(email, jwtTokenAuthentication.getLoginUser(token).get().getEmail());
+    }
+
+    @Test
+    @DisplayName("cost가 다른 해시값으로 저장된 사용자는 로그인시 재해싱")
+    public void login_RehashPassword_ifCostChanged() {
+        // given
+        User foundUser = createFoundUser();
+        foundUser.setEncodedPassword(BCrypt.hashpw(password, BCrypt.gensalt(4)));
+        when(userRepository.getByEmail(email)).thenReturn(Optional.of(foundUser));
+
+        // when
+        jwtTokenAuthentication.login(new LoginRequestDto(email, password));
+
+        // then
+        verify(userRepository).update(foundUser);
+        assertTrue(passwordEncoder.isMatch(password, foundUser.getPassword()));
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 반복 조회시 캐싱된 사용자 정보를 반환")
+    public void getLoginUser_Cached() {
+        // given
+        when(userRepository.getByEmail(email)).thenReturn(Optional.of(createFoundUser()));
+        String token = jwtTokenAuthentication.login(new LoginRequestDto(email, password));
+
+        // when
+        AuthUser first = jwtTokenAuthentication.getLoginUser(token).get();
+        AuthUser second = jwtTokenAuthentication.getLoginUser(token).get();
+
+        // then
+        assertSame(first, second);
+        assertEquals(email, second.getEmail());
+    }
+
+    @Test
+    @DisplayName("refresh token으로 access token 재발급시 비밀번호 검증없이 새 토큰을 발급하고 기존 refresh token은 폐기")
+    public void refresh_IssueNewTokens() {
+        // given
+        when(userRepository.getByEmail(email)).thenReturn(Optional.of(createFoundUser()));
+        AuthToken authToken = jwtTokenAuthentication.issueToken(new LoginRequestDto(email, password));
+
+        // when
+        AuthToken refreshed = jwtTokenAuthentication.refresh(authToken.getRefreshToken());
+
+        // then
+        assertEquals(email, jwtTokenAuthentication.getLoginUser(refreshed.getAccessToken()).get().getEmail());
+        assertNotEquals(authToken.getRefreshToken(), refreshed.getRefreshToken());
+        assertThrows(UnAuthorizedException.class,
+                () -> jwtTokenAuthentication.refresh(authToken.getRefreshToken()));
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 이전에 발급된 토큰은 캐싱되어 있어도 예외발생")
+    public void should_Fail_RevokedToken() {
+        // given
+        when(userRepository.getByEmail(email)).thenReturn(Optional.of(createFoundUser()));
+        AuthToken authToken = jwtTokenAuthentication.issueToken(new LoginRequestDto(email, password));
+        jwtTokenAuthentication.getLoginUser(authToken.getAccessToken());
+        clock.advance(1);
+
+        // when
+        jwtTokenAuthentication.revokeTokens(1L);
+
+        // then
+        assertThrows(UnAuthorizedException.class,
+                () -> jwtTokenAuthentication.getLoginUser(authToken.getAccessToken()));
+        assertThrows(UnAuthorizedException.class,
+                () -> jwtTokenAuthentication.refresh(authToken.getRefreshToken()));
+    }
+
+    @Test
+    @DisplayName("폐기와 같은 초에 발급된 토큰도 폐기 시각 이전이면 예외발생")
+    public void should_Fail_TokenIssuedInSameSecondAsRevocation() {
+        // given
+        clock.set(1_900_000_000_100L);
+        when(userRepository.getByEmail(email)).thenReturn(Optional.of(createFoundUser()));
+        String token = jwtTokenAuthentication.login(new LoginRequestDto(email, password));
+
+        // when
+        clock.set(1_900_000_000_900L);
+        jwtTokenAuthentication.revokeTokens(1L);
+
+        // then
+        assertThrows(UnAuthorizedException.class, () -> jwtTokenAuthentication.getLoginUser(token));
+    }
+
+    @Test
+    @DisplayName("폐기 이후에 발급된 토큰은 같은 초라도 정상 검증")
+    public void verify_TokenIssuedAfterRevocation() {
+        // given
+        clock.set(1_900_000_000_100L);
+        jwtTokenAuthentication.revokeTokens(1L);
+        when(userRepository.getByEmail(email)).thenReturn(Optional.of(createFoundUser()));
+
+        // when
+        clock.set(1_900_000_000_101L);
+        String token = jwtTokenAuthentication.login(new LoginRequestDto(email, password));
+
+        // then
+        assertEquals(email, jwtTokenAuthentication.getLoginUser(token).get().getEmail());
     }
 
     @Test
@@ -52,7 +174,7 @@ class JwtTokenAuthenticationTest {
         // when
         String abnormalToken = "abnormalToken";
         Exception exception = assertThrows(UnAuthorizedException.class,
-                () -> jwtTokenAuthentication.verifyLogin(abnormalToken));
+                () -> jwtTokenAuthentication.getLoginUser(abnormalToken));
 
         // then
         assertEquals("인증되지 않은 사용자입니다", exception.getMessage());
@@ -64,9 +186,46 @@ class JwtTokenAuthenticationTest {
         // when
         String nullToken = null;
         Exception exception = assertThrows(UnAuthorizedException.class,
-                () -> jwtTokenAuthentication.verifyLogin(nullToken));
+                () -> jwtTokenAuthentication.getLoginUser(nullToken));
 
         // then
         assertEquals("인증되지 않은 사용자입니다", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    static class MutableClock extends Clock {
+
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void set(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long millis) {
+            this.millis += millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.jagoga.user.infrastructure;
+
+import com.project.jagoga.exception.user.ExpiredTokenException;
+import com.project.jagoga.exception.user.UnAuthorizedException;
+import com.project.jagoga.user.domain.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtTokenCodecTest {
+
+    JwtTokenCodec jwtTokenCodec = new JwtTokenCodec("testSecretKey");
+
+    static long now() {
+        return System.currentTimeMillis();
+    }
+
+    static long validExpiration() {
+        return now() / 1000 + 60;
+    }
+
+    @Test
+    @DisplayName("인코딩한 토큰을 디코딩하면 같은 클레임을 반환")
+    public void encodeAndDecode() {
+        // given
+        TokenClaims claims = new TokenClaims(1L, "test\"quote@test", Role.OWNER, now(), validExpiration());
+
+        // when
+        TokenClaims decoded = jwtTokenCodec.decode(jwtTokenCodec.encode(claims));
+
+        // then
+        assertThat(decoded.getId()).isEqualTo(claims.getId());
+        assertThat(decoded.getEmail()).isEqualTo(claims.getEmail());
+        assertThat(decoded.getRole()).isEqualTo(claims.getRole());
+        assertThat(decoded.getIssuedAtMillis()).isEqualTo(claims.getIssuedAtMillis());
+        assertThat(decoded.getExpiration()).isEqualTo(claims.getExpiration());
+    }
+
+    @Test
+    @DisplayName("iat는 밀리초까지 보존되고, 초 단위 정수 iat도 읽을 수 있다")
+    public void issuedAt_MillisecondPrecision() {
+        // given
+        TokenClaims millis = new TokenClaims(1L, "test@test", Role.BASIC, 1_600_000_000_007L, validExpiration());
+        TokenClaims seconds = new TokenClaims(1L, "test@test", Role.BASIC, 1_600_000_000_000L, validExpiration());
+
+        // when
+        String token = jwtTokenCodec.encode(millis);
+        TokenClaims decoded = jwtTokenCodec.decode(token);
+        TokenClaims decodedSeconds = jwtTokenCodec.decode(jwtTokenCodec.encode(seconds));
+
+        // then
+        assertThat(decoded.getIssuedAtMillis()).isEqualTo(1_600_000_000_007L);
+        assertThat(decodedSeconds.getIssuedAtMillis()).isEqualTo(1_600_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 예외발생")
+    public void should_Fail_OtherSecretKey() {
+        // given
+        String token = new JwtTokenCodec("otherSecretKey")
+            .encode(new TokenClaims(1L, "test@test", Role.BASIC, now(), validExpiration()));
+
+        // when, then
+        assertThrows(UnAuthorizedException.class, () -> jwtTokenCodec.decode(token));
+    }
+
+    @Test
+    @DisplayName("payload가 변조된 토큰은 예외발생")
+    public void should_Fail_TamperedPayload() {
+        // given
+        String token = jwtTokenCodec.encode(new TokenClaims(1L, "test@test", Role.BASIC, now(), validExpiration()));
+        String adminToken = jwtTokenCodec.encode(new TokenClaims(1L, "test@test", Role.ADMIN, now(), validExpiration()));
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + adminToken.split("\\.")[1] + "." + parts[2];
+
+        // when, then
+        assertThrows(UnAuthorizedException.class, () -> jwtTokenCodec.decode(tampered));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 예외발생")
+    public void should_Fail_ExpiredToken() {
+        // given
+        long expired = System.currentTimeMillis() / 1000 - 1;
+        String token = jwtTokenCodec.encode(new TokenClaims(1L, "test@test", Role.BASIC, (expired - 60) * 1000, expired));
+
+        // when, then
+        assertThrows(ExpiredTokenException.class, () -> jwtTokenCodec.decode(token));
+    }
+}
@@ -5,8 +5,14 @@ import com.project.jagoga.user.domain.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.nio.file.Path;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MemoryUserRepositoryTest {
@@ -40,4 +46,67 @@ class MemoryUserRepositoryTest {
 
         userRepository.deleteAll();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이메일 인덱스로 사용자를 조회한다.")
+    public void getByEmail() {
+        // given
+        userRepository.save(user);
+
+        // when, then
+        assertThat(userRepository.getByEmail(email).get().getId()).isEqualTo(user.getId());
+        assertThat(userRepository.getByEmail("other@test")).isEmpty();
+        assertFalse(userRepository.existsByEmail("other@test"));
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 이메일로 변경하면 DuplicateKeyException이 발생하고 인덱스는 그대로다.")
+    public void update_DuplicatedEmail() {
+        // given
+        userRepository.save(user);
+        User other = userRepository.save(User.createInstance("other@test", name, password, phone));
+        User changed = User.restore(other.getId(), email, name, password, phone, other.getRole());
+
+        // then
+        assertThatThrownBy(() -> userRepository.update(changed)).isInstanceOf(DuplicateKeyException.class);
+        assertThat(userRepository.getByEmail(email).get().getId()).isEqualTo(user.getId());
+        assertThat(userRepository.getByEmail("other@test").get().getId()).isEqualTo(other.getId());
+    }
+
+    @Test
+    @DisplayName("조회한 사용자를 변경해도 update 전에는 저장된 값이 바뀌지 않는다.")
+    public void findById_ReturnsCopy() {
+        // given
+        userRepository.save(user);
+        User found = userRepository.findById(user.getId()).get();
+
+        // when
+        found.updateUser("updatename", "@Fabcdefg", "010-4321-4321");
+
+        // then
+        assertThat(userRepository.findById(user.getId()).get().getName()).isEqualTo(name);
+
+        userRepository.update(found);
+        assertThat(userRepository.findById(user.getId()).get().getName()).isEqualTo("updatename");
+    }
+
+    @Test
+    @DisplayName("스냅샷을 기록한 뒤 다시 시작하면 사용자와 인덱스가 복원된다.")
+    public void snapshot(@TempDir Path snapshotDirectory) {
+        // given
+        MemoryUserRepository repository = new MemoryUserRepository(snapshotDirectory.toString());
+        repository.save(user);
+        repository.takeSnapshot();
+
+        // when
+        MemoryUserRepository restarted = new MemoryUserRepository(snapshotDirectory.toString());
+        restarted.loadSnapshot();
+
+        // then
+        User restored = restarted.getByEmail(email).get();
+        assertThat(restored.getId()).isEqualTo(user.getId());
+        assertThat(restored.getPassword()).isEqualTo(password);
+        assertThat(restarted.save(User.createInstance("new@test", name, password, phone)).getId())
+            .isGreaterThan(user.getId());
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.jagoga.user.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.jagoga.user.domain.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class RefreshTokenStoreTest {
+
+    @Autowired
+    JdbcRefreshTokenRepository jdbcRefreshTokenRepository;
+
+    @Autowired
+    JdbcTokenRevocationRepository jdbcTokenRevocationRepository;
+
+    @DisplayName("DB에 반영된 refresh token은 다른 인스턴스와 함께 사용해도 한 번만 사용할 수 있다.")
+    @Test
+    void consume_OnlyOnceAcrossInstances() {
+        // given
+        RefreshTokenStore issuer = createStore();
+        RefreshTokenStore other = createStore();
+        String refreshToken = issuer.issue(1L, "refresh@test", Role.BASIC);
+        issuer.snapshot();
+
+        // when
+        boolean consumedByOther = other.consume(refreshToken).isPresent();
+
+        // then
+        assertThat(consumedByOther).isTrue();
+        assertThat(issuer.consume(refreshToken)).isEmpty();
+        assertThat(other.consume(refreshToken)).isEmpty();
+    }
+
+    @DisplayName("폐기 이후에 DB에 반영된 세션도 폐기 이전에 발급되었으면 사용할 수 없다.")
+    @Test
+    void consume_RevokedOnOtherInstance() {
+        // given
+        RefreshTokenStore issuer = createStore();
+        RefreshTokenStore other = createStore();
+        String refreshToken = issuer.issue(2L, "revoked@test", Role.BASIC);
+
+        // when
+        long now = System.currentTimeMillis();
+        jdbcTokenRevocationRepository.saveRevocation(2L, now, now);
+        other.revokeAll(2L);
+        issuer.snapshot();
+
+        // then
+        assertThat(other.consume(refreshToken)).isEmpty();
+    }
+
+    private RefreshTokenStore createStore() {
+        return new RefreshTokenStore(jdbcRefreshTokenRepository, jdbcTokenRevocationRepository, 60_000L);
+    }
+}
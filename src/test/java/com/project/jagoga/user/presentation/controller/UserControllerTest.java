@@ -19,11 +19,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultMatcher;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -77,11 +80,17 @@ class UserControllerTest {
         LoginRequestDto loginRequestDto = new LoginRequestDto(email, password);
         String loginJson = objectMapper.writeValueAsString(loginRequestDto);
 
-        // when then
-        mockMvc.perform(post("/api/users/login").contentType(MediaType.APPLICATION_JSON)
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/users/login").contentType(MediaType.APPLICATION_JSON)
                 .content(loginJson))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
-                .andExpect((ResultMatcher) content().string(Matchers.containsString("accessToken")));
+                .andExpect((ResultMatcher) content().string(Matchers.containsString("accessToken")))
+                .andExpect(content().string(Matchers.containsString("refreshToken")));
     }
 
     @Test
@@ -95,10 +104,15 @@ class UserControllerTest {
             new UserUpdateRequestDto("updateName", "@abcdefAd", "010-4321-4321");
         String updateUserJson = objectMapper.writeValueAsString(userUpdateRequestDto);
 
-        // when then
-        mockMvc.perform(put("/api/users/" + user.getId()).contentType(MediaType.APPLICATION_JSON)
+        // when
+        MvcResult mvcResult = mockMvc.perform(put("/api/users/" + user.getId()).contentType(MediaType.APPLICATION_JSON)
                 .header(HttpHeaders.AUTHORIZATION, token)
                 .content(updateUserJson))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk());
     }
 
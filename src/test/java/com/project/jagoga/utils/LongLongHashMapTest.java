@@ -0,0 +1,86 @@
+package com.project.jagoga.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("없는 키는 기본값을 반환")
+    public void get_MissingKey() {
+        // given
+        LongLongHashMap map = new LongLongHashMap();
+        map.put(1L, 10L);
+
+        // when, then
+        assertThat(map.get(2L, -1L)).isEqualTo(-1L);
+        assertThat(map.get(Long.MIN_VALUE, -1L)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("같은 키에 다시 저장하면 값을 덮어쓰고 크기는 그대로")
+    public void put_Overwrite() {
+        // given
+        LongLongHashMap map = new LongLongHashMap();
+        map.put(1L, 10L);
+
+        // when
+        map.put(1L, 20L);
+
+        // then
+        assertThat(map.get(1L, -1L)).isEqualTo(20L);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘겨 저장해도 모든 값이 유지된다")
+    public void put_Resize() {
+        // given
+        LongLongHashMap map = new LongLongHashMap(2);
+
+        // when
+        for (long key = 1; key <= 1000; key++) {
+            map.put(key, key * 10);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(1000);
+        for (long key = 1; key <= 1000; key++) {
+            assertThat(map.get(key, -1L)).isEqualTo(key * 10);
+        }
+        assertThat(map.get(1001L, -1L)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("복사본을 수정해도 원본은 바뀌지 않는다")
+    public void copy_Independent() {
+        // given
+        LongLongHashMap original = new LongLongHashMap();
+        original.put(1L, 10L);
+
+        // when
+        LongLongHashMap copied = original.copy();
+        copied.put(1L, 20L);
+        for (long key = 2; key <= 100; key++) {
+            copied.put(key, key);
+        }
+
+        // then
+        assertThat(original.get(1L, -1L)).isEqualTo(10L);
+        assertThat(original.get(2L, -1L)).isEqualTo(-1L);
+        assertThat(original.size()).isEqualTo(1);
+        assertThat(copied.get(1L, -1L)).isEqualTo(20L);
+        assertThat(copied.size()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("0은 키로 사용할 수 없다")
+    public void put_ZeroKey() {
+        LongLongHashMap map = new LongLongHashMap();
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1L));
+    }
+}